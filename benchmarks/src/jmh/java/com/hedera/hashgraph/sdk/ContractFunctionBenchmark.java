@@ -0,0 +1,63 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Solidity ABI encoding of call parameters with {@link ContractFunctionParameters} and decoding of
+ * the same values from a {@link ContractFunctionResult}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ContractFunctionBenchmark {
+    private static final String ADDRESS = "00000000000000000000000000000000000003e9";
+    private static final BigInteger AMOUNT = BigInteger.valueOf(2).pow(200).add(BigInteger.valueOf(12345));
+    private static final byte[] BYTES = new byte[100];
+    private static final long[] VALUES = {1, 2, 3, 4, 5, 6, 7, 8};
+
+    private com.hedera.hashgraph.sdk.proto.ContractFunctionResult result;
+
+    @Setup
+    public void setup() {
+        result = com.hedera.hashgraph.sdk.proto.ContractFunctionResult.newBuilder()
+            .setContractCallResult(parameters().toBytes(null))
+            .build();
+    }
+
+    private static ContractFunctionParameters parameters() {
+        return new ContractFunctionParameters()
+            .addString("Hello, world!")
+            .addUint256(AMOUNT)
+            .addAddress(ADDRESS)
+            .addBool(true)
+            .addBytes(BYTES)
+            .addInt64Array(VALUES);
+    }
+
+    @Benchmark
+    public ByteString encode() {
+        return parameters().toBytes("transfer");
+    }
+
+    @Benchmark
+    public void decode(Blackhole blackhole) {
+        var decoded = new ContractFunctionResult(result);
+
+        blackhole.consume(decoded.getString(0));
+        blackhole.consume(decoded.getUint256(1));
+        blackhole.consume(decoded.getAddress(2));
+        blackhole.consume(decoded.getBool(3));
+        blackhole.consume(decoded.getBytes(4));
+    }
+}
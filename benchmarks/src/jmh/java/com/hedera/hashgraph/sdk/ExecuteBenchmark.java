@@ -0,0 +1,85 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import java8.util.concurrent.CompletableFuture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@link Executable#executeAsync(Client)} of a transfer against an in-process node which
+ * accepts every transaction: freezing, signing with the operator, node selection, the gRPC call and
+ * mapping the response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExecuteBenchmark {
+    private static final String SERVER_NAME = "execute-benchmark";
+
+    @Param({"1", "100"})
+    public int concurrency;
+
+    private Server server;
+    private Client client;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        server = InProcessServerBuilder.forName(SERVER_NAME)
+            .addService(new AcceptingCryptoService())
+            .directExecutor()
+            .build()
+            .start();
+
+        client = Client.forNetwork(Collections.singletonMap("in-process:" + SERVER_NAME, new AccountId(3)))
+            .setOperator(new AccountId(2), PrivateKey.generate());
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws Exception {
+        client.close();
+        server.shutdown();
+        server.awaitTermination();
+    }
+
+    @Benchmark
+    public Object executeAsync() {
+        var futures = new CompletableFuture<?>[concurrency];
+
+        for (var i = 0; i < concurrency; i++) {
+            futures[i] = new TransferTransaction()
+                .addHbarTransfer(new AccountId(2), Hbar.fromTinybars(-1))
+                .addHbarTransfer(new AccountId(1000 + i), Hbar.fromTinybars(1))
+                .executeAsync(client);
+        }
+
+        return CompletableFuture.allOf(futures).join();
+    }
+
+    private static final class AcceptingCryptoService extends CryptoServiceGrpc.CryptoServiceImplBase {
+        @Override
+        public void cryptoTransfer(
+            com.hedera.hashgraph.sdk.proto.Transaction request,
+            StreamObserver<com.hedera.hashgraph.sdk.proto.TransactionResponse> responseObserver
+        ) {
+            responseObserver.onNext(com.hedera.hashgraph.sdk.proto.TransactionResponse.newBuilder()
+                .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+                .build());
+            responseObserver.onCompleted();
+        }
+    }
+}
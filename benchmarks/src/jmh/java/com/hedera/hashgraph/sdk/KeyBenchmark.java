@@ -0,0 +1,59 @@
+package com.hedera.hashgraph.sdk;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ed25519 signing and verification of a message the size of a typical transaction body
+ * and of a full 6 KiB transaction.
+ * <p>
+ * {@code signDerivingPublicKey} derives the public key from the seed for every signature, as
+ * signing did before keys kept a signing context; compare it with {@code sign}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KeyBenchmark {
+    @Param({"128", "6144"})
+    public int messageSize;
+
+    private PrivateKey privateKey;
+    private PublicKey publicKey;
+    private byte[] message;
+    private byte[] signature;
+
+    @Setup
+    public void setup() {
+        privateKey = PrivateKey.generate();
+        publicKey = privateKey.getPublicKey();
+
+        message = new byte[messageSize];
+        new Random(0).nextBytes(message);
+
+        signature = privateKey.sign(message);
+    }
+
+    @Benchmark
+    public byte[] sign() {
+        return privateKey.sign(message);
+    }
+
+    @Benchmark
+    public byte[] signDerivingPublicKey() {
+        return new PrivateKey.SigningContext(privateKey.toBytes()).sign(message);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return publicKey.verify(message, signature);
+    }
+}
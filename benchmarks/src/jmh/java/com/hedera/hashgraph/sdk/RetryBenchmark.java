@@ -0,0 +1,197 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.errorprone.annotations.Var;
+import com.hedera.hashgraph.sdk.proto.CryptoGetAccountBalanceResponse;
+import com.hedera.hashgraph.sdk.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.Query;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import java8.util.concurrent.CompletableFuture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.threeten.bp.Duration;
+
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares the retry loop that composed a new {@link Delayer} future per attempt with the
+ * {@link RetryScheduler} state machine now used by {@link Executable}.
+ * <p>
+ * Every simulated request is answered with {@code BUSY} {@code busyResponses} times before it
+ * succeeds. Run with the GC profiler (enabled by default in this module) to compare allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RetryBenchmark {
+    private static final String SERVER_NAME = "retry-benchmark";
+    private static final AccountId NODE_ACCOUNT_ID = new AccountId(3);
+
+    @Param({"3"})
+    public int busyResponses;
+
+    @Param({"0", "20"})
+    public long delayMillis;
+
+    @Param({"1", "1000"})
+    public int concurrency;
+
+    private ExecutorService executor;
+    private RetryScheduler scheduler;
+    private Server server;
+    private Client client;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        var threadFactory = new ThreadFactoryBuilder()
+            .setNameFormat("retry-benchmark-%d")
+            .setDaemon(true)
+            .build();
+
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), threadFactory);
+        scheduler = new RetryScheduler(executor, threadFactory);
+
+        server = InProcessServerBuilder.forName(SERVER_NAME)
+            .addService(new BusyCryptoService(busyResponses))
+            .directExecutor()
+            .build()
+            .start();
+
+        client = Client.forNetwork(Collections.singletonMap("in-process:" + SERVER_NAME, NODE_ACCOUNT_ID))
+            .setMaxAttempts(busyResponses + 1)
+            .setMinBackoff(Duration.ofMillis(delayMillis))
+            .setMaxBackoff(Duration.ofMillis(Math.max(delayMillis, 250)));
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws Exception {
+        client.close();
+        server.shutdown();
+        server.awaitTermination();
+        executor.shutdown();
+    }
+
+    /**
+     * The retry loop as previously written in {@link Executable}: every attempt composes a fresh
+     * delayed executor and a nested {@code thenCompose} stage.
+     */
+    @Benchmark
+    public Object delayerChain() {
+        var futures = new CompletableFuture<?>[concurrency];
+
+        for (var i = 0; i < concurrency; i++) {
+            futures[i] = delayerAttempt(1);
+        }
+
+        return CompletableFuture.allOf(futures).join();
+    }
+
+    private CompletableFuture<Integer> delayerAttempt(int attempt) {
+        return CompletableFuture.completedFuture(attempt > busyResponses ? Status.OK : Status.BUSY)
+            .thenCompose(status -> {
+                if (status == Status.OK) {
+                    return CompletableFuture.completedFuture(attempt);
+                }
+
+                return Delayer.delayFor(delayMillis, executor).thenCompose(v -> delayerAttempt(attempt + 1));
+            });
+    }
+
+    /**
+     * The flattened retry loop: one result future per request with each retry parked on the wheel.
+     */
+    @Benchmark
+    public Object retryScheduler() {
+        var futures = new CompletableFuture<?>[concurrency];
+
+        for (var i = 0; i < concurrency; i++) {
+            var loop = new SchedulerLoop();
+            loop.run();
+            futures[i] = loop.result;
+        }
+
+        return CompletableFuture.allOf(futures).join();
+    }
+
+    /**
+     * End-to-end {@link Executable#executeAsync(Client)} against an in-process node which answers
+     * {@code BUSY} before succeeding.
+     */
+    @Benchmark
+    public Object executeAsync() {
+        var futures = new CompletableFuture<?>[concurrency];
+
+        for (var i = 0; i < concurrency; i++) {
+            futures[i] = new AccountBalanceQuery()
+                .setAccountId(new AccountId(1000 + i))
+                .setNodeAccountIds(Collections.singletonList(NODE_ACCOUNT_ID))
+                .executeAsync(client);
+        }
+
+        return CompletableFuture.allOf(futures).join();
+    }
+
+    private final class SchedulerLoop implements Runnable {
+        final CompletableFuture<Integer> result = new CompletableFuture<>();
+        private int attempt = 1;
+
+        @Override
+        public void run() {
+            if (attempt > busyResponses) {
+                result.complete(attempt);
+                return;
+            }
+
+            attempt += 1;
+            scheduler.schedule(delayMillis, this);
+        }
+    }
+
+    private static final class BusyCryptoService extends CryptoServiceGrpc.CryptoServiceImplBase {
+        private final int busyResponses;
+
+        // keyed by the queried account number so concurrent requests each see their own BUSY responses
+        private final ConcurrentHashMap<Long, AtomicInteger> received = new ConcurrentHashMap<>();
+
+        BusyCryptoService(int busyResponses) {
+            this.busyResponses = busyResponses;
+        }
+
+        @Override
+        public void cryptoGetBalance(Query request, StreamObserver<Response> responseObserver) {
+            var accountNum = request.getCryptogetAccountBalance().getAccountID().getAccountNum();
+            var count = received.computeIfAbsent(accountNum, k -> new AtomicInteger());
+            @Var var status = ResponseCodeEnum.BUSY;
+
+            if (count.getAndIncrement() >= busyResponses) {
+                received.remove(accountNum);
+                status = ResponseCodeEnum.OK;
+            }
+
+            responseObserver.onNext(Response.newBuilder()
+                .setCryptogetAccountBalance(CryptoGetAccountBalanceResponse.newBuilder()
+                    .setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(status))
+                    .setBalance(1))
+                .build());
+            responseObserver.onCompleted();
+        }
+    }
+}
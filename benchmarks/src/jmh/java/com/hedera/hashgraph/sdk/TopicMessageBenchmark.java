@@ -0,0 +1,65 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.ConsensusMessageChunkInfo;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.threeten.bp.Instant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reassembling a chunked topic message from the mirror node responses of its chunks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TopicMessageBenchmark {
+    private static final int CHUNK_SIZE = 1024;
+
+    @Param({"1", "10", "20"})
+    public int chunks;
+
+    private List<ConsensusTopicResponse> responses;
+
+    @Setup
+    public void setup() {
+        var transactionId = TransactionId.withValidStart(new AccountId(2), Instant.ofEpochSecond(1554158542));
+        var runningHash = ByteString.copyFrom(new byte[48]);
+
+        responses = new ArrayList<>(chunks);
+
+        for (var i = 0; i < chunks; i++) {
+            responses.add(ConsensusTopicResponse.newBuilder()
+                .setConsensusTimestamp(Timestamp.newBuilder().setSeconds(1554158600).setNanos(i))
+                .setMessage(ByteString.copyFrom(new byte[CHUNK_SIZE]))
+                .setRunningHash(runningHash)
+                .setSequenceNumber(100 + i)
+                .setChunkInfo(ConsensusMessageChunkInfo.newBuilder()
+                    .setInitialTransactionID(transactionId.toProtobuf())
+                    .setNumber(i + 1)
+                    .setTotal(chunks))
+                .build());
+        }
+    }
+
+    @Benchmark
+    public TopicMessage ofMany() {
+        return TopicMessage.ofMany(responses);
+    }
+
+    @Benchmark
+    public byte[] ofManyContents() {
+        return TopicMessage.ofMany(responses).getContents();
+    }
+}
@@ -0,0 +1,124 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.threeten.bp.Instant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Preparing a transaction for submission: {@code freeze}, signing for every node, serializing with
+ * {@code toBytes} and parsing it back with {@code fromBytes}. The {@code template} benchmarks create the same
+ * transfer from a {@link TransactionTemplate} instead of freezing it.
+ * <p>
+ * Signatures are only made when the transaction is built, so the signing benchmarks end with
+ * {@code toBytes} to force the build.
+ * <p>
+ * The template is compared with the builder in two pairs: {@code templateNewTransfer} against
+ * {@code freezeWith}, and {@code templateNewTransferSignAndBuild} against {@code freezeSignAndBuild}. Compare
+ * both the average time and {@code gc.alloc.rate.norm} of each pair, from one run on the same machine:
+ * <pre>
+ * ./gradlew :benchmarks:jmh -Pjmh.include='TransactionBenchmark\.(freezeWith|freezeSignAndBuild|templateNewTransfer.*)$'
+ * </pre>
+ * The {@code gc} profiler is enabled by default, so both numbers are in the summary of the run and in its JSON
+ * results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionBenchmark {
+    private static final TransactionId TRANSACTION_ID =
+        TransactionId.withValidStart(new AccountId(2), Instant.ofEpochSecond(1554158542));
+
+    @Param({"1", "10"})
+    public int nodes;
+
+    @Param({"1", "5"})
+    public int signers;
+
+    private List<AccountId> nodeAccountIds;
+    private List<PrivateKey> keys;
+    private TransferTransaction signed;
+    private byte[] signedBytes;
+    private TransactionTemplate template;
+
+    @Setup
+    public void setup() {
+        nodeAccountIds = new ArrayList<>(nodes);
+        keys = new ArrayList<>(signers);
+
+        for (var i = 0; i < nodes; i++) {
+            nodeAccountIds.add(new AccountId(3 + i));
+        }
+
+        for (var i = 0; i < signers; i++) {
+            keys.add(PrivateKey.generate());
+        }
+
+        signed = sign(transfer().freeze());
+        signedBytes = signed.toBytes();
+        template = new TransactionTemplate(transfer());
+    }
+
+    private TransferTransaction transfer() {
+        return new TransferTransaction()
+            .setNodeAccountIds(nodeAccountIds)
+            .setTransactionId(TRANSACTION_ID)
+            .setTransactionMemo("benchmark")
+            .addHbarTransfer(new AccountId(2), Hbar.fromTinybars(-100))
+            .addHbarTransfer(new AccountId(1001), Hbar.fromTinybars(100));
+    }
+
+    private TransferTransaction sign(TransferTransaction transaction) {
+        for (var key : keys) {
+            transaction.sign(key);
+        }
+
+        return transaction;
+    }
+
+    @Benchmark
+    public TransferTransaction freezeWith() {
+        return transfer().freezeWith(null);
+    }
+
+    @Benchmark
+    public byte[] freezeSignAndBuild() {
+        return sign(transfer().freezeWith(null)).toBytes();
+    }
+
+    @Benchmark
+    public TransferTransaction templateNewTransfer() {
+        return template.newTransfer(TRANSACTION_ID, "benchmark", -100, 100);
+    }
+
+    @Benchmark
+    public byte[] templateNewTransferSignAndBuild() {
+        return sign(template.newTransfer(TRANSACTION_ID, "benchmark", -100, 100)).toBytes();
+    }
+
+    @Benchmark
+    public byte[] freezeSignAndBuildParallel() {
+        return sign(transfer().setParallelBuild(true).freezeWith(null)).toBytes();
+    }
+
+    @Benchmark
+    public byte[] toBytes() {
+        // the transaction is already built, so this is serialization only
+        return signed.toBytes();
+    }
+
+    @Benchmark
+    public Transaction<?> fromBytes() throws InvalidProtocolBufferException {
+        return Transaction.fromBytes(signedBytes);
+    }
+}
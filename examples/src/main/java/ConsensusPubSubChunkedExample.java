@@ -60,7 +60,7 @@ public final class ConsensusPubSubChunkedExample {
         new TopicMessageQuery()
             .setTopicId(newTopicId)
             .subscribe(client, topicMessage -> {
-                System.out.println("at " + topicMessage.consensusTimestamp + " ( seq = " + topicMessage.sequenceNumber + " ) received topic message of " + topicMessage.contents.length + " bytes");
+                System.out.println("at " + topicMessage.consensusTimestamp + " ( seq = " + topicMessage.sequenceNumber + " ) received topic message of " + topicMessage.getContentsByteString().size() + " bytes");
             });
 
         // get a large file to send
@@ -96,7 +96,7 @@ public class ConsensusPubSubWithSubmitKeyExample {
             .setTopicId(topicId)
             .setStartTime(Instant.ofEpochSecond(0))
             .subscribe(client, (resp) -> {
-                String messageAsString = new String(resp.contents, StandardCharsets.UTF_8);
+                String messageAsString = new String(resp.getContents(), StandardCharsets.UTF_8);
 
                 System.out.println(resp.consensusTimestamp + " received topic message: " + messageAsString);
             });
@@ -45,7 +45,7 @@ public class TopicMessageIntegrationTest {
                 .setTopicId(topicId)
                 .setStartTime(Instant.EPOCH)
                 .subscribe(testEnv.client, (message) -> {
-                    receivedMessage[0] = new String(message.contents, StandardCharsets.UTF_8).equals("Hello, from HCS!");
+                    receivedMessage[0] = new String(message.getContents(), StandardCharsets.UTF_8).equals("Hello, from HCS!");
                 });
 
             new TopicMessageSubmitTransaction()
@@ -102,7 +102,7 @@ public class TopicMessageIntegrationTest {
                 .setTopicId(topicId)
                 .setStartTime(Instant.EPOCH)
                 .subscribe(testEnv.client, (message) -> {
-                    receivedMessage[0] = new String(message.contents, StandardCharsets.UTF_8).equals(Contents.BIG_CONTENTS);
+                    receivedMessage[0] = new String(message.getContents(), StandardCharsets.UTF_8).equals(Contents.BIG_CONTENTS);
                 });
 
             new TopicMessageSubmitTransaction()
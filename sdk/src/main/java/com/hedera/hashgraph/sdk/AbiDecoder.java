@@ -0,0 +1,88 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Decodes the Solidity ABI encoding of a tuple type, such as the result of a contract function.
+ * <p>
+ * The type signature is parsed once; the decoder is immutable and can decode any number of results, from any
+ * thread.
+ *
+ * <pre>{@code
+ * var decoder = AbiDecoder.forSignature("(uint256,address[],bytes)");
+ * var values = decoder.decode(contractFunctionResult);
+ *
+ * var total = values.getBigInteger(0);
+ * var owners = values.getArray(1);
+ * var firstOwner = owners.getAddress(0);
+ * }</pre>
+ * <p>
+ * Decoding does not copy the result. Values are read from it when they are requested, and the offsets of dynamic
+ * values are checked against the result at that point.
+ *
+ * @see <a href="https://docs.soliditylang.org/en/v0.8.7/abi-spec.html">Contract ABI Specification</a>
+ */
+public final class AbiDecoder {
+    private final AbiType type;
+
+    private AbiDecoder(AbiType type) {
+        this.type = type;
+    }
+
+    /**
+     * Create a decoder for a tuple type.
+     *
+     * @param signature the types of the tuple in parentheses, such as {@code (uint256,address[],bytes)}; the
+     *                  components may themselves be tuples or arrays, such as {@code ((string,uint8)[],bytes32[2])}
+     * @return the decoder
+     * @throws IllegalArgumentException if the signature is not a tuple of supported types
+     */
+    public static AbiDecoder forSignature(String signature) {
+        return new AbiDecoder(AbiType.parseTuple(signature));
+    }
+
+    /**
+     * @return the canonical signature of the decoded tuple, such as {@code (uint256,address[],bytes)}
+     */
+    public String getSignature() {
+        return type.name;
+    }
+
+    /**
+     * Decode the result of a contract function.
+     *
+     * @param result the result
+     * @return the values of the result
+     * @throws IllegalArgumentException if the result is too short for the types
+     */
+    public AbiValues decode(ContractFunctionResult result) {
+        return decode(result.rawResult);
+    }
+
+    /**
+     * Decode an ABI encoded tuple, which is copied once.
+     *
+     * @param data the encoded tuple
+     * @return the values of the tuple
+     * @throws IllegalArgumentException if the data is too short for the types
+     */
+    public AbiValues decode(byte[] data) {
+        return decode(ByteString.copyFrom(data));
+    }
+
+    /**
+     * Decode an ABI encoded tuple.
+     *
+     * @param data the encoded tuple
+     * @return the values of the tuple
+     * @throws IllegalArgumentException if the data is too short for the types
+     */
+    public AbiValues decode(ByteString data) {
+        return AbiValues.ofTuple(type, data, 0);
+    }
+
+    @Override
+    public String toString() {
+        return type.name;
+    }
+}
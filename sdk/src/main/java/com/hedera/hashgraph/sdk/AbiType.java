@@ -0,0 +1,304 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// a Solidity ABI type as specified here:
+// https://docs.soliditylang.org/en/v0.8.7/abi-spec.html#types
+
+/**
+ * A parsed Solidity ABI type, with the layout of its encoding worked out once.
+ */
+final class AbiType {
+    enum Kind {
+        INT,
+        UINT,
+        ADDRESS,
+        BOOL,
+        FIXED_BYTES,
+        BYTES,
+        STRING,
+        ARRAY,
+        TUPLE,
+    }
+
+    // The most bytes a type may take in the head of a tuple, so that offsets always fit in an int
+    private static final long MAX_HEAD_SIZE = Integer.MAX_VALUE / 2;
+
+    final Kind kind;
+
+    /**
+     * The canonical name of this type, such as {@code uint256} or {@code (bytes,address[])}.
+     */
+    final String name;
+
+    /**
+     * The width in bits of an integer, the length of fixed bytes or of a fixed-length array, and {@code -1} for a
+     * dynamic array.
+     */
+    final int size;
+
+    /**
+     * The element type of an array.
+     */
+    @Nullable
+    final AbiType element;
+
+    /**
+     * The component types of a tuple.
+     */
+    final List<AbiType> components;
+
+    /**
+     * Where the head of each component of a tuple starts, relative to the start of the tuple.
+     */
+    final int[] headOffsets;
+
+    /**
+     * Whether the encoding of this type has a length that depends on its value, in which case the head of an
+     * enclosing tuple holds only the offset of the value.
+     */
+    final boolean isDynamic;
+
+    /**
+     * The number of bytes this type takes in the head of an enclosing tuple.
+     */
+    final int headSize;
+
+    private AbiType(Kind kind, String name, int size, @Nullable AbiType element, List<AbiType> components) {
+        this.kind = kind;
+        this.name = name;
+        this.size = size;
+        this.element = element;
+        this.components = components;
+        this.headOffsets = new int[components.size()];
+
+        @Var var dynamic = kind == Kind.BYTES || kind == Kind.STRING || (kind == Kind.ARRAY && size < 0);
+        @Var long staticSize = 32;
+
+        if (kind == Kind.ARRAY && element != null && size >= 0) {
+            dynamic = element.isDynamic;
+            staticSize = (long) size * element.headSize;
+        } else if (kind == Kind.TUPLE) {
+            staticSize = 0;
+
+            for (var i = 0; i < components.size(); i++) {
+                var component = components.get(i);
+
+                headOffsets[i] = (int) staticSize;
+                dynamic |= component.isDynamic;
+                staticSize += component.headSize;
+
+                if (staticSize > MAX_HEAD_SIZE) {
+                    throw new IllegalArgumentException("type " + name + " is too large");
+                }
+            }
+        }
+
+        if (staticSize > MAX_HEAD_SIZE) {
+            throw new IllegalArgumentException("type " + name + " is too large");
+        }
+
+        this.isDynamic = dynamic;
+        this.headSize = dynamic ? 32 : (int) staticSize;
+    }
+
+    /**
+     * The number of bytes the heads of the components of a tuple, or of the elements of an array, take.
+     */
+    long headsSize(int count) {
+        if (kind == Kind.TUPLE) {
+            return count == 0 ? 0 : (long) headOffsets[count - 1] + components.get(count - 1).headSize;
+        }
+
+        return (long) count * (element != null ? element.headSize : 0);
+    }
+
+    /**
+     * Parse a tuple type signature, such as {@code (uint256,address[],bytes)}.
+     *
+     * @throws IllegalArgumentException if the signature is not a valid tuple type
+     */
+    static AbiType parseTuple(String signature) {
+        // canonical signatures have no whitespace, but allow it between types for readability
+        var parser = new Parser(signature.replaceAll("\\s+", ""));
+        var type = parser.parseType();
+
+        if (parser.position != parser.signature.length()) {
+            throw parser.error("unexpected character");
+        }
+
+        if (type.kind != Kind.TUPLE) {
+            throw new IllegalArgumentException("expected a tuple type such as `(uint256,bytes)` but got `" + signature + "`");
+        }
+
+        return type;
+    }
+
+    private static AbiType elementary(String name) {
+        switch (name) {
+            case "address":
+                return new AbiType(Kind.ADDRESS, name, 160, null, Collections.emptyList());
+            case "bool":
+                return new AbiType(Kind.BOOL, name, 8, null, Collections.emptyList());
+            case "bytes":
+                return new AbiType(Kind.BYTES, name, -1, null, Collections.emptyList());
+            case "string":
+                return new AbiType(Kind.STRING, name, -1, null, Collections.emptyList());
+            case "function":
+                // an address followed by a function selector
+                return new AbiType(Kind.FIXED_BYTES, "bytes24", 24, null, Collections.emptyList());
+            case "int":
+                return new AbiType(Kind.INT, "int256", 256, null, Collections.emptyList());
+            case "uint":
+                return new AbiType(Kind.UINT, "uint256", 256, null, Collections.emptyList());
+            default:
+                break;
+        }
+
+        if (name.startsWith("uint")) {
+            var bits = parseSize(name, 4, 8, 256);
+
+            if (bits % 8 == 0) {
+                return new AbiType(Kind.UINT, name, bits, null, Collections.emptyList());
+            }
+        } else if (name.startsWith("int")) {
+            var bits = parseSize(name, 3, 8, 256);
+
+            if (bits % 8 == 0) {
+                return new AbiType(Kind.INT, name, bits, null, Collections.emptyList());
+            }
+        } else if (name.startsWith("bytes")) {
+            var length = parseSize(name, 5, 1, 32);
+
+            return new AbiType(Kind.FIXED_BYTES, name, length, null, Collections.emptyList());
+        }
+
+        throw new IllegalArgumentException("unsupported ABI type `" + name + "`");
+    }
+
+    private static int parseSize(String name, int start, int min, int max) {
+        try {
+            var size = Integer.parseInt(name.substring(start));
+
+            // reject signs and leading zeros, which are not part of canonical names
+            if (size >= min && size <= max && name.substring(start).equals(Integer.toString(size))) {
+                return size;
+            }
+        } catch (NumberFormatException e) {
+            // fall through
+        }
+
+        throw new IllegalArgumentException("unsupported ABI type `" + name + "`");
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    private static final class Parser {
+        private final String signature;
+
+        int position = 0;
+
+        Parser(String signature) {
+            this.signature = signature;
+        }
+
+        AbiType parseType() {
+            @Var AbiType type;
+
+            if (peek() == '(') {
+                type = parseTupleComponents();
+            } else {
+                var start = position;
+
+                while (position < signature.length() && Character.isLetterOrDigit(signature.charAt(position))) {
+                    position++;
+                }
+
+                if (start == position) {
+                    throw error("expected a type");
+                }
+
+                type = elementary(signature.substring(start, position));
+            }
+
+            while (peek() == '[') {
+                position++;
+
+                var start = position;
+
+                while (position < signature.length() && Character.isDigit(signature.charAt(position))) {
+                    position++;
+                }
+
+                if (peek() != ']') {
+                    throw error("expected `]`");
+                }
+
+                @Var var length = -1;
+
+                if (start != position) {
+                    try {
+                        length = Integer.parseInt(signature.substring(start, position));
+                    } catch (NumberFormatException e) {
+                        throw error("array length is too large");
+                    }
+                }
+
+                position++;
+
+                var name = type.name + (length < 0 ? "[]" : "[" + length + "]");
+
+                type = new AbiType(Kind.ARRAY, name, length, type, Collections.emptyList());
+            }
+
+            return type;
+        }
+
+        private AbiType parseTupleComponents() {
+            // skip `(`
+            position++;
+
+            var components = new ArrayList<AbiType>();
+
+            if (peek() != ')') {
+                components.add(parseType());
+
+                while (peek() == ',') {
+                    position++;
+                    components.add(parseType());
+                }
+            }
+
+            if (peek() != ')') {
+                throw error("expected `,` or `)`");
+            }
+
+            position++;
+
+            var name = new StringBuilder("(");
+
+            for (var i = 0; i < components.size(); i++) {
+                name.append(i == 0 ? "" : ",").append(components.get(i).name);
+            }
+
+            return new AbiType(Kind.TUPLE, name.append(')').toString(), components.size(), null,
+                Collections.unmodifiableList(components));
+        }
+
+        private char peek() {
+            return position < signature.length() ? signature.charAt(position) : '\0';
+        }
+
+        IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at index " + position + " of `" + signature + "`");
+        }
+    }
+}
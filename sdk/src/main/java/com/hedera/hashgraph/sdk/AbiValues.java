@@ -0,0 +1,307 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import com.google.protobuf.ByteString;
+
+import java.math.BigInteger;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A view of ABI encoded values, either the components of a tuple or the elements of an array, as decoded by
+ * {@link AbiDecoder}.
+ * <p>
+ * Each getter reads the value at an index directly from the encoded data and must match the type of that value;
+ * for example {@link #getInt64(int)} reads any integer type up to 64 bits wide. Nested tuples and arrays are views of
+ * the same data.
+ * <p>
+ * The getters throw {@link IllegalArgumentException} if the type of the value does not match, or if an offset or
+ * length in the data points outside of it.
+ */
+public final class AbiValues {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final ByteString data;
+
+    // Where the heads of the values start, which offsets of dynamic values are relative to
+    private final int base;
+
+    // The tuple type, or the element type of an array
+    private final AbiType type;
+
+    private final boolean isArray;
+
+    private final int size;
+
+    private AbiValues(ByteString data, int base, AbiType type, boolean isArray, int size) {
+        var headsSize = isArray ? (long) size * type.headSize : type.headsSize(size);
+
+        checkRange(data, base, headsSize);
+
+        this.data = data;
+        this.base = base;
+        this.type = type;
+        this.isArray = isArray;
+        this.size = size;
+    }
+
+    static AbiValues ofTuple(AbiType tuple, ByteString data, int base) {
+        return new AbiValues(data, base, tuple, false, tuple.components.size());
+    }
+
+    private static AbiValues ofArray(AbiType element, ByteString data, int base, int length) {
+        return new AbiValues(data, base, element, true, length);
+    }
+
+    /**
+     * @return the number of components of the tuple, or elements of the array
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index the index of a value
+     * @return the canonical type of the value, such as {@code uint256} or {@code (string,bytes32)[]}
+     */
+    public String getType(int index) {
+        return typeAt(index).name;
+    }
+
+    /**
+     * @param index the index of a {@code bool} value
+     * @return the value
+     */
+    public boolean getBool(int index) {
+        return data.byteAt(headAt(index, expect(index, AbiType.Kind.BOOL)) + 31) != 0;
+    }
+
+    /**
+     * Get an integer value which is at most 32 bits wide, such as {@code int32} or {@code uint8}.
+     * <p>
+     * Unsigned values which use all 32 bits are returned as negative numbers when the highest bit is set, the same as
+     * {@link ContractFunctionResult#getUint32(int)}.
+     *
+     * @param index the index of the value
+     * @return the value
+     */
+    public int getInt32(int index) {
+        return readInt(headAt(index, expectInteger(index, 32)) + 28);
+    }
+
+    /**
+     * Get an integer value which is at most 64 bits wide, such as {@code int64} or {@code uint40}.
+     * <p>
+     * Unsigned values which use all 64 bits are returned as negative numbers when the highest bit is set, the same as
+     * {@link ContractFunctionResult#getUint64(int)}.
+     *
+     * @param index the index of the value
+     * @return the value
+     */
+    public long getInt64(int index) {
+        var head = headAt(index, expectInteger(index, 64));
+
+        return ((long) readInt(head + 24) << 32) | (readInt(head + 28) & 0xffffffffL);
+    }
+
+    /**
+     * Get an integer value of any width, such as {@code int256} or {@code uint128}.
+     *
+     * @param index the index of the value
+     * @return the value, which is never negative for unsigned types
+     */
+    public BigInteger getBigInteger(int index) {
+        var valueType = expectInteger(index, 256);
+        var head = headAt(index, valueType);
+
+        if (valueType.kind == AbiType.Kind.INT) {
+            var bytes = new byte[32];
+            data.substring(head, head + 32).copyTo(bytes, 0);
+
+            return new BigInteger(bytes);
+        }
+
+        // prepend a zero byte so that `BigInteger` finds a zero sign bit and treats it as positive
+        var bytes = new byte[33];
+        data.substring(head, head + 32).copyTo(bytes, 1);
+
+        return new BigInteger(bytes);
+    }
+
+    /**
+     * @param index the index of an {@code address} value
+     * @return the address as 40 hexadecimal digits, the same as {@link ContractFunctionResult#getAddress(int)}
+     */
+    public String getAddress(int index) {
+        var head = headAt(index, expect(index, AbiType.Kind.ADDRESS));
+        var address = new char[40];
+
+        // an address is a uint160, the last 20 bytes of its word
+        for (var i = 0; i < 20; i++) {
+            var b = data.byteAt(head + 12 + i);
+
+            address[i * 2] = HEX_DIGITS[(b >> 4) & 0xf];
+            address[i * 2 + 1] = HEX_DIGITS[b & 0xf];
+        }
+
+        return new String(address);
+    }
+
+    /**
+     * Get a {@code bytes} value, or a fixed-length value such as {@code bytes32}.
+     *
+     * @param index the index of the value
+     * @return the bytes, which share the memory of the encoded data
+     */
+    public ByteString getBytes(int index) {
+        var valueType = typeAt(index);
+
+        if (valueType.kind == AbiType.Kind.FIXED_BYTES) {
+            var head = headAt(index, valueType);
+
+            return data.substring(head, head + valueType.size);
+        }
+
+        return getDynamicBytes(index, expect(index, AbiType.Kind.BYTES));
+    }
+
+    /**
+     * @param index the index of a {@code string} value
+     * @return the value
+     */
+    public String getString(int index) {
+        return getDynamicBytes(index, expect(index, AbiType.Kind.STRING)).toStringUtf8();
+    }
+
+    /**
+     * @param index the index of a tuple value
+     * @return the components of the tuple
+     */
+    public AbiValues getTuple(int index) {
+        var valueType = expect(index, AbiType.Kind.TUPLE);
+
+        return ofTuple(valueType, data, positionOf(index, valueType));
+    }
+
+    /**
+     * @param index the index of an array value, such as {@code uint256[]} or {@code string[3]}
+     * @return the elements of the array
+     */
+    public AbiValues getArray(int index) {
+        var valueType = expect(index, AbiType.Kind.ARRAY);
+        var element = Objects.requireNonNull(valueType.element);
+        var position = positionOf(index, valueType);
+
+        if (valueType.size >= 0) {
+            return ofArray(element, data, position, valueType.size);
+        }
+
+        // a dynamic array is its length followed by the array of that length
+        return ofArray(element, data, position + 32, readLength(position));
+    }
+
+    private ByteString getDynamicBytes(int index, AbiType valueType) {
+        var position = positionOf(index, valueType);
+        var length = readLength(position);
+
+        checkRange(data, position + 32, length);
+
+        return data.substring(position + 32, position + 32 + length);
+    }
+
+    private AbiType typeAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " is out of bounds for " + size + " values");
+        }
+
+        return isArray ? type : type.components.get(index);
+    }
+
+    private AbiType expect(int index, AbiType.Kind kind) {
+        var valueType = typeAt(index);
+
+        if (valueType.kind != kind) {
+            throw new IllegalArgumentException(
+                "value " + index + " is " + valueType.name + " and can not be read as " + kind.name().toLowerCase(Locale.ROOT));
+        }
+
+        return valueType;
+    }
+
+    private AbiType expectInteger(int index, int maxBits) {
+        var valueType = typeAt(index);
+
+        if ((valueType.kind != AbiType.Kind.INT && valueType.kind != AbiType.Kind.UINT) || valueType.size > maxBits) {
+            throw new IllegalArgumentException(
+                "value " + index + " is " + valueType.name + " and can not be read as an integer of at most " + maxBits + " bits");
+        }
+
+        return valueType;
+    }
+
+    // The heads were checked to lie within the data when this view was created
+    private int headAt(int index, AbiType valueType) {
+        return isArray ? base + index * valueType.headSize : base + type.headOffsets[index];
+    }
+
+    // Where the encoding of a value starts: in place for static types, and at the offset in its head for dynamic types
+    private int positionOf(int index, AbiType valueType) {
+        var head = headAt(index, valueType);
+
+        if (!valueType.isDynamic) {
+            return head;
+        }
+
+        var offset = readLength(head);
+
+        // what the value needs is checked as it is read
+        checkRange(data, (long) base + offset, 0);
+
+        return base + offset;
+    }
+
+    // Reads a word which must be an offset or a length that fits in an int
+    private int readLength(int position) {
+        checkRange(data, position, 32);
+
+        for (var i = 0; i < 28; i++) {
+            if (data.byteAt(position + i) != 0) {
+                throw new IllegalArgumentException("offset or length at byte " + position + " is too large");
+            }
+        }
+
+        var value = readInt(position + 28);
+
+        if (value < 0) {
+            throw new IllegalArgumentException("offset or length at byte " + position + " is too large");
+        }
+
+        return value;
+    }
+
+    private int readInt(int position) {
+        @Var var value = 0;
+
+        for (var i = 0; i < 4; i++) {
+            value = (value << 8) | (data.byteAt(position + i) & 0xff);
+        }
+
+        return value;
+    }
+
+    private static void checkRange(ByteString data, long position, long length) {
+        if (position < 0 || length < 0 || position + length > data.size()) {
+            throw new IllegalArgumentException(
+                "ABI data of " + data.size() + " bytes has no " + length + " bytes at byte " + position);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("type", isArray ? type.name + "[" + size + "]" : type.name)
+            .add("size", size)
+            .toString();
+    }
+}
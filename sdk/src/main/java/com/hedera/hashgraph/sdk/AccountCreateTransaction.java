@@ -10,7 +10,6 @@ import io.grpc.MethodDescriptor;
 import org.threeten.bp.Duration;
 
 import javax.annotation.Nullable;
-import java.util.LinkedHashMap;
 import java.util.Objects;
 
 /**
@@ -31,7 +30,7 @@ public final class AccountCreateTransaction extends Transaction<AccountCreateTra
     public AccountCreateTransaction() {
     }
 
-    AccountCreateTransaction(LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>> txs) throws InvalidProtocolBufferException {
+    AccountCreateTransaction(TransactionListDecoder.Decoded txs) throws InvalidProtocolBufferException {
         super(txs);
         initFromTransactionBody();
     }
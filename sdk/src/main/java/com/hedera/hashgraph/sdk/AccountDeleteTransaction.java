@@ -9,7 +9,6 @@ import com.hedera.hashgraph.sdk.proto.TransactionResponse;
 import io.grpc.MethodDescriptor;
 
 import javax.annotation.Nullable;
-import java.util.LinkedHashMap;
 import java.util.Objects;
 
 /**
@@ -29,7 +28,7 @@ public final class AccountDeleteTransaction extends Transaction<AccountDeleteTra
     public AccountDeleteTransaction() {
     }
 
-    AccountDeleteTransaction(LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>> txs) throws InvalidProtocolBufferException {
+    AccountDeleteTransaction(TransactionListDecoder.Decoded txs) throws InvalidProtocolBufferException {
         super(txs);
         initFromTransactionBody();
     }
@@ -13,7 +13,6 @@ import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
 
 import javax.annotation.Nullable;
-import java.util.LinkedHashMap;
 import java.util.Objects;
 
 /**
@@ -51,7 +50,7 @@ public final class AccountUpdateTransaction extends Transaction<AccountUpdateTra
     public AccountUpdateTransaction() {
     }
 
-    AccountUpdateTransaction(LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>> txs) throws InvalidProtocolBufferException {
+    AccountUpdateTransaction(TransactionListDecoder.Decoded txs) throws InvalidProtocolBufferException {
         super(txs);
         initFromTransactionBody();
     }
@@ -0,0 +1,288 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+import com.hedera.hashgraph.sdk.proto.SignaturePair;
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
+import org.bouncycastle.util.encoders.Hex;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Verifies every signature of one or more signed transactions at once.
+ * <p>
+ * Each signature pair of each transaction, for every chunk and node, is checked against the body it was made for.
+ * Every body is flattened once and shared by all of its signatures. Batches of at least
+ * {@link #setParallelThreshold(int)} signatures are verified in parallel, by default on the common
+ * {@link ForkJoinPool}. The result lists each signature that did not verify, with the transaction, chunk and node it
+ * was for.
+ * <p>
+ * A signature pair whose public key prefix is not a full Ed25519 public key can not be verified and is reported as a
+ * failure.
+ */
+public final class BatchSignatureVerifier {
+    // Below this many signatures per task, verifying is cheaper than splitting further
+    private static final int MIN_TASK_SIZE = 8;
+
+    @Nullable
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private int parallelThreshold = 64;
+
+    /**
+     * @return the number of signatures from which a batch is verified in parallel
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Set the number of signatures from which a batch is verified in parallel. Smaller batches are verified on the
+     * calling thread.
+     *
+     * @param parallelThreshold the number of signatures
+     * @return {@code this}
+     */
+    public BatchSignatureVerifier setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("parallelThreshold must be at least 1");
+        }
+
+        this.parallelThreshold = parallelThreshold;
+        return this;
+    }
+
+    /**
+     * Set the pool large batches are verified in.
+     *
+     * @param pool the pool, or {@code null} to always verify on the calling thread
+     * @return {@code this}
+     */
+    public BatchSignatureVerifier setPool(@Nullable ForkJoinPool pool) {
+        this.pool = pool;
+        return this;
+    }
+
+    /**
+     * Verify every signature of a transaction.
+     *
+     * @param transaction the frozen transaction
+     * @return the result
+     */
+    public Result verify(Transaction<?> transaction) {
+        return verify(Collections.singletonList(transaction));
+    }
+
+    /**
+     * Verify every signature of a list of transactions.
+     *
+     * @param transactions the frozen transactions
+     * @return the result, where the {@link Failure#transactionIndex} of each failure is an index into
+     * {@code transactions}
+     */
+    public Result verify(List<? extends Transaction<?>> transactions) {
+        var signatures = new ArrayList<Signature>();
+
+        for (var transactionIndex = 0; transactionIndex < transactions.size(); transactionIndex++) {
+            var transaction = transactions.get(transactionIndex);
+
+            if (!transaction.isFrozen()) {
+                throw new IllegalStateException("transactions must be frozen before their signatures can be verified, try calling `freeze`");
+            }
+
+            // adds the signatures of signers which have not been applied yet
+            transaction.buildAllTransactions();
+
+            var nodeCount = transaction.nodeAccountIds.isEmpty() ? 1 : transaction.nodeAccountIds.size();
+
+            for (var entry = 0; entry < transaction.sigPairLists.size(); entry++) {
+                var sigPairs = transaction.sigPairLists.get(entry).getSigPairList();
+
+                if (sigPairs.isEmpty()) {
+                    continue;
+                }
+
+                var body = transaction.innerSignedTransactions.get(entry).getBodyBytes().toByteArray();
+                var nodeAccountId = transaction.nodeAccountIds.isEmpty()
+                    ? new AccountId(0)
+                    : transaction.nodeAccountIds.get(entry % nodeCount);
+
+                for (var sigPair : sigPairs) {
+                    signatures.add(new Signature(transactionIndex, entry / nodeCount, nodeAccountId, body, sigPair));
+                }
+            }
+        }
+
+        var valid = new boolean[signatures.size()];
+        var pool = this.pool;
+
+        if (pool != null && signatures.size() >= parallelThreshold) {
+            pool.invoke(new VerifyTask(signatures, valid, 0, signatures.size()));
+        } else {
+            verifyRange(signatures, valid, 0, signatures.size());
+        }
+
+        var failures = new ArrayList<Failure>();
+
+        for (var i = 0; i < valid.length; i++) {
+            if (!valid[i]) {
+                var signature = signatures.get(i);
+
+                failures.add(new Failure(
+                    signature.transactionIndex,
+                    signature.chunkIndex,
+                    signature.nodeAccountId,
+                    signature.sigPair.getPubKeyPrefix().toByteArray()
+                ));
+            }
+        }
+
+        return new Result(signatures.size(), failures);
+    }
+
+    private static void verifyRange(List<Signature> signatures, boolean[] valid, int from, int to) {
+        for (var i = from; i < to; i++) {
+            valid[i] = signatures.get(i).verify();
+        }
+    }
+
+    /**
+     * Verifies the signatures in {@code [from, to)}, splitting the range until each task is small. Each task
+     * writes only its own range of {@code valid}.
+     */
+    private static final class VerifyTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Signature> signatures;
+        private final boolean[] valid;
+        private final int from;
+        private final int to;
+
+        VerifyTask(List<Signature> signatures, boolean[] valid, int from, int to) {
+            this.signatures = signatures;
+            this.valid = valid;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= MIN_TASK_SIZE) {
+                verifyRange(signatures, valid, from, to);
+                return;
+            }
+
+            var middle = (from + to) >>> 1;
+
+            invokeAll(new VerifyTask(signatures, valid, from, middle), new VerifyTask(signatures, valid, middle, to));
+        }
+    }
+
+    private static final class Signature {
+        final int transactionIndex;
+        final int chunkIndex;
+        final AccountId nodeAccountId;
+        final byte[] body;
+        final SignaturePair sigPair;
+
+        Signature(int transactionIndex, int chunkIndex, AccountId nodeAccountId, byte[] body, SignaturePair sigPair) {
+            this.transactionIndex = transactionIndex;
+            this.chunkIndex = chunkIndex;
+            this.nodeAccountId = nodeAccountId;
+            this.body = body;
+            this.sigPair = sigPair;
+        }
+
+        boolean verify() {
+            var publicKey = sigPair.getPubKeyPrefix();
+            var signature = sigPair.getEd25519();
+
+            if (publicKey.size() != Ed25519.PUBLIC_KEY_SIZE || signature.size() != Ed25519.SIGNATURE_SIZE) {
+                return false;
+            }
+
+            return Ed25519.verify(signature.toByteArray(), 0, publicKey.toByteArray(), 0, body, 0, body.length);
+        }
+    }
+
+    /**
+     * The outcome of verifying a batch of signatures.
+     */
+    public static final class Result {
+        /**
+         * The number of signatures which were verified.
+         */
+        public final int signatureCount;
+
+        /**
+         * The signatures which did not verify, in the order of the transactions, chunks and nodes they were for.
+         */
+        public final List<Failure> failures;
+
+        Result(int signatureCount, List<Failure> failures) {
+            this.signatureCount = signatureCount;
+            this.failures = Collections.unmodifiableList(failures);
+        }
+
+        /**
+         * @return whether every signature verified
+         */
+        public boolean isValid() {
+            return failures.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                .add("signatureCount", signatureCount)
+                .add("failures", failures)
+                .toString();
+        }
+    }
+
+    /**
+     * A signature which did not verify.
+     */
+    public static final class Failure {
+        /**
+         * The index of the transaction the signature was for.
+         */
+        public final int transactionIndex;
+
+        /**
+         * The chunk of the transaction the signature was for; always {@code 0} for transactions which are not
+         * chunked.
+         */
+        public final int chunkIndex;
+
+        /**
+         * The node the signature was for.
+         */
+        public final AccountId nodeAccountId;
+
+        /**
+         * The public key prefix of the signature pair.
+         */
+        public final byte[] publicKeyPrefix;
+
+        Failure(int transactionIndex, int chunkIndex, AccountId nodeAccountId, byte[] publicKeyPrefix) {
+            this.transactionIndex = transactionIndex;
+            this.chunkIndex = chunkIndex;
+            this.nodeAccountId = nodeAccountId;
+            this.publicKeyPrefix = publicKeyPrefix;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                .add("transactionIndex", transactionIndex)
+                .add("chunkIndex", chunkIndex)
+                .add("nodeAccountId", nodeAccountId)
+                .add("publicKeyPrefix", Hex.toHexString(publicKeyPrefix))
+                .toString();
+        }
+    }
+}
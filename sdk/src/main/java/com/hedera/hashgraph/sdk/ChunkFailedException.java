@@ -0,0 +1,74 @@
+package com.hedera.hashgraph.sdk;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An Exception thrown when executing a {@link FileAppendTransaction} or {@link TopicMessageSubmitTransaction}
+ * with more than one chunk in flight, and one of the chunks could not be submitted or failed to reach consensus.
+ * <p>
+ * No chunk is submitted after a failure is seen, but chunks which were already in flight are still allowed to
+ * finish, so chunks after {@link #chunk} may have been submitted and reached consensus. The outcome of every chunk
+ * is given by index in {@link #responses} and {@link #errors}:
+ * <ul>
+ *     <li>a response and no error: the chunk completed successfully;</li>
+ *     <li>a response and an error: the chunk was accepted by a node but its receipt failed or could not be
+ *     fetched, so it may or may not have reached consensus;</li>
+ *     <li>no response and an error: the chunk was not accepted by any node;</li>
+ *     <li>neither: the chunk was never submitted.</li>
+ * </ul>
+ * Only the chunks which were never submitted, or were not accepted, can safely be submitted again.
+ */
+public class ChunkFailedException extends Exception {
+    /**
+     * The index of the first chunk that failed, starting at {@code 0}.
+     */
+    public final int chunk;
+
+    /**
+     * The total number of chunks in the transaction.
+     */
+    public final int total;
+
+    /**
+     * The response of each chunk by index, or {@code null} where the chunk was not accepted by a node.
+     */
+    public final List<TransactionResponse> responses;
+
+    /**
+     * The error of each chunk by index, or {@code null} where the chunk succeeded or was never submitted.
+     */
+    public final List<Throwable> errors;
+
+    ChunkFailedException(int chunk, int total, List<TransactionResponse> responses, List<Throwable> errors) {
+        super(errors.get(chunk));
+
+        this.chunk = chunk;
+        this.total = total;
+        this.responses = responses;
+        this.errors = errors;
+    }
+
+    /**
+     * @param index the index of a chunk, starting at {@code 0}
+     * @return whether the chunk was sent to a node at all
+     */
+    public boolean wasSubmitted(int index) {
+        return responses.get(index) != null || errors.get(index) != null;
+    }
+
+    /**
+     * @param index the index of a chunk, starting at {@code 0}
+     * @return the response of the chunk, or {@code null} if it was not accepted by a node
+     */
+    @Nullable
+    public TransactionResponse getResponse(int index) {
+        return responses.get(index);
+    }
+
+    @Override
+    public String getMessage() {
+        return "chunk " + chunk + " of " + total + " failed: " + Objects.requireNonNull(getCause());
+    }
+}
@@ -7,15 +7,17 @@ import com.hedera.hashgraph.sdk.proto.SignatureMap;
 import com.hedera.hashgraph.sdk.proto.SignedTransaction;
 import com.hedera.hashgraph.sdk.proto.TransactionBody;
 import com.hedera.hashgraph.sdk.proto.TransactionID;
+import io.grpc.MethodDescriptor;
 import java8.util.concurrent.CompletableFuture;
+import java8.util.concurrent.CompletionException;
 import java8.util.concurrent.CompletionStage;
 import java8.util.function.Function;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -28,8 +30,13 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
      * its frozen.
      */
     private int maxChunks = 20;
+    /**
+     * Number of chunks which may be submitted and awaiting their receipt at once; 1 submits strictly one
+     * after the other.
+     */
+    private int maxChunksInFlight = 1;
 
-    ChunkedTransaction(LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>> txs) throws InvalidProtocolBufferException {
+    ChunkedTransaction(TransactionListDecoder.Decoded txs) throws InvalidProtocolBufferException {
         super(txs);
     }
 
@@ -81,6 +88,36 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
         return (T) this;
     }
 
+    public int getMaxChunksInFlight() {
+        return maxChunksInFlight;
+    }
+
+    /**
+     * Set the number of chunks which may be in flight at once when executing this transaction.
+     * <p>
+     * Defaults to {@code 1}, which submits each chunk only after the previous one has completed. With a
+     * larger window the chunks of a {@link TopicMessageSubmitTransaction} are submitted concurrently and are put
+     * back in order by the mirror node using their cascading transaction IDs. The chunks of a
+     * {@link FileAppendTransaction} must reach consensus in order, so each is only submitted once the receipt of
+     * the previous one is in, whatever the window.
+     * <p>
+     * When more than one chunk may be in flight, a failure is reported as a {@link ChunkFailedException}
+     * carrying the outcome of every chunk, as chunks after the one that failed may already have been submitted.
+     *
+     * @param maxChunksInFlight the number of chunks which may be in flight at once
+     * @return {@code this}
+     */
+    public T setMaxChunksInFlight(int maxChunksInFlight) {
+        if (maxChunksInFlight < 1) {
+            throw new IllegalArgumentException("maxChunksInFlight must be at least 1");
+        }
+
+        this.maxChunksInFlight = maxChunksInFlight;
+
+        // noinspection unchecked
+        return (T) this;
+    }
+
     @Override
     public byte[] getTransactionHash() {
         if (outerTransactions.size() > nodeAccountIds.size()) {
@@ -115,9 +152,7 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
             var offset = txIndex * nodeCount;
 
             for (var nodeIndex = 0; nodeIndex < nodeCount; ++nodeIndex) {
-                hashes.put(
-                    nodeAccountIds.get(nodeIndex),
-                    hash(outerTransactions.get(offset + nodeIndex).getSignedTransactionBytes().toByteArray()));
+                hashes.put(nodeAccountIds.get(nodeIndex), hashTransaction(offset + nodeIndex));
             }
 
             transactionHashes.add(hashes);
@@ -164,6 +199,10 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
     @Override
     @FunctionalExecutable(type = "java.util.List<TransactionResponse>")
     public CompletableFuture<List<com.hedera.hashgraph.sdk.TransactionResponse>> executeAllAsync(Client client) {
+        if (maxChunksInFlight > 1) {
+            return onExecuteAsync(client).thenCompose(v -> new ChunkPipeline(client).start());
+        }
+
         if (!isFrozen()) {
             freezeWith(client);
         }
@@ -281,17 +320,13 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
                 requiredChunks
             );
 
+            var sharedBody = new SharedTransactionBody(frozenBodyBuilder.clearNodeAccountID().build());
+
             // For each node we add a transaction with that node
             for (var nodeId : nodeAccountIds) {
                 sigPairLists.add(SignatureMap.newBuilder());
                 innerSignedTransactions.add(SignedTransaction.newBuilder()
-                    .setBodyBytes(
-                        frozenBodyBuilder
-                            .setNodeAccountID(nodeId.toProtobuf())
-                            .build()
-                            .toByteString()
-                    )
-                );
+                    .setBodyBytes(sharedBody.forNode(nodeId)));
                 outerTransactions.add(null);
             }
 
@@ -306,6 +341,186 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
         return (T) this;
     }
 
+    /**
+     * Executes the chunks of this transaction with up to {@link #maxChunksInFlight} in flight. Each chunk is sent
+     * as its own {@link ChunkRequest} so concurrent chunks do not share the cursors of this transaction.
+     */
+    private final class ChunkPipeline {
+        private final CompletableFuture<List<TransactionResponse>> result = new CompletableFuture<>();
+        private final Client client;
+        private final int total;
+        private final TransactionResponse[] responses;
+
+        // chunks must reach consensus in order, so only one may be in flight until its receipt is in
+        private final boolean ordered = shouldGetReceipt();
+
+        private final Throwable[] errors;
+        private int next = 0;
+        private int inFlight = 0;
+        private int startNodeIndex = 0;
+        private int failedChunk = -1;
+
+        private boolean draining = false;
+        private boolean drainAgain = false;
+
+        ChunkPipeline(Client client) {
+            this.client = client;
+            this.total = transactionIds.size();
+            this.responses = new TransactionResponse[total];
+            this.errors = new Throwable[total];
+        }
+
+        CompletableFuture<List<TransactionResponse>> start() {
+            buildAllTransactions();
+            drain();
+            return result;
+        }
+
+        private void drain() {
+            synchronized (this) {
+                if (draining) {
+                    drainAgain = true;
+                    return;
+                }
+
+                draining = true;
+            }
+
+            while (true) {
+                var ready = new ArrayList<ChunkRequest>();
+
+                synchronized (this) {
+                    drainAgain = false;
+
+                    var window = ordered ? 1 : maxChunksInFlight;
+
+                    while (failedChunk == -1 && next < total && inFlight < window) {
+                        ready.add(new ChunkRequest(ChunkedTransaction.this, next, startNodeIndex));
+                        next += 1;
+                        inFlight += 1;
+                    }
+
+                    if (ready.isEmpty() && !drainAgain) {
+                        draining = false;
+
+                        if (inFlight == 0 && (failedChunk != -1 || next == total)) {
+                            finish();
+                        }
+
+                        return;
+                    }
+                }
+
+                for (var request : ready) {
+                    request.executeAsync(client).whenComplete((response, error) -> onSubmitted(request, response, error));
+                }
+            }
+        }
+
+        private void onSubmitted(ChunkRequest request, @Nullable TransactionResponse response, @Nullable Throwable error) {
+            synchronized (this) {
+                if (response != null) {
+                    // send the next chunk to the node which accepted this one
+                    startNodeIndex = Math.max(nodeAccountIds.indexOf(response.nodeId), 0);
+                }
+            }
+
+            if (error != null || response == null || !shouldGetReceipt()) {
+                onCompleted(request.chunk, response, error);
+            } else {
+                response.getReceiptAsync(client).whenComplete((receipt, receiptError) ->
+                    onCompleted(request.chunk, response, receiptError));
+            }
+        }
+
+        private void onCompleted(int chunk, @Nullable TransactionResponse response, @Nullable Throwable error) {
+            synchronized (this) {
+                inFlight -= 1;
+                responses[chunk] = response;
+
+                if (error != null) {
+                    errors[chunk] = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+
+                    if (failedChunk == -1 || chunk < failedChunk) {
+                        failedChunk = chunk;
+                    }
+                }
+            }
+
+            drain();
+        }
+
+        private void finish() {
+            if (failedChunk != -1) {
+                // chunks after the failed one may have been submitted too, so report every chunk
+                result.completeExceptionally(new ChunkFailedException(
+                    failedChunk,
+                    total,
+                    Collections.unmodifiableList(Arrays.asList(responses)),
+                    Collections.unmodifiableList(Arrays.asList(errors))
+                ));
+            } else {
+                var list = new ArrayList<TransactionResponse>(total);
+                Collections.addAll(list, responses);
+                result.complete(list);
+            }
+        }
+    }
+
+    /**
+     * Submits the already built and signed transactions of a single chunk.
+     */
+    private static final class ChunkRequest extends Executable<ChunkRequest, com.hedera.hashgraph.sdk.proto.Transaction, com.hedera.hashgraph.sdk.proto.TransactionResponse, TransactionResponse> {
+        final int chunk;
+        private final TransactionId transactionId;
+        private final List<com.hedera.hashgraph.sdk.proto.Transaction> requests;
+        private final MethodDescriptor<com.hedera.hashgraph.sdk.proto.Transaction, com.hedera.hashgraph.sdk.proto.TransactionResponse> methodDescriptor;
+
+        ChunkRequest(ChunkedTransaction<?> transaction, int chunk, int startNodeIndex) {
+            var nodeCount = transaction.nodeAccountIds.size();
+
+            this.chunk = chunk;
+            this.transactionId = transaction.transactionIds.get(chunk);
+            this.requests = new ArrayList<>(transaction.outerTransactions.subList(chunk * nodeCount, (chunk + 1) * nodeCount));
+            this.methodDescriptor = transaction.getMethodDescriptor();
+            this.nodeAccountIds = transaction.nodeAccountIds;
+            this.nextNodeIndex = startNodeIndex;
+            this.maxAttempts = transaction.maxAttempts;
+            this.maxBackoff = transaction.maxBackoff;
+            this.minBackoff = transaction.minBackoff;
+        }
+
+        @Override
+        CompletableFuture<Void> onExecuteAsync(Client client) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        com.hedera.hashgraph.sdk.proto.Transaction makeRequest() {
+            return requests.get(nextNodeIndex);
+        }
+
+        @Override
+        TransactionResponse mapResponse(com.hedera.hashgraph.sdk.proto.TransactionResponse response, AccountId nodeId, com.hedera.hashgraph.sdk.proto.Transaction request) {
+            return new TransactionResponse(nodeId, transactionId, hash(request.getSignedTransactionBytes()), null);
+        }
+
+        @Override
+        Status mapResponseStatus(com.hedera.hashgraph.sdk.proto.TransactionResponse response) {
+            return Status.valueOf(response.getNodeTransactionPrecheckCode());
+        }
+
+        @Override
+        MethodDescriptor<com.hedera.hashgraph.sdk.proto.Transaction, com.hedera.hashgraph.sdk.proto.TransactionResponse> getMethodDescriptor() {
+            return methodDescriptor;
+        }
+
+        @Override
+        TransactionId getTransactionId() {
+            return transactionId;
+        }
+    }
+
     abstract void onFreezeChunk(TransactionBody.Builder body, @Nullable TransactionID initialTransactionId, int startIndex, int endIndex, int chunk, int total);
 
     boolean shouldGetReceipt() {
@@ -4,6 +4,8 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.hashgraph.sdk.proto.ThrottleDefinitions;
 import java8.util.Lists;
 import java8.util.concurrent.CompletableFuture;
 import java8.util.function.Consumer;
@@ -30,19 +32,25 @@ import java.util.concurrent.TimeoutException;
 /**
  * Managed client for use on the Hedera Hashgraph network.
  */
-public final class Client implements AutoCloseable, WithPing, WithPingAll {
+public final class Client implements AutoCloseable, WithPing, WithPingAll, WithLoadThrottleDefinitions {
     static final int DEFAULT_MAX_ATTEMPTS = 10;
     static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(8L);
     static final Duration DEFAULT_MIN_BACKOFF = Duration.ofMillis(250L);
     private static final Hbar DEFAULT_MAX_QUERY_PAYMENT = new Hbar(1);
     final ExecutorService executor;
+    final RetryScheduler retryScheduler;
+    final ReceiptPoller receiptPoller;
     @Nullable
     Hbar defaultMaxTransactionFee = null;
     Hbar defaultMaxQueryPayment = DEFAULT_MAX_QUERY_PAYMENT;
     Network network;
     MirrorNetwork mirrorNetwork;
     @Nullable
+    volatile ThrottleLimiter throttle = null;
+    @Nullable
     private Operator operator;
+    @Nullable
+    private TopicSubscriptionManager topicSubscriptionManager = null;
 
     private Duration requestTimeout = Duration.ofMinutes(2);
 
@@ -64,6 +72,12 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
             Runtime.getRuntime().availableProcessors(),
             threadFactory);
 
+        this.retryScheduler = new RetryScheduler(executor, new ThreadFactoryBuilder()
+            .setNameFormat("hedera-sdk-retry-%d")
+            .setDaemon(true)
+            .build());
+
+        this.receiptPoller = new ReceiptPoller(this);
         this.network = new Network(executor, network);
         this.mirrorNetwork = new MirrorNetwork(executor);
     }
@@ -302,6 +316,22 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
         mirrorNetwork.setNetwork(network);
     }
 
+    /**
+     * Get the manager which coordinates topic subscriptions made through it across the mirror network.
+     * <p>
+     * The manager is created on first use and closed, along with its subscriptions, when this client is closed.
+     *
+     * @return the topic subscription manager of this client
+     * @see TopicSubscriptionManager
+     */
+    public synchronized TopicSubscriptionManager getTopicSubscriptionManager() {
+        if (topicSubscriptionManager == null) {
+            topicSubscriptionManager = new TopicSubscriptionManager(this);
+        }
+
+        return topicSubscriptionManager;
+    }
+
     public Map<String, AccountId> getNetwork() {
         var network = new HashMap<String, AccountId>(this.network.network.size());
 
@@ -312,6 +342,24 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
         return network;
     }
 
+    /**
+     * Get a point-in-time snapshot of the health and load statistics the client keeps for each node.
+     * <p>
+     * The returned map is not updated as requests complete; call this again for fresh values.
+     *
+     * @return the statistics of every node in the network, keyed by node account ID
+     */
+    public Map<AccountId, NodeStats> getNodeStats() {
+        var nodes = network.nodes;
+        var stats = new HashMap<AccountId, NodeStats>(nodes.size());
+
+        for (var node : nodes) {
+            stats.put(node.accountId, node.getStats());
+        }
+
+        return stats;
+    }
+
     /**
      * Replace all nodes in this Client with a new set of nodes (e.g. for an Address Book update).
      * <p>
@@ -361,7 +409,9 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
      * @return {@code this}
      */
     public synchronized Client setOperator(AccountId accountId, PrivateKey privateKey) {
-        return setOperatorWith(accountId, privateKey.getPublicKey(), privateKey::sign);
+        var signingContext = privateKey.getSigningContext();
+
+        return setOperatorWith(accountId, signingContext.publicKey, signingContext::sign);
     }
 
     /**
@@ -486,6 +536,80 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
         return this;
     }
 
+    /**
+     * @return the strategy used to pick the nodes a transaction or query is prepared for
+     */
+    public synchronized NodeSelector getNodeSelector() {
+        return network.getNodeSelector();
+    }
+
+    /**
+     * Set the strategy used to pick the nodes a transaction or query is prepared for when no node account IDs
+     * were set explicitly.
+     * <p>
+     * Defaults to {@link NodeSelector#leastUsed()}.
+     *
+     * @param nodeSelector The node selection strategy
+     * @return {@code this}
+     */
+    public synchronized Client setNodeSelector(NodeSelector nodeSelector) {
+        Objects.requireNonNull(nodeSelector);
+        network.setNodeSelector(nodeSelector);
+        return this;
+    }
+
+    /**
+     * Pace requests on the client so that they stay within the given throttle definitions.
+     * <p>
+     * Requests that would exceed a throttle wait locally until there is room instead of being sent and
+     * rejected with {@link Status#BUSY}. The definitions are network-wide, so this can only smooth out the
+     * bursts of this client; it cannot account for the load of anyone else.
+     *
+     * @param throttleDefinitions the serialized {@code ThrottleDefinitions}, as stored in
+     *                            {@link FileId#THROTTLE_DEFINITIONS}
+     * @return {@code this}
+     * @throws InvalidProtocolBufferException when the bytes are not valid throttle definitions
+     */
+    public synchronized Client setThrottleDefinitions(byte[] throttleDefinitions) throws InvalidProtocolBufferException {
+        Objects.requireNonNull(throttleDefinitions);
+        throttle = new ThrottleLimiter(ThrottleDefinitions.parseFrom(throttleDefinitions));
+        return this;
+    }
+
+    /**
+     * Fetch the current throttle definitions from {@link FileId#THROTTLE_DEFINITIONS} and pace requests
+     * with them, as {@link #setThrottleDefinitions(byte[])}.
+     * <p>
+     * The operator pays for the file query.
+     *
+     * @return a future which completes once the throttle is in place
+     */
+    @FunctionalExecutable(type = "Void", onClient = true)
+    public synchronized CompletableFuture<Void> loadThrottleDefinitionsAsync() {
+        return new FileContentsQuery()
+            .setFileId(FileId.THROTTLE_DEFINITIONS)
+            .executeAsync(this)
+            .thenApply(contents -> {
+                try {
+                    setThrottleDefinitions(contents.toByteArray());
+                } catch (InvalidProtocolBufferException e) {
+                    throw new IllegalStateException("network returned invalid throttle definitions", e);
+                }
+
+                return null;
+            });
+    }
+
+    /**
+     * Stop pacing requests on the client; they are sent as soon as they are ready.
+     *
+     * @return {@code this}
+     */
+    public synchronized Client clearThrottleDefinitions() {
+        throttle = null;
+        return this;
+    }
+
     public synchronized Client setAutoValidateChecksums(boolean value) {
         autoValidateChecksums = value;
         return this;
@@ -631,6 +755,11 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
      * @param timeout The Duration to be set
      */
     public synchronized void close(Duration timeout) throws TimeoutException {
+        if (topicSubscriptionManager != null) {
+            topicSubscriptionManager.close();
+            topicSubscriptionManager = null;
+        }
+
         network.close(timeout);
         mirrorNetwork.close(timeout);
     }
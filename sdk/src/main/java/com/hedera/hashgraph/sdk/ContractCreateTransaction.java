@@ -11,7 +11,6 @@ import io.grpc.MethodDescriptor;
 import org.threeten.bp.Duration;
 
 import javax.annotation.Nullable;
-import java.util.LinkedHashMap;
 import java.util.Objects;
 
 /**
@@ -78,7 +77,7 @@ public final class ContractCreateTransaction extends Transaction<ContractCreateT
         defaultMaxTransactionFee = new Hbar(20);
     }
 
-    ContractCreateTransaction(LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>> txs) throws InvalidProtocolBufferException {
+    ContractCreateTransaction(TransactionListDecoder.Decoded txs) throws InvalidProtocolBufferException {
         super(txs);
         initFromTransactionBody();
     }
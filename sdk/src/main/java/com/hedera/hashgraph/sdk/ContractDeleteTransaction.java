@@ -9,7 +9,6 @@ import com.hedera.hashgraph.sdk.proto.TransactionResponse;
 import io.grpc.MethodDescriptor;
 
 import javax.annotation.Nullable;
-import java.util.LinkedHashMap;
 import java.util.Objects;
 
 /**
@@ -27,7 +26,7 @@ public final class ContractDeleteTransaction extends Transaction<ContractDeleteT
     public ContractDeleteTransaction() {
     }
 
-    ContractDeleteTransaction(LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>> txs) throws InvalidProtocolBufferException {
+    ContractDeleteTransaction(TransactionListDecoder.Decoded txs) throws InvalidProtocolBufferException {
         super(txs);
         initFromTransactionBody();
     }
@@ -18,6 +18,9 @@ import java.util.List;
  * or {@link ContractExecuteTransaction}, or the result of a contract constructor being called
  * by {@link ContractCreateTransaction}.
  * <p>
+ * To decode tuples, arrays of any type, or many values at once, use an {@link AbiDecoder} for the return types of
+ * the function instead of the getters here.
+ * <p>
  * If you require a type which is not supported here, please let us know on
  * <a href="https://github.com/hashgraph/hedera-sdk-java/issues/298">this Github issue</a>.
  */
@@ -38,7 +41,7 @@ public final class ContractFunctionResult {
 
     public final List<ContractLogInfo> logs;
 
-    private final ByteString rawResult;
+    final ByteString rawResult;
 
     ContractFunctionResult(ContractFunctionResultOrBuilder inner) {
         contractId = ContractId.fromProtobuf(inner.getContractID());
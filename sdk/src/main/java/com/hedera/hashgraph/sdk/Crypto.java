@@ -3,6 +3,7 @@ package com.hedera.hashgraph.sdk;
 import org.bouncycastle.crypto.digests.SHA256Digest;
 import org.bouncycastle.crypto.digests.SHA384Digest;
 import org.bouncycastle.crypto.generators.PKCS5S2ParametersGenerator;
+import org.bouncycastle.crypto.generators.SCrypt;
 import org.bouncycastle.crypto.macs.HMac;
 import org.bouncycastle.crypto.params.KeyParameter;
 
@@ -11,14 +12,17 @@ import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
 import javax.crypto.NoSuchPaddingException;
+import javax.crypto.SecretKeyFactory;
 import javax.crypto.ShortBufferException;
 import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.AlgorithmParameters;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.security.spec.InvalidKeySpecException;
 
 final class Crypto {
     static final int IV_LEN = 16;
@@ -29,16 +33,69 @@ final class Crypto {
     // OpenSSL doesn't like longer derived keys
     static final int CBC_DK_LEN = 16;
 
+    private static final String PBKDF2_SHA256 = "PBKDF2WithHmacSHA256";
+
+    // The PBKDF2 of the platform is several times faster than BouncyCastle's generic one, where it exists
+    private static final boolean PLATFORM_PBKDF2_SHA256 = isAvailable(PBKDF2_SHA256);
+
     private Crypto() {
     }
 
+    private static boolean isAvailable(String secretKeyFactory) {
+        try {
+            SecretKeyFactory.getInstance(secretKeyFactory);
+            return true;
+        } catch (NoSuchAlgorithmException e) {
+            return false;
+        }
+    }
+
     static KeyParameter deriveKeySha256(String passphrase, byte[] salt, int iterations, int dkLenBytes) {
+        KeyParameter platformKey = deriveKeySha256WithPlatform(passphrase, salt, iterations, dkLenBytes);
+
+        if (platformKey != null) {
+            return platformKey;
+        }
+
         PKCS5S2ParametersGenerator gen = new PKCS5S2ParametersGenerator(new SHA256Digest());
         gen.init(passphrase.getBytes(StandardCharsets.UTF_8), salt, iterations);
 
         return (KeyParameter) gen.generateDerivedParameters(dkLenBytes * 8);
     }
 
+    @Nullable
+    private static KeyParameter deriveKeySha256WithPlatform(String passphrase, byte[] salt, int iterations, int dkLenBytes) {
+        // providers differ in how they encode passwords which are not ASCII, and some reject empty passwords or salts;
+        // BouncyCastle derives those the same way everywhere
+        if (!PLATFORM_PBKDF2_SHA256 || passphrase.isEmpty() || !isAscii(passphrase) || salt.length == 0 || iterations < 1) {
+            return null;
+        }
+
+        PBEKeySpec spec = new PBEKeySpec(passphrase.toCharArray(), salt, iterations, dkLenBytes * 8);
+
+        try {
+            return new KeyParameter(SecretKeyFactory.getInstance(PBKDF2_SHA256).generateSecret(spec).getEncoded());
+        } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+            return null;
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    private static boolean isAscii(String passphrase) {
+        for (int i = 0; i < passphrase.length(); i++) {
+            if (passphrase.charAt(i) > 0x7f) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    static KeyParameter deriveKeyScrypt(String passphrase, byte[] salt, int n, int r, int p, int dkLenBytes) {
+        return new KeyParameter(SCrypt.generate(passphrase.getBytes(StandardCharsets.UTF_8), salt, n, r, p, dkLenBytes));
+    }
+
     static Cipher initAesCtr128(KeyParameter cipherKey, byte[] iv, boolean forDecrypt) {
         Cipher aesCipher;
 
@@ -1,5 +1,7 @@
 package com.hedera.hashgraph.sdk;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.errorprone.annotations.Var;
 import io.grpc.CallOptions;
 import io.grpc.MethodDescriptor;
 import io.grpc.StatusRuntimeException;
@@ -176,57 +178,147 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
     }
 
     private CompletableFuture<O> executeAsync(Client client, int attempt, @Nullable Throwable lastException) {
-        if (attempt > maxAttempts) {
-            return CompletableFuture.<O>failedFuture(new Exception("Failed to get gRPC response within maximum retry count", lastException));
+        var execution = new Execution(client, attempt, lastException);
+        execution.run();
+        return execution.result;
+    }
+
+    /**
+     * The retry loop of a single request, flattened into a state machine.
+     * <p>
+     * Each attempt either completes {@link #result} or re-arms itself on the client's
+     * {@link RetryScheduler}, so retrying does not grow a chain of composed futures or the stack.
+     */
+    private final class Execution implements Runnable {
+        final CompletableFuture<O> result = new CompletableFuture<>();
+        private final Client client;
+        private int attempt;
+        @Nullable
+        private Throwable lastException;
+
+        // set once room has been reserved in the client's throttle for the next request sent
+        private boolean reserved = false;
+
+        Execution(Client client, int attempt, @Nullable Throwable lastException) {
+            this.client = client;
+            this.attempt = attempt;
+            this.lastException = lastException;
         }
 
-        var node = nodes.get(nextNodeIndex);
-        node.inUse();
+        @Override
+        public void run() {
+            try {
+                execute();
+            } catch (Throwable error) {
+                result.completeExceptionally(error);
+            }
+        }
 
-        logger.trace("Sending request #{} to node {}: {}", attempt, node.accountId, this);
+        private void execute() {
+            if (attempt > maxAttempts) {
+                result.completeExceptionally(new Exception("Failed to get gRPC response within maximum retry count", lastException));
+                return;
+            }
 
-        if (!node.isHealthy()) {
-            logger.warn("Using unhealthy node {}. Delaying attempt #{} for {} ms", node.accountId, attempt, node.delayUntil);
+            var node = nodes.get(nextNodeIndex);
+            node.inUse();
 
-            return Delayer.delayFor(node.delay(), client.executor)
-                .thenCompose((v) -> executeAsync(client, attempt + 1, lastException));
-        }
+            logger.trace("Sending request #{} to node {}: {}", attempt, node.accountId, Executable.this);
+
+            if (!node.isHealthy()) {
+                logger.warn("Using unhealthy node {}. Delaying attempt #{} for {} ms", node.accountId, attempt, node.delayUntil);
+
+                retryAfter(node.delay(), lastException);
+                return;
+            }
 
-        var methodDescriptor = getMethodDescriptor();
-        var call = node.getChannel().newCall(methodDescriptor, CallOptions.DEFAULT);
-        var request = makeRequest();
+            var methodDescriptor = getMethodDescriptor();
+            var throttle = client.throttle;
+
+            if (throttle != null && !reserved) {
+                reserved = true;
+                var wait = throttle.reserve(methodDescriptor);
+
+                if (wait > 0) {
+                    // queue locally until the network would have room rather than be rejected as BUSY
+                    logger.trace("Throttling attempt #{} to node {} for {} ms", attempt, node.accountId, wait);
+                    client.retryScheduler.schedule(wait, this, result::completeExceptionally);
+                    return;
+                }
+            }
 
-        // advance the internal index
-        // non-free queries and transactions map to more than 1 actual transaction and this will cause
-        // the next invocation of makeRequest to return the _next_ transaction
-        advanceRequest();
+            reserved = false;
 
-        var startAt = System.nanoTime();
+            var call = node.getChannel().newCall(methodDescriptor, CallOptions.DEFAULT);
+            var request = makeRequest();
 
-        return toCompletableFuture(ClientCalls.futureUnaryCall(call, request)).handle((response, error) -> {
+            // advance the internal index
+            // non-free queries and transactions map to more than 1 actual transaction and this will cause
+            // the next invocation of makeRequest to return the _next_ transaction
+            advanceRequest();
+
+            var startAt = System.nanoTime();
+            node.onRequestStarted();
+
+            ListenableFuture<ResponseT> future;
+
+            try {
+                future = ClientCalls.futureUnaryCall(call, request);
+            } catch (Throwable t) {
+                node.onRequestFinished(true);
+                throw t;
+            }
+
+            toCompletableFuture(future).whenComplete((response, error) -> {
+                try {
+                    onResponse(node, request, response, error, startAt);
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            });
+        }
+
+        private void onResponse(Node node, ProtoRequestT request, ResponseT response, @Nullable Throwable error, long startAt) {
             var latency = (double) (System.nanoTime() - startAt) / 1000000000.0;
 
-            // Exponential back-off for Delayer: 250ms, 500ms, 1s, 2s, 4s, 8s, ... 8s
+            // Exponential back-off: 250ms, 500ms, 1s, 2s, 4s, 8s, ... 8s
             long delay = (long) Math.min(minBackoff.toMillis() * Math.pow(2, attempt - 1), maxBackoff.toMillis());
 
+            @Nullable @Var Status responseStatus = null;
+
+            try {
+                if (error == null) {
+                    node.decreaseDelay();
+                    node.recordLatency(latency * 1000.0);
+
+                    responseStatus = mapResponseStatus(response);
+                }
+            } finally {
+                // once per attempt, even if the response could not be mapped; a node too busy to take the
+                // request counts against its error rate
+                node.onRequestFinished(responseStatus == null
+                    || responseStatus == Status.BUSY
+                    || responseStatus == Status.PLATFORM_TRANSACTION_NOT_CREATED);
+            }
+
             if (shouldRetryExceptionally(error)) {
                 logger.warn("Retrying node {} in {} ms after failure during attempt #{}: {}",
                     node.accountId, delay, attempt, error.getMessage());
                 node.increaseDelay();
 
                 // the transaction had a network failure reaching Hedera
-                return executeAsync(client, attempt + 1, error);
+                attempt += 1;
+                lastException = error;
+                run();
+                return;
             }
 
             if (error != null) {
                 // not a network failure, some other weirdness going on; just fail fast
-                return CompletableFuture.<O>failedFuture(error);
+                result.completeExceptionally(error);
+                return;
             }
 
-            node.decreaseDelay();
-
-            var responseStatus = mapResponseStatus(response);
-
             logger.trace("Received {} response in {} s from node {} during attempt #{}: {}",
                 responseStatus, latency, node.accountId, attempt, response);
 
@@ -236,30 +328,31 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
                     // needing a retry let's do this again after a delay
                     logger.warn("Retrying node {} in {} ms after failure during attempt #{}: {}",
                         node.accountId, delay, attempt, responseStatus);
-                    return Delayer.delayFor(delay, client.executor)
-                        .thenCompose(
-                            (v) -> executeAsync(
-                                client,
-                                attempt + 1,
-                                new PrecheckStatusException(responseStatus, getTransactionId())
-                            )
-                        );
+                    retryAfter(delay, new PrecheckStatusException(responseStatus, getTransactionId()));
+                    break;
 
                 case Error:
                     // request to hedera failed in a non-recoverable way
-                    return CompletableFuture.<O>failedFuture(
+                    result.completeExceptionally(
                         mapStatusError(responseStatus,
                             getTransactionId(),
                             response
                         )
                     );
+                    break;
 
                 case Finished:
                 default:
                     // successful response from Hedera
-                    return CompletableFuture.completedFuture(mapResponse(response, node.accountId, request));
+                    result.complete(mapResponse(response, node.accountId, request));
             }
-        }).thenCompose(x -> x);
+        }
+
+        private void retryAfter(long delay, @Nullable Throwable exception) {
+            attempt += 1;
+            lastException = exception;
+            client.retryScheduler.schedule(delay, this, result::completeExceptionally);
+        }
     }
 
     abstract ProtoRequestT makeRequest();
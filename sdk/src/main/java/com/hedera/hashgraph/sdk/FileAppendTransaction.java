@@ -11,7 +11,7 @@ import com.hedera.hashgraph.sdk.proto.TransactionResponse;
 import io.grpc.MethodDescriptor;
 
 import javax.annotation.Nullable;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
 import java.util.Objects;
 
 /**
@@ -31,7 +31,7 @@ public final class FileAppendTransaction extends ChunkedTransaction<FileAppendTr
         defaultMaxTransactionFee = new Hbar(5);
     }
 
-    FileAppendTransaction(LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>> txs) throws InvalidProtocolBufferException {
+    FileAppendTransaction(TransactionListDecoder.Decoded txs) throws InvalidProtocolBufferException {
         super(txs);
         initFromTransactionBody();
     }
@@ -143,9 +143,14 @@ public final class FileAppendTransaction extends ChunkedTransaction<FileAppendTr
             fileId = FileId.fromProtobuf(body.getFileID());
         }
 
+        var chunks = new ArrayList<ByteString>();
+
+        // the first chunk is the source transaction body, which has already been parsed
+        chunks.add(body.getContents());
+
         try {
-            for (var i = 0; i < innerSignedTransactions.size(); i += nodeAccountIds.isEmpty() ? 1 : nodeAccountIds.size()) {
-                data = data.concat(
+            for (var i = nodeAccountIds.isEmpty() ? 1 : nodeAccountIds.size(); i < innerSignedTransactions.size(); i += nodeAccountIds.isEmpty() ? 1 : nodeAccountIds.size()) {
+                chunks.add(
                     TransactionBody.parseFrom(innerSignedTransactions.get(i).getBodyBytes())
                         .getFileAppend().getContents()
                 );
@@ -153,6 +158,8 @@ public final class FileAppendTransaction extends ChunkedTransaction<FileAppendTr
         } catch (InvalidProtocolBufferException exc) {
             throw new IllegalArgumentException(exc.getMessage());
         }
+
+        data = ByteString.copyFrom(chunks);
     }
 
     FileAppendTransactionBody.Builder build() {
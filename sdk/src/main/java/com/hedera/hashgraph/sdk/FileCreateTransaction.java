@@ -13,7 +13,6 @@ import org.threeten.bp.Instant;
 import javax.annotation.Nullable;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.Objects;
 
 /**
@@ -33,7 +32,7 @@ public final class FileCreateTransaction extends Transaction<FileCreateTransacti
         defaultMaxTransactionFee = new Hbar(5);
     }
 
-    FileCreateTransaction(LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>> txs) throws InvalidProtocolBufferException {
+    FileCreateTransaction(TransactionListDecoder.Decoded txs) throws InvalidProtocolBufferException {
         super(txs);
         initFromTransactionBody();
     }
@@ -23,6 +23,10 @@ public final class FileId {
      * The current exchange rate of HBAR to USD.
      */
     public static final FileId EXCHANGE_RATES = new FileId(0, 0, 112);
+    /**
+     * The throttle definitions the network enforces on each type of request.
+     */
+    public static final FileId THROTTLE_DEFINITIONS = new FileId(0, 0, 123);
     /**
      * The shard number
      */
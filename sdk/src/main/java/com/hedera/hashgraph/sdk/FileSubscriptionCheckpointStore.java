@@ -0,0 +1,126 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import org.threeten.bp.Instant;
+import org.threeten.bp.format.DateTimeParseException;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Keeps the checkpoint of each topic in a file named after the topic, as
+ * {@code <consensusTimestamp> <sequenceNumber> <resumeTimestamp>}.
+ * <p>
+ * Only {@code java.io} is used, as {@code java.nio.file} is not available on Android before API 26.
+ */
+final class FileSubscriptionCheckpointStore implements SubscriptionCheckpointStore {
+    private static final String EXTENSION = ".checkpoint";
+
+    private final File directory;
+
+    FileSubscriptionCheckpointStore(File directory) {
+        this.directory = Objects.requireNonNull(directory, "directory must not be null");
+    }
+
+    @Nullable
+    @Override
+    public SubscriptionCheckpoint load(TopicId topicId) throws IOException {
+        @Var byte[] bytes = read(file(topicId));
+
+        if (bytes == null) {
+            // a save was interrupted after moving the previous checkpoint aside
+            bytes = read(previousFile(topicId));
+        }
+
+        if (bytes == null) {
+            return null;
+        }
+
+        var text = new String(bytes, StandardCharsets.UTF_8).trim();
+        var fields = text.split(" ");
+
+        if (fields.length != 3) {
+            throw new IOException("malformed checkpoint for topic " + topicId + ": " + text);
+        }
+
+        try {
+            return new SubscriptionCheckpoint(Instant.parse(fields[0]), Long.parseLong(fields[1]), Instant.parse(fields[2]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IOException("malformed checkpoint for topic " + topicId + ": " + text, e);
+        }
+    }
+
+    @Override
+    public void save(TopicId topicId, SubscriptionCheckpoint checkpoint) throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs() && !directory.isDirectory()) {
+            throw new IOException("failed to create checkpoint directory " + directory);
+        }
+
+        var file = file(topicId);
+        var temporary = new File(directory, topicId + EXTENSION + ".tmp");
+        var text = checkpoint.consensusTimestamp + " " + checkpoint.sequenceNumber + " " + checkpoint.resumeTimestamp + "\n";
+
+        try (var out = new FileOutputStream(temporary)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+
+            // the rename must not be persisted before the contents
+            out.getFD().sync();
+        }
+
+        // the rename replaces the checkpoint atomically where the file system allows it
+        if (temporary.renameTo(file)) {
+            return;
+        }
+
+        // where it can not replace an existing file (e.g. on Windows), move the previous checkpoint aside
+        // first; it is loaded instead if the new checkpoint is not in place yet
+        var previous = previousFile(topicId);
+
+        if (previous.exists() && !previous.delete()) {
+            throw new IOException("failed to delete previous checkpoint " + previous);
+        }
+
+        if (file.exists() && !file.renameTo(previous)) {
+            throw new IOException("failed to move aside checkpoint " + file);
+        }
+
+        if (!temporary.renameTo(file)) {
+            throw new IOException("failed to replace checkpoint " + file);
+        }
+
+        // NOTE: left behind if this fails, but it is only read while the new checkpoint is missing
+        previous.delete();
+    }
+
+    @Nullable
+    private static byte[] read(File file) throws IOException {
+        try (var in = new FileInputStream(file)) {
+            var out = new ByteArrayOutputStream();
+            var buffer = new byte[64];
+            @Var int read;
+
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+
+            return out.toByteArray();
+        } catch (FileNotFoundException e) {
+            return null;
+        }
+    }
+
+    private File file(TopicId topicId) {
+        return new File(directory, topicId.toString() + EXTENSION);
+    }
+
+    private File previousFile(TopicId topicId) {
+        return new File(directory, topicId.toString() + EXTENSION + ".previous");
+    }
+}
@@ -14,7 +14,6 @@ import org.threeten.bp.Instant;
 import javax.annotation.Nullable;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.Objects;
 
 /**
@@ -35,7 +34,7 @@ public final class FileUpdateTransaction extends Transaction<FileUpdateTransacti
     public FileUpdateTransaction() {
     }
 
-    FileUpdateTransaction(LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>> txs) throws InvalidProtocolBufferException {
+    FileUpdateTransaction(TransactionListDecoder.Decoded txs) throws InvalidProtocolBufferException {
         super(txs);
         initFromTransactionBody();
     }
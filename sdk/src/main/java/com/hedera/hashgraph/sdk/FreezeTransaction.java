@@ -13,7 +13,6 @@ import org.threeten.bp.OffsetTime;
 import org.threeten.bp.ZoneOffset;
 
 import javax.annotation.Nullable;
-import java.util.LinkedHashMap;
 import java.util.Objects;
 
 /**
@@ -32,7 +31,7 @@ public final class FreezeTransaction extends Transaction<FreezeTransaction> {
     public FreezeTransaction() {
     }
 
-    FreezeTransaction(LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>> txs) throws InvalidProtocolBufferException {
+    FreezeTransaction(TransactionListDecoder.Decoded txs) throws InvalidProtocolBufferException {
         super(txs);
         initFromTransactionBody();
     }
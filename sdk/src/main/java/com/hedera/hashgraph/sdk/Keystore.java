@@ -13,12 +13,29 @@ import org.bouncycastle.util.encoders.Hex;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
-
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The SDK's own JSON keystore format for a private key.
+ * <p>
+ * Version 2 encrypts the key with AES-128-CTR under a key derived from the passphrase with either PBKDF2
+ * ({@code kdf: "pbkdf2"}) or scrypt ({@code kdf: "scrypt"}), and authenticates the IV and ciphertext with
+ * HMAC-SHA384. It resembles, but is not compatible with, the Web3 Secret Storage format: the derived key length is
+ * {@code dkLen} rather than {@code dklen}, and the MAC is an HMAC-SHA384 rather than a Keccak-256 hash.
+ */
 final class Keystore {
     private static final Gson gson = new Gson();
     private static final JsonParser jsonParser = new JsonParser();
@@ -34,10 +51,99 @@ final class Keystore {
     }
 
     public static Keystore fromStream(InputStream stream, String passphrase) throws IOException {
+        return fromJson(parseJson(stream), passphrase);
+    }
+
+    /**
+     * Decrypt many keystores with the same passphrase; see {@link #fromStreams(List, List, int)}.
+     */
+    public static List<Keystore> fromStreams(
+        List<? extends InputStream> streams,
+        String passphrase,
+        int parallelism
+    ) throws IOException {
+        return fromStreams(streams, Collections.nCopies(streams.size(), passphrase), parallelism);
+    }
+
+    /**
+     * Decrypt many keystores concurrently.
+     * <p>
+     * The streams are read on the calling thread, one after the other. Deriving the key of each keystore, which is
+     * where nearly all of the time goes, is then spread over up to {@code parallelism} threads, which are stopped
+     * before this returns.
+     *
+     * @param streams     the keystores
+     * @param passphrases the passphrase of each keystore, in the same order
+     * @param parallelism the most keystores to decrypt at once
+     * @return the keystores, in the same order
+     * @throws BadKeyException if any keystore could not be decrypted
+     */
+    public static List<Keystore> fromStreams(
+        List<? extends InputStream> streams,
+        List<String> passphrases,
+        int parallelism
+    ) throws IOException {
+        if (passphrases.size() != streams.size()) {
+            throw new IllegalArgumentException(
+                "expected " + streams.size() + " passphrases but got " + passphrases.size());
+        }
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+
+        List<Callable<Keystore>> tasks = new ArrayList<>(streams.size());
+
+        for (int i = 0; i < streams.size(); i++) {
+            JsonObject jsonObject = parseJson(streams.get(i));
+            String passphrase = passphrases.get(i);
+
+            tasks.add(() -> fromJson(jsonObject, passphrase));
+        }
+
+        if (tasks.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, tasks.size()));
+
+        try {
+            List<Keystore> keystores = new ArrayList<>(tasks.size());
+
+            for (Future<Keystore> future : executor.invokeAll(tasks)) {
+                keystores.add(getDecrypted(future));
+            }
+
+            return keystores;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while decrypting keystores");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Keystore getDecrypted(Future<Keystore> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = Objects.requireNonNull(e.getCause());
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new BadKeyException(cause);
+        }
+    }
+
+    private static JsonObject parseJson(InputStream stream) throws IOException {
         try {
-            JsonObject jsonObject = jsonParser.parse(new InputStreamReader(stream, StandardCharsets.UTF_8))
-                .getAsJsonObject();
-            return fromJson(jsonObject, passphrase);
+            return jsonParser.parse(new InputStreamReader(stream, StandardCharsets.UTF_8)).getAsJsonObject();
         } catch (IllegalStateException e) {
             throw new BadKeyException(Optional.ofNullable(e.getMessage()).orElse("failed to parse Keystore"));
         } catch (JsonIOException e) {
@@ -51,9 +157,19 @@ final class Keystore {
     }
 
     private static Keystore fromJson(JsonObject object, String passphrase) {
+        // a field of the wrong type is as malformed as a keystore which does not parse
+        try {
+            return parseKeystore(object, passphrase);
+        } catch (IllegalStateException e) {
+            throw new BadKeyException(Optional.ofNullable(e.getMessage()).orElse("failed to parse Keystore"));
+        } catch (JsonSyntaxException e) {
+            throw new BadKeyException(e);
+        }
+    }
+
+    private static Keystore parseKeystore(JsonObject object, String passphrase) {
         int version = expectInt(object, "version");
 
-        //noinspection SwitchStatementWithTooFewBranches
         switch (version) {
             case 1:
                 return parseKeystoreV1(expectObject(object, "crypto"), passphrase);
@@ -117,25 +233,47 @@ final class Keystore {
             throw new BadKeyException("unsupported keystore cipher: " + cipher);
         }
 
-        if (!kdf.equals("pbkdf2")) {
-            throw new BadKeyException("unsuppported KDF: " + kdf);
-        }
-
         int dkLen = expectInt(kdfParams, "dkLen");
         String saltStr = expectString(kdfParams, "salt");
-        int count = expectInt(kdfParams, "c");
-        String prf = expectString(kdfParams, "prf");
+        byte[] salt = Hex.decode(saltStr);
+        KeyParameter cipherKey;
 
-        if (!prf.equals("hmac-sha256")) {
-            throw new BadKeyException("unsupported KDF hash function: " + prf);
+        switch (kdf) {
+            case "pbkdf2":
+                int count = expectInt(kdfParams, "c");
+                String prf = expectString(kdfParams, "prf");
+
+                if (!prf.equals("hmac-sha256")) {
+                    throw new BadKeyException("unsupported KDF hash function: " + prf);
+                }
+
+                cipherKey = Crypto.deriveKeySha256(passphrase, salt, count, dkLen);
+                break;
+
+            case "scrypt":
+                ScryptParameters scrypt;
+
+                // the parameters come from the file, so their cost is capped before anything is allocated
+                try {
+                    scrypt = new ScryptParameters(expectInt(kdfParams, "n"), expectInt(kdfParams, "r"), expectInt(kdfParams, "p"));
+                } catch (IllegalArgumentException e) {
+                    throw new BadKeyException("invalid scrypt parameters: " + e.getMessage());
+                }
+
+                if (dkLen < 16 || dkLen > 64) {
+                    throw new BadKeyException("invalid derived key length: " + dkLen);
+                }
+
+                cipherKey = Crypto.deriveKeyScrypt(passphrase, salt, scrypt.n, scrypt.r, scrypt.p, dkLen);
+                break;
+
+            default:
+                throw new BadKeyException("unsuppported KDF: " + kdf);
         }
 
         byte[] cipherBytes = Hex.decode(ciphertext);
         byte[] iv = Hex.decode(ivString);
         byte[] mac = Hex.decode(macString);
-        byte[] salt = Hex.decode(saltStr);
-
-        KeyParameter cipherKey = Crypto.deriveKeySha256(passphrase, salt, count, dkLen);
 
         byte[] testHmac = Crypto.calcHmacSha384(cipherKey, iv, cipherBytes);
 
@@ -182,22 +320,59 @@ final class Keystore {
     }
 
     public void export(OutputStream outputStream, String passphrase) throws IOException {
+        write(outputStream, exportJson(passphrase));
+    }
+
+    /**
+     * Export this keystore with its key derived by scrypt instead of PBKDF2. Every guess at the passphrase then
+     * takes {@code 128 * r * n} bytes of memory as well as time.
+     *
+     * @param outputStream the stream to write the keystore to
+     * @param passphrase   the passphrase to encrypt the key with
+     * @param scrypt       the cost parameters of scrypt
+     */
+    public void export(OutputStream outputStream, String passphrase, ScryptParameters scrypt) throws IOException {
+        JsonObject kdfParams = new JsonObject();
+        byte[] salt = Crypto.randomBytes(Crypto.SALT_LEN);
+
+        kdfParams.addProperty("dkLen", Crypto.DK_LEN);
+        kdfParams.addProperty("salt", Hex.toHexString(salt));
+        kdfParams.addProperty("n", scrypt.n);
+        kdfParams.addProperty("r", scrypt.r);
+        kdfParams.addProperty("p", scrypt.p);
+
+        KeyParameter cipherKey = Crypto.deriveKeyScrypt(passphrase, salt, scrypt.n, scrypt.r, scrypt.p, Crypto.DK_LEN);
+
+        write(outputStream, exportJson(2, "scrypt", kdfParams, cipherKey));
+    }
+
+    private static void write(OutputStream outputStream, JsonObject object) throws IOException {
         JsonWriter writer = new JsonWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
-        gson.toJson(exportJson(passphrase), writer);
+        gson.toJson(object, writer);
         writer.flush();
     }
 
     private JsonObject exportJson(String passphrase) {
+        byte[] salt = Crypto.randomBytes(Crypto.SALT_LEN);
+
+        KeyParameter cipherKey = Crypto.deriveKeySha256(passphrase, salt, Crypto.ITERATIONS, Crypto.DK_LEN);
+
+        JsonObject kdfParams = new JsonObject();
+        kdfParams.addProperty("dkLen", Crypto.DK_LEN);
+        kdfParams.addProperty("salt", Hex.toHexString(salt));
+        kdfParams.addProperty("c", Crypto.ITERATIONS);
+        kdfParams.addProperty("prf", "hmac-sha256");
+
+        return exportJson(2, "pbkdf2", kdfParams, cipherKey);
+    }
+
+    private JsonObject exportJson(int version, String kdf, JsonObject kdfParams, KeyParameter cipherKey) {
         JsonObject object = new JsonObject();
-        object.addProperty("version", 2);
+        object.addProperty("version", version);
 
         JsonObject crypto = new JsonObject();
         crypto.addProperty("cipher", "aes-128-ctr");
-        crypto.addProperty("kdf", "pbkdf2");
-
-        byte[] salt = Crypto.randomBytes(Crypto.SALT_LEN);
-
-        KeyParameter cipherKey = Crypto.deriveKeySha256(passphrase, salt, Crypto.ITERATIONS, Crypto.DK_LEN);
+        crypto.addProperty("kdf", kdf);
 
         byte[] iv = Crypto.randomBytes(Crypto.IV_LEN);
 
@@ -208,12 +383,6 @@ final class Keystore {
         JsonObject cipherParams = new JsonObject();
         cipherParams.addProperty("iv", Hex.toHexString(iv));
 
-        JsonObject kdfParams = new JsonObject();
-        kdfParams.addProperty("dkLen", Crypto.DK_LEN);
-        kdfParams.addProperty("salt", Hex.toHexString(salt));
-        kdfParams.addProperty("c", Crypto.ITERATIONS);
-        kdfParams.addProperty("prf", "hmac-sha256");
-
         crypto.add("cipherparams", cipherParams);
         crypto.addProperty("ciphertext", Hex.toHexString(cipherBytes));
         crypto.add("kdfparams", kdfParams);
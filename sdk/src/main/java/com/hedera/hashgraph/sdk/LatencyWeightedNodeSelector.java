@@ -0,0 +1,101 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Samples healthy nodes without replacement, weighting each by the inverse of its average latency scaled by its
+ * recent success rate.
+ * <p>
+ * Nodes that have not been measured yet are weighted as if they had the mean latency of the measured nodes so
+ * they still get traffic and a measurement. Unhealthy nodes are only used to fill remaining slots, soonest to
+ * recover first.
+ */
+final class LatencyWeightedNodeSelector implements NodeSelector {
+    // Latencies below this are treated as equal so a single very fast sample cannot take all the traffic
+    private static final double MIN_LATENCY_MILLIS = 1.0;
+
+    // A node failing every request keeps this share of its weight so it is still probed for recovery
+    private static final double MIN_SUCCESS_RATE = 0.05;
+
+    @Override
+    public List<AccountId> select(List<? extends Candidate> candidates, int count) {
+        var size = candidates.size();
+        var selected = new ArrayList<AccountId>(count);
+
+        if (size == 0 || count <= 0) {
+            return selected;
+        }
+
+        var now = System.currentTimeMillis();
+        var healthy = new ArrayList<Candidate>(size);
+        var unhealthy = new ArrayList<Candidate>();
+
+        @Var var latencySum = 0.0;
+        @Var var measured = 0;
+
+        for (var candidate : candidates) {
+            if (candidate.getUnhealthyUntil() < now) {
+                healthy.add(candidate);
+            } else {
+                unhealthy.add(candidate);
+            }
+
+            if (candidate.getAverageLatency() > 0) {
+                latencySum += candidate.getAverageLatency();
+                measured++;
+            }
+        }
+
+        var defaultLatency = measured > 0 ? latencySum / measured : MIN_LATENCY_MILLIS;
+        var weights = new double[healthy.size()];
+        @Var var totalWeight = 0.0;
+
+        for (var i = 0; i < weights.length; i++) {
+            var candidate = healthy.get(i);
+            var latency = candidate.getAverageLatency();
+            var successRate = Math.max(1.0 - candidate.getErrorRate(), MIN_SUCCESS_RATE);
+
+            weights[i] = successRate / Math.max(latency > 0 ? latency : defaultLatency, MIN_LATENCY_MILLIS);
+            totalWeight += weights[i];
+        }
+
+        var random = ThreadLocalRandom.current();
+
+        for (var left = weights.length; selected.size() < count && left > 0; left--) {
+            var target = random.nextDouble() * totalWeight;
+            @Var var chosen = left - 1;
+            @Var var cumulative = 0.0;
+
+            for (var i = 0; i < left; i++) {
+                cumulative += weights[i];
+
+                if (target < cumulative) {
+                    chosen = i;
+                    break;
+                }
+            }
+
+            selected.add(healthy.get(chosen).getAccountId());
+
+            // swap the chosen node out of the live range [0, left)
+            totalWeight -= weights[chosen];
+            weights[chosen] = weights[left - 1];
+            healthy.set(chosen, healthy.get(left - 1));
+        }
+
+        if (selected.size() < count) {
+            Collections.sort(unhealthy, (a, b) -> Long.compare(a.getUnhealthyUntil(), b.getUnhealthyUntil()));
+
+            for (var i = 0; i < unhealthy.size() && selected.size() < count; i++) {
+                selected.add(unhealthy.get(i).getAccountId());
+            }
+        }
+
+        return selected;
+    }
+}
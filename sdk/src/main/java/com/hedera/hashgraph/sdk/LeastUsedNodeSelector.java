@@ -0,0 +1,63 @@
+package com.hedera.hashgraph.sdk;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Sorts nodes by health, then use count, then last use and takes the first {@code count}.
+ * <p>
+ * This is the selection the SDK has always made; the sort keys are captured once per call so the comparator
+ * does not read the clock.
+ */
+final class LeastUsedNodeSelector implements NodeSelector {
+    private static final Comparator<Entry> COMPARATOR = new Comparator<Entry>() {
+        @Override
+        public int compare(Entry a, Entry b) {
+            if (a.healthy != b.healthy) {
+                return a.healthy ? -1 : 1;
+            }
+
+            if (a.useCount != b.useCount) {
+                return a.useCount < b.useCount ? -1 : 1;
+            }
+
+            return Long.compare(a.lastUsed, b.lastUsed);
+        }
+    };
+
+    @Override
+    public List<AccountId> select(List<? extends Candidate> candidates, int count) {
+        var now = System.currentTimeMillis();
+        var entries = new Entry[candidates.size()];
+
+        for (var i = 0; i < entries.length; i++) {
+            entries[i] = new Entry(candidates.get(i), now);
+        }
+
+        Arrays.sort(entries, COMPARATOR);
+
+        var selected = new ArrayList<AccountId>(count);
+
+        for (var i = 0; i < count && i < entries.length; i++) {
+            selected.add(entries[i].accountId);
+        }
+
+        return selected;
+    }
+
+    private static final class Entry {
+        final AccountId accountId;
+        final boolean healthy;
+        final long useCount;
+        final long lastUsed;
+
+        Entry(Candidate candidate, long now) {
+            accountId = candidate.getAccountId();
+            healthy = candidate.getUnhealthyUntil() < now;
+            useCount = candidate.getUseCount();
+            lastUsed = candidate.getLastUsed();
+        }
+    }
+}
@@ -13,7 +13,6 @@ import org.threeten.bp.Duration;
 
 import javax.annotation.Nullable;
 import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.Objects;
 
 /**
@@ -32,7 +31,7 @@ public final class LiveHashAddTransaction extends Transaction<LiveHashAddTransac
     public LiveHashAddTransaction() {
     }
 
-    LiveHashAddTransaction(LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>> txs) throws InvalidProtocolBufferException {
+    LiveHashAddTransaction(TransactionListDecoder.Decoded txs) throws InvalidProtocolBufferException {
         super(txs);
         initFromTransactionBody();
     }
@@ -13,8 +13,8 @@ abstract class ManagedNode {
     private static final String IN_PROCESS = "in-process:";
     final ExecutorService executor;
     String address;
-    long lastUsed = 0;
-    long useCount = 0;
+    volatile long lastUsed = 0;
+    volatile long useCount = 0;
 
     @Nullable
     ManagedChannel channel = null;
@@ -19,6 +19,8 @@ import java.nio.IntBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
 
@@ -43,6 +45,9 @@ public final class Mnemonic {
     @Nullable
     private String asString;
 
+    // The keys recovered from this mnemonic by passphrase, least recently used first; see setKeyCacheSize()
+    private final LinkedHashMap<String, PrivateKey> keyCache = new LinkedHashMap<>(16, 0.75f, true);
+    private int keyCacheSize = 0;
 
     private Mnemonic(List<? extends CharSequence> words) {
         if (words.size() == 22) {
@@ -317,6 +322,79 @@ public final class Mnemonic {
         return toPrivateKey("");
     }
 
+    /**
+     * @return the number of passphrases the recovered keys are kept for; {@code 0} if they are not kept
+     */
+    public synchronized int getKeyCacheSize() {
+        return keyCacheSize;
+    }
+
+    /**
+     * Keep the keys recovered from this mnemonic for up to {@code keyCacheSize} passphrases, so that
+     * {@link #toPrivateKey(String)} does not run the 2048 rounds of PBKDF2 and derive the BIP-44 path again for
+     * the same passphrase. The least recently used passphrase is evicted first.
+     * <p>
+     * Keys are not kept by default. Kept keys, and their passphrases, stay in memory until they are evicted or
+     * {@link #clearKeyCache()} is called.
+     *
+     * @param keyCacheSize the number of passphrases to keep the keys for, or {@code 0} to not keep them
+     * @return {@code this}
+     */
+    public synchronized Mnemonic setKeyCacheSize(int keyCacheSize) {
+        if (keyCacheSize < 0) {
+            throw new IllegalArgumentException("keyCacheSize must not be negative");
+        }
+
+        this.keyCacheSize = keyCacheSize;
+        trimKeyCache();
+
+        return this;
+    }
+
+    /**
+     * Forget every key kept for this mnemonic.
+     */
+    public synchronized void clearKeyCache() {
+        keyCache.clear();
+    }
+
+    /**
+     * Recover the derivable key of the BIP-44 path {@code 44'/3030'/0'/0'} for a passphrase, from the cache if it
+     * is kept.
+     */
+    PrivateKey toDerivableKey(String passphrase) {
+        synchronized (this) {
+            var cached = keyCache.get(passphrase);
+
+            if (cached != null) {
+                // every caller gets its own key, as PrivateKey#toBytes() hands out the key bytes and a caller
+                // may zero them once it is done with the key
+                return cached.copy();
+            }
+        }
+
+        // derive outside of the lock, it is the slow part
+        var key = PrivateKey.fromSeed(toSeed(passphrase));
+
+        synchronized (this) {
+            if (keyCacheSize > 0) {
+                keyCache.put(passphrase, key.copy());
+                trimKeyCache();
+            }
+        }
+
+        return key;
+    }
+
+    private void trimKeyCache() {
+        Iterator<String> passphrases = keyCache.keySet().iterator();
+
+        while (keyCache.size() > keyCacheSize) {
+            passphrases.next();
+            passphrases.remove();
+        }
+    }
+
     private void validate() throws BadMnemonicException {
         if (words.size() != 24 && words.size() != 12) {
             throw new BadMnemonicException(this, BadMnemonicReason.BadLength);
@@ -1,6 +1,7 @@
 package com.hedera.hashgraph.sdk;
 
 import com.google.common.collect.HashBiMap;
+import com.google.errorprone.annotations.Var;
 import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
 
@@ -11,6 +12,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
@@ -21,11 +23,13 @@ class Network {
     final ExecutorService executor;
     final Semaphore lock = new Semaphore(1);
     HashMap<String, AccountId> network = new HashMap<>();
-    HashMap<AccountId, Node> networkNodes = new HashMap<>();
+    Map<AccountId, Node> networkNodes = new ConcurrentHashMap<>();
     @Nullable
     NetworkName networkName = null;
 
-    List<Node> nodes = new ArrayList<>();
+    // Replaced, never mutated, while holding `lock` so that node selection can read it without locking
+    volatile List<Node> nodes = Collections.emptyList();
+    volatile NodeSelector nodeSelector = NodeSelector.leastUsed();
     @Nullable
     Integer maxNodesPerTransaction = null;
     private int maxNodeAttempts = DEFAULT_MAX_NODE_ATTEMPTS;
@@ -50,13 +54,16 @@ class Network {
         if (this.network.isEmpty()) {
             this.network = new HashMap<>(network);
 
+            var newNodes = new ArrayList<Node>(network.size());
+
             for (var entry : network.entrySet()) {
                 var node = new Node(entry.getValue(), entry.getKey(), nodeWaitTime.toMillis(), executor);
                 this.networkNodes.put(entry.getValue(), node);
-                this.nodes.add(node);
+                newNodes.add(node);
             }
 
-            Collections.shuffle(nodes);
+            Collections.shuffle(newNodes);
+            this.nodes = Collections.unmodifiableList(newNodes);
 
             lock.release();
             return;
@@ -66,6 +73,7 @@ class Network {
         var inverted = HashBiMap.create(network).inverse();
         var newNodeAccountIds = network.values();
         var stopAt = Instant.now().getEpochSecond() + Duration.ofSeconds(30).getSeconds();
+        var nodes = new ArrayList<Node>(this.nodes);
 
         // Remove nodes that don't exist in new network or that have a different
         // address for the same AccountId
@@ -97,45 +105,64 @@ class Network {
         }
 
         Collections.shuffle(nodes);
+        this.nodes = Collections.unmodifiableList(nodes);
 
         lock.release();
     }
 
 
     /**
-     * Pick 1/3 of the nodes sorted by health and expected delay from the network.
+     * Pick 1/3 of the nodes from the network using the configured {@link NodeSelector}.
      * This is used by Query and Transaction for selecting node AccountId's.
+     * <p>
+     * Selection works on a snapshot of the node list and only takes the network lock when nodes
+     * which have surpassed max attempts need to be removed.
      *
      * @return {@link java.util.List<com.hedera.hashgraph.sdk.AccountId>}
      */
     List<AccountId> getNodeAccountIdsForExecute() throws InterruptedException {
+        if (maxNodeAttempts > 0) {
+            removeNodesOverMaxAttempts();
+        }
+
+        var nodes = this.nodes;
+
+        return nodeSelector.select(nodes, getNumberOfNodesForTransaction(nodes.size()));
+    }
+
+    private void removeNodesOverMaxAttempts() throws InterruptedException {
+        @Var var found = false;
+
+        for (var node : nodes) {
+            if (node.attempts >= maxNodeAttempts) {
+                found = true;
+                break;
+            }
+        }
+
+        if (!found) {
+            return;
+        }
+
         lock.acquire();
 
-        Collections.sort(nodes);
+        try {
+            var remaining = new ArrayList<Node>(nodes.size());
 
-        // Remove nodes which have surpassed max attempts
-        if (maxNodeAttempts > 0) {
-            for (var i = 0; i < nodes.size(); i++) {
-                var node = Objects.requireNonNull(nodes.get(i));
+            for (var node : nodes) {
                 if (node.attempts >= maxNodeAttempts) {
                     node.close(30);
-                    nodes.remove(i);
                     network.remove(node.address);
                     networkNodes.remove(node.accountId);
-                    i--;
+                } else {
+                    remaining.add(node);
                 }
             }
-        }
-
-        List<AccountId> resultNodeAccountIds = new ArrayList<>();
 
-        for (int i = 0; i < getNumberOfNodesForTransaction(); i++) {
-            resultNodeAccountIds.add(nodes.get(i).accountId);
+            nodes = Collections.unmodifiableList(remaining);
+        } finally {
+            lock.release();
         }
-
-        lock.release();
-
-        return resultNodeAccountIds;
     }
 
     void setMaxNodesPerTransaction(int maxNodesPerTransaction) {
@@ -161,11 +188,25 @@ class Network {
         }
     }
 
+    void setNodeSelector(NodeSelector nodeSelector) {
+        this.nodeSelector = nodeSelector;
+    }
+
+    NodeSelector getNodeSelector() {
+        return nodeSelector;
+    }
+
     int getNumberOfNodesForTransaction() {
+        return getNumberOfNodesForTransaction(nodes.size());
+    }
+
+    private int getNumberOfNodesForTransaction(int size) {
+        var maxNodesPerTransaction = this.maxNodesPerTransaction;
+
         if (maxNodesPerTransaction != null) {
-            return Math.min(maxNodesPerTransaction, nodes.size());
+            return Math.min(maxNodesPerTransaction, size);
         } else {
-            return (nodes.size() + 3 - 1) / 3;
+            return (size + 3 - 1) / 3;
         }
     }
 
@@ -200,7 +241,7 @@ class Network {
             }
         }
 
-        nodes.clear();
+        nodes = Collections.emptyList();
         networkNodes.clear();
         network.clear();
 
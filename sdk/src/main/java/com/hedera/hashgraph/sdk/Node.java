@@ -1,14 +1,24 @@
 package com.hedera.hashgraph.sdk;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class Node extends ManagedNode implements NodeSelector.Candidate {
+    // Weight given to each new latency sample in the moving average
+    private static final double LATENCY_ALPHA = 0.2;
 
-class Node extends ManagedNode implements Comparable<Node> {
     AccountId accountId;
     long delay;
-    long delayUntil;
+    volatile long delayUntil;
     long waitTime;
     long attempts;
 
+    // Double bits of the latency moving average in milliseconds, updated without locking
+    private final AtomicLong averageLatency = new AtomicLong(Double.doubleToLongBits(0.0));
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final SlidingErrorRate errorRate = new SlidingErrorRate();
+
     Node(AccountId accountId, String address, long waitTime, ExecutorService executor) {
         super(address, executor);
 
@@ -46,35 +56,91 @@ class Node extends ManagedNode implements Comparable<Node> {
         return delayUntil - System.currentTimeMillis();
     }
 
-    @Override
-    public int compareTo(Node node) {
-        if (this.isHealthy() && node.isHealthy()) {
-            return compareToSameHealth(node);
-        } else if (this.isHealthy() && !node.isHealthy()) {
-            return -1;
-        } else if (!this.isHealthy() && node.isHealthy()) {
-            return 1;
-        } else {
-            return compareToSameHealth(node);
-        }
+    /**
+     * Called just before a request is sent to this node.
+     */
+    void onRequestStarted() {
+        inFlight.incrementAndGet();
     }
 
-    private int compareToSameHealth(Node node) {
-        if (this.useCount < node.useCount) {
-            return -1;
-        } else if (this.useCount > node.useCount) {
-            return 1;
-        } else {
-            if (this.lastUsed < node.lastUsed) {
-                return -1;
-            } else if (this.lastUsed > node.lastUsed) {
-                return 1;
-            } else {
-                return 0;
+    /**
+     * Called once a request sent to this node has completed, successfully or not.
+     *
+     * @param failed whether the node failed to serve the request
+     */
+    void onRequestFinished(boolean failed) {
+        inFlight.decrementAndGet();
+        errorRate.record(failed);
+    }
+
+    /**
+     * Fold a measured round trip into the latency moving average.
+     *
+     * @param latencyMillis the measured latency in milliseconds
+     */
+    void recordLatency(double latencyMillis) {
+        while (true) {
+            var current = averageLatency.get();
+            var average = Double.longBitsToDouble(current);
+
+            // the first sample seeds the average
+            var next = average == 0.0 ? latencyMillis : average + LATENCY_ALPHA * (latencyMillis - average);
+
+            if (averageLatency.compareAndSet(current, Double.doubleToLongBits(next))) {
+                return;
             }
         }
     }
 
+    @Override
+    public AccountId getAccountId() {
+        return accountId;
+    }
+
+    @Override
+    public long getUnhealthyUntil() {
+        return delayUntil;
+    }
+
+    @Override
+    public long getUseCount() {
+        return useCount;
+    }
+
+    @Override
+    public long getLastUsed() {
+        return lastUsed;
+    }
+
+    @Override
+    public double getAverageLatency() {
+        return Double.longBitsToDouble(averageLatency.get());
+    }
+
+    @Override
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    @Override
+    public double getErrorRate() {
+        return errorRate.getErrorRate();
+    }
+
+    NodeStats getStats() {
+        return new NodeStats(
+            accountId,
+            address,
+            isHealthy(),
+            getAverageLatency(),
+            getInFlight(),
+            getErrorRate(),
+            errorRate.getRequestCount(),
+            useCount,
+            lastUsed
+        );
+    }
+
     @Override
     public String toString() {
         return accountId.toString();
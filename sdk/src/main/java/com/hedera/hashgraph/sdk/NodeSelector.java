@@ -0,0 +1,98 @@
+package com.hedera.hashgraph.sdk;
+
+import java.util.List;
+
+/**
+ * Strategy used by a {@link Client} to pick the nodes a transaction or query is prepared for.
+ * <p>
+ * A selector is invoked every time a request is frozen without explicit node account IDs, possibly from many
+ * threads at once, so implementations must be thread-safe and should avoid blocking.
+ *
+ * @see Client#setNodeSelector(NodeSelector)
+ */
+public interface NodeSelector {
+    /**
+     * The default strategy: healthy nodes first, then the least used and least recently used nodes.
+     *
+     * @return {@link NodeSelector}
+     */
+    static NodeSelector leastUsed() {
+        return new LeastUsedNodeSelector();
+    }
+
+    /**
+     * Cycle through the nodes of the network in order, skipping nodes that are currently unhealthy.
+     *
+     * @return {@link NodeSelector}
+     */
+    static NodeSelector roundRobin() {
+        return new RoundRobinNodeSelector();
+    }
+
+    /**
+     * For each slot, sample two random nodes and keep the one with fewer requests in flight.
+     *
+     * @return {@link NodeSelector}
+     */
+    static NodeSelector powerOfTwoChoices() {
+        return new PowerOfTwoChoicesNodeSelector();
+    }
+
+    /**
+     * Randomly pick nodes weighted by the inverse of their observed latency and by their recent success rate so
+     * that slow or failing nodes are chosen less often without being starved entirely.
+     *
+     * @return {@link NodeSelector}
+     */
+    static NodeSelector latencyWeighted() {
+        return new LatencyWeightedNodeSelector();
+    }
+
+    /**
+     * Choose up to {@code count} distinct nodes from {@code candidates}.
+     *
+     * @param candidates the nodes currently in the network; must not be modified
+     * @param count      the number of nodes to choose, never more than {@code candidates.size()}
+     * @return the account IDs of the chosen nodes in the order they should be tried
+     */
+    List<AccountId> select(List<? extends Candidate> candidates, int count);
+
+    /**
+     * A read-only view of a node offered to a {@link NodeSelector}.
+     */
+    interface Candidate {
+        AccountId getAccountId();
+
+        /**
+         * @return the time in milliseconds since the epoch until which this node should not be used; in the past
+         * when the node is healthy
+         */
+        long getUnhealthyUntil();
+
+        /**
+         * @return the number of times this node has been sent a request
+         */
+        long getUseCount();
+
+        /**
+         * @return the time in milliseconds since the epoch at which this node was last sent a request
+         */
+        long getLastUsed();
+
+        /**
+         * @return the exponentially weighted moving average of this node's response latency in milliseconds, or
+         * {@code 0} if no response has been measured yet
+         */
+        double getAverageLatency();
+
+        /**
+         * @return the number of requests sent to this node which have not completed yet
+         */
+        int getInFlight();
+
+        /**
+         * @return the fraction of recent requests this node failed to serve, between {@code 0} and {@code 1}
+         */
+        double getErrorRate();
+    }
+}
@@ -0,0 +1,94 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * A snapshot of the statistics a {@link Client} keeps about a single node.
+ *
+ * @see Client#getNodeStats()
+ */
+public final class NodeStats {
+    /**
+     * The account ID of the node.
+     */
+    public final AccountId accountId;
+
+    /**
+     * The address of the node.
+     */
+    public final String address;
+
+    /**
+     * Whether the node is currently considered healthy; unhealthy nodes are backed off from until they recover.
+     */
+    public final boolean healthy;
+
+    /**
+     * The exponentially weighted moving average of the node's response latency in milliseconds, or {@code 0} if
+     * no response has been measured yet.
+     */
+    public final double averageLatency;
+
+    /**
+     * The number of requests sent to the node which have not completed yet.
+     */
+    public final int inFlight;
+
+    /**
+     * The fraction of requests over the last few seconds which the node failed to serve, between {@code 0} and
+     * {@code 1}.
+     */
+    public final double errorRate;
+
+    /**
+     * The number of requests over the last few seconds from which {@link #errorRate} is computed.
+     */
+    public final long recentRequests;
+
+    /**
+     * The total number of times the node has been sent a request.
+     */
+    public final long useCount;
+
+    /**
+     * The time in milliseconds since the epoch at which the node was last sent a request.
+     */
+    public final long lastUsed;
+
+    NodeStats(
+        AccountId accountId,
+        String address,
+        boolean healthy,
+        double averageLatency,
+        int inFlight,
+        double errorRate,
+        long recentRequests,
+        long useCount,
+        long lastUsed
+    ) {
+        this.accountId = accountId;
+        this.address = address;
+        this.healthy = healthy;
+        this.averageLatency = averageLatency;
+        this.inFlight = inFlight;
+        this.errorRate = errorRate;
+        this.recentRequests = recentRequests;
+        this.useCount = useCount;
+        this.lastUsed = lastUsed;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("accountId", accountId)
+            .add("address", address)
+            .add("healthy", healthy)
+            .add("averageLatency", averageLatency)
+            .add("inFlight", inFlight)
+            .add("errorRate", errorRate)
+            .add("recentRequests", recentRequests)
+            .add("useCount", useCount)
+            .add("lastUsed", lastUsed)
+            .toString();
+    }
+}
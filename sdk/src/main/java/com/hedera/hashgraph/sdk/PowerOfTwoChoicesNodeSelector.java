@@ -0,0 +1,82 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Fills each slot by sampling two of the remaining nodes at random and keeping the one with the lighter load:
+ * fewer requests in flight, then fewer requests overall, then lower latency.
+ * Healthy nodes are exhausted before any unhealthy node is sampled.
+ * <p>
+ * This spreads requests nearly as evenly as sorting the whole network while only ever looking at two nodes.
+ */
+final class PowerOfTwoChoicesNodeSelector implements NodeSelector {
+    @Override
+    public List<AccountId> select(List<? extends Candidate> candidates, int count) {
+        var size = candidates.size();
+        var selected = new ArrayList<AccountId>(count);
+
+        if (size == 0 || count <= 0) {
+            return selected;
+        }
+
+        var now = System.currentTimeMillis();
+        var healthy = new int[size];
+        var unhealthy = new int[size];
+        @Var var healthyCount = 0;
+        @Var var unhealthyCount = 0;
+
+        for (var i = 0; i < size; i++) {
+            if (candidates.get(i).getUnhealthyUntil() < now) {
+                healthy[healthyCount++] = i;
+            } else {
+                unhealthy[unhealthyCount++] = i;
+            }
+        }
+
+        // unhealthy nodes are only sampled once every healthy node has been chosen
+        choose(candidates, healthy, healthyCount, count, selected);
+        choose(candidates, unhealthy, unhealthyCount, count, selected);
+
+        return selected;
+    }
+
+    /**
+     * Move nodes from {@code remaining[0..left)} into {@code selected} until it holds {@code count} nodes.
+     */
+    private static void choose(List<? extends Candidate> candidates, int[] remaining, int left, int count, List<AccountId> selected) {
+        var random = ThreadLocalRandom.current();
+
+        for (var live = left; selected.size() < count && live > 0; live--) {
+            var first = random.nextInt(live);
+            @Var var chosen = first;
+
+            if (live > 1) {
+                // pick a second, distinct position
+                var second = (first + 1 + random.nextInt(live - 1)) % live;
+
+                if (isBetter(candidates.get(remaining[second]), candidates.get(remaining[first]))) {
+                    chosen = second;
+                }
+            }
+
+            selected.add(candidates.get(remaining[chosen]).getAccountId());
+            remaining[chosen] = remaining[live - 1];
+        }
+    }
+
+    private static boolean isBetter(Candidate a, Candidate b) {
+        if (a.getInFlight() != b.getInFlight()) {
+            return a.getInFlight() < b.getInFlight();
+        }
+
+        if (a.getUseCount() != b.getUseCount()) {
+            return a.getUseCount() < b.getUseCount();
+        }
+
+        return a.getAverageLatency() < b.getAverageLatency();
+    }
+}
@@ -15,12 +15,19 @@ import org.bouncycastle.util.encoders.Hex;
 
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * A private key on the Hedera™ network.
@@ -31,15 +38,22 @@ public final class PrivateKey extends Key {
     @Nullable
     private final KeyParameter chainCode;
 
-    // Cache the derivation of the public key
+    // Cache the derivation of the public key, which every signature needs
     @Nullable
-    private PublicKey publicKey;
+    private SigningContext signingContext;
 
     PrivateKey(byte[] keyData, @Nullable KeyParameter chainCode) {
         this.keyData = keyData;
         this.chainCode = chainCode;
     }
 
+    /**
+     * @return a key with its own copy of the key bytes and chain code, which nothing done to this key affects
+     */
+    PrivateKey copy() {
+        return new PrivateKey(keyData.clone(), chainCode != null ? new KeyParameter(chainCode.getKey()) : null);
+    }
+
     /**
      * Generates a new <a href="https://ed25519.cr.yp.to/">Ed25519</a> private key.
      *
@@ -66,8 +80,13 @@ public final class PrivateKey extends Key {
      * for default account)
      */
     public static PrivateKey fromMnemonic(Mnemonic mnemonic, String passphrase) {
-        var seed = mnemonic.toSeed(passphrase);
+        return mnemonic.toDerivableKey(passphrase);
+    }
 
+    /**
+     * Derive the key of the BIP-44 path {@code 44'/3030'/0'/0'} from a BIP-39 seed.
+     */
+    static PrivateKey fromSeed(byte[] seed) {
         var hmacSha512 = new HMac(new SHA512Digest());
         hmacSha512.init(new KeyParameter("ed25519 seed".getBytes(StandardCharsets.UTF_8)));
         hmacSha512.update(seed, 0, seed.length);
@@ -210,6 +229,71 @@ public final class PrivateKey extends Key {
         return readPem(new StringReader(encodedPem), password);
     }
 
+    /**
+     * Decrypt a private key from a keystore.
+     *
+     * @param stream     the keystore
+     * @param passphrase the passphrase the keystore was written with
+     * @return {@link com.hedera.hashgraph.sdk.PrivateKey}
+     * @throws IOException     if one occurred while reading the keystore
+     * @throws BadKeyException if the keystore is malformed, its cost is too high or the passphrase is wrong
+     * @see #writeKeystore(OutputStream, String)
+     */
+    public static PrivateKey readKeystore(InputStream stream, String passphrase) throws IOException {
+        return Keystore.fromStream(stream, passphrase).getEd25519();
+    }
+
+    /**
+     * Decrypt the private keys of many keystores which share a passphrase.
+     *
+     * @param streams     the keystores
+     * @param passphrase  the passphrase every keystore was written with
+     * @param parallelism the most keystores to decrypt at once
+     * @return the keys, in the same order as the keystores
+     * @throws IOException     if one occurred while reading a keystore
+     * @throws BadKeyException if any keystore is malformed, its cost is too high or the passphrase is wrong
+     * @see #readKeystores(List, List, int)
+     */
+    public static List<PrivateKey> readKeystores(
+        List<? extends InputStream> streams,
+        String passphrase,
+        int parallelism
+    ) throws IOException {
+        return toPrivateKeys(Keystore.fromStreams(streams, passphrase, parallelism));
+    }
+
+    /**
+     * Decrypt the private keys of many keystores concurrently.
+     * <p>
+     * The keystores are read on the calling thread, one after the other. Deriving the key of each keystore from
+     * its passphrase, which is where nearly all of the time goes, is then spread over up to {@code parallelism}
+     * threads, which are stopped before this returns.
+     *
+     * @param streams     the keystores
+     * @param passphrases the passphrase of each keystore, in the same order
+     * @param parallelism the most keystores to decrypt at once
+     * @return the keys, in the same order as the keystores
+     * @throws IOException     if one occurred while reading a keystore
+     * @throws BadKeyException if any keystore is malformed, its cost is too high or its passphrase is wrong
+     */
+    public static List<PrivateKey> readKeystores(
+        List<? extends InputStream> streams,
+        List<String> passphrases,
+        int parallelism
+    ) throws IOException {
+        return toPrivateKeys(Keystore.fromStreams(streams, passphrases, parallelism));
+    }
+
+    private static List<PrivateKey> toPrivateKeys(List<Keystore> keystores) {
+        var keys = new ArrayList<PrivateKey>(keystores.size());
+
+        for (var keystore : keystores) {
+            keys.add(keystore.getEd25519());
+        }
+
+        return keys;
+    }
+
     static byte[] legacyDeriveChildKey(byte[] entropy, Long index) {
         byte[] seed = new byte[entropy.length + 8];
         Arrays.fill(seed, 0, seed.length, (byte) 0);
@@ -272,30 +356,70 @@ public final class PrivateKey extends Key {
      * @see #isDerivable()
      */
     public PrivateKey derive(int index) {
-        if (this.chainCode == null) {
-            throw new IllegalStateException("this private key does not support derivation");
-        }
+        return new ChildKeyDeriver(requireChainCode(), keyData).derive(index);
+    }
 
-        // SLIP-10 child key derivation
-        // https://github.com/satoshilabs/slips/blob/master/slip-0010.md#master-key-generation
-        var hmacSha512 = new HMac(new SHA512Digest());
+    /**
+     * Derive the child keys for a range of wallet/account indexes, as {@link #derive(int)} would.
+     * <p>
+     * The HMAC state of this key is computed once and shared by every child, which halves the cost of deriving each
+     * one.
+     *
+     * @param start the first index to derive
+     * @param count the number of consecutive indexes to derive
+     * @return the derived keys, in order of index
+     * @throws IllegalStateException if this key does not support derivation.
+     * @see #deriveRange(int, int, ForkJoinPool)
+     */
+    public List<PrivateKey> deriveRange(int start, int count) {
+        checkRange(start, count);
+
+        var keys = new PrivateKey[count];
 
-        hmacSha512.init(chainCode);
-        hmacSha512.update((byte) 0);
+        new ChildKeyDeriver(requireChainCode(), keyData).deriveInto(keys, start, 0, count);
 
-        hmacSha512.update(keyData, 0, Ed25519.SECRET_KEY_SIZE);
+        return Collections.unmodifiableList(Arrays.asList(keys));
+    }
 
-        // write the index in big-endian order, setting the 31st bit to mark it "hardened"
-        var indexBytes = new byte[4];
-        ByteBuffer.wrap(indexBytes).order(ByteOrder.BIG_ENDIAN).putInt(index);
-        indexBytes[0] |= (byte) 0b10000000;
+    /**
+     * Derive the child keys for a range of wallet/account indexes in parallel, as {@link #derive(int)} would.
+     *
+     * @param start the first index to derive
+     * @param count the number of consecutive indexes to derive
+     * @param pool  the pool to derive the keys in
+     * @return the derived keys, in order of index
+     * @throws IllegalStateException if this key does not support derivation.
+     */
+    public List<PrivateKey> deriveRange(int start, int count, ForkJoinPool pool) {
+        checkRange(start, count);
 
-        hmacSha512.update(indexBytes, 0, indexBytes.length);
+        var keys = new PrivateKey[count];
 
-        var output = new byte[64];
-        hmacSha512.doFinal(output, 0);
+        pool.invoke(new DeriveTask(new ChildKeyDeriver(requireChainCode(), keyData), keys, start, 0, count));
 
-        return derivableKey(output);
+        return Collections.unmodifiableList(Arrays.asList(keys));
+    }
+
+    private KeyParameter requireChainCode() {
+        if (this.chainCode == null) {
+            throw new IllegalStateException("this private key does not support derivation");
+        }
+
+        return this.chainCode;
+    }
+
+    private static void checkRange(int start, int count) {
+        if (start < 0) {
+            throw new IllegalArgumentException("start must not be negative");
+        }
+
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative");
+        }
+
+        if ((long) start + count > (1L << 31)) {
+            throw new IllegalArgumentException("start + count must not exceed 2^31");
+        }
     }
 
     /**
@@ -307,15 +431,27 @@ public final class PrivateKey extends Key {
      * @return the corresponding public key for this private key.
      */
     public PublicKey getPublicKey() {
-        if (publicKey != null) {
-            return publicKey;
+        return getSigningContext().publicKey;
+    }
+
+    /**
+     * Get the signing context of this key, which holds the public key derived from it so that signing does not
+     * derive it again. The context is created on first use and shared by every later signature.
+     *
+     * @return the signing context of this key
+     */
+    SigningContext getSigningContext() {
+        var signingContext = this.signingContext;
+
+        if (signingContext != null) {
+            return signingContext;
         }
 
-        byte[] publicKeyData = new byte[Ed25519.PUBLIC_KEY_SIZE];
-        Ed25519.generatePublicKey(keyData, 0, publicKeyData, 0);
+        // deriving the context twice from two threads is harmless; its fields are final so it is safely published
+        var created = new SigningContext(keyData);
 
-        publicKey = new PublicKey(publicKeyData);
-        return publicKey;
+        this.signingContext = created;
+        return created;
     }
 
     /**
@@ -325,10 +461,7 @@ public final class PrivateKey extends Key {
      * @return the signature of the message.
      */
     public byte[] sign(byte[] message) {
-        byte[] signature = new byte[Ed25519.SIGNATURE_SIZE];
-        Ed25519.sign(keyData, 0, message, 0, message.length, signature, 0);
-
-        return signature;
+        return getSigningContext().sign(message);
     }
 
     public byte[] signTransaction(Transaction<?> transaction) {
@@ -346,6 +479,32 @@ public final class PrivateKey extends Key {
         return signature;
     }
 
+    /**
+     * Write this key to a keystore encrypted with {@code passphrase}, deriving the encryption key with PBKDF2.
+     *
+     * @param stream     the stream to write the keystore to
+     * @param passphrase the passphrase to encrypt the key with
+     * @throws IOException if one occurred while writing
+     * @see #readKeystore(InputStream, String)
+     */
+    public void writeKeystore(OutputStream stream, String passphrase) throws IOException {
+        new Keystore(this).export(stream, passphrase);
+    }
+
+    /**
+     * Write this key to a keystore encrypted with {@code passphrase}, deriving the encryption key with the
+     * memory-hard scrypt.
+     *
+     * @param stream     the stream to write the keystore to
+     * @param passphrase the passphrase to encrypt the key with
+     * @param scrypt     the cost parameters of scrypt, e.g. {@link ScryptParameters#DEFAULT}
+     * @throws IOException if one occurred while writing
+     * @see #readKeystore(InputStream, String)
+     */
+    public void writeKeystore(OutputStream stream, String passphrase, ScryptParameters scrypt) throws IOException {
+        new Keystore(this).export(stream, passphrase, scrypt);
+    }
+
     @Override
     public byte[] toBytes() {
         return keyData;
@@ -380,4 +539,153 @@ public final class PrivateKey extends Key {
         // Forward to the corresponding public key.
         return getPublicKey().toProtobufKey();
     }
+
+    /**
+     * A private key together with the public key derived from it.
+     * <p>
+     * An Ed25519 signature includes the public key in the hash of its nonce; deriving it from the seed is a scalar
+     * multiplication, which costs about as much as the rest of the signature. Signing with a context skips it.
+     */
+    static final class SigningContext {
+        private final byte[] keyData;
+
+        // Kept apart from the bytes of publicKey, which PublicKey#toBytes() hands out
+        private final byte[] publicKeyData;
+
+        final PublicKey publicKey;
+
+        SigningContext(byte[] keyData) {
+            this.keyData = keyData;
+
+            publicKeyData = new byte[Ed25519.PUBLIC_KEY_SIZE];
+            Ed25519.generatePublicKey(keyData, 0, publicKeyData, 0);
+
+            publicKey = new PublicKey(publicKeyData.clone());
+        }
+
+        /**
+         * Sign a message with the private key of this context.
+         *
+         * @param message The array of bytes to sign with
+         * @return the signature of the message.
+         */
+        byte[] sign(byte[] message) {
+            byte[] signature = new byte[Ed25519.SIGNATURE_SIZE];
+            Ed25519.sign(keyData, 0, publicKeyData, 0, message, 0, message.length, signature, 0);
+
+            return signature;
+        }
+    }
+
+    /**
+     * SLIP-10 child key derivation for one parent key.
+     * <p>
+     * HMAC-SHA512 keyed with the chain code hashes the padded key and {@code 0x00 || parent key} before the index of
+     * each child. The SHA-512 states after those are kept, so deriving a child only hashes its index and the inner
+     * hash.
+     * <p>
+     * https://github.com/satoshilabs/slips/blob/master/slip-0010.md#private-parent-key--private-child-key
+     */
+    private static final class ChildKeyDeriver {
+        private static final int BLOCK_SIZE = 128;
+
+        private final SHA512Digest innerState;
+        private final SHA512Digest outerState;
+
+        private final SHA512Digest digest = new SHA512Digest();
+        private final byte[] innerHash = new byte[64];
+        private final byte[] indexBytes = new byte[4];
+
+        ChildKeyDeriver(KeyParameter chainCode, byte[] keyData) {
+            // the chain code is shorter than a block, so it is the HMAC key as is
+            var key = chainCode.getKey();
+            var innerPad = new byte[BLOCK_SIZE];
+            var outerPad = new byte[BLOCK_SIZE];
+
+            for (var i = 0; i < BLOCK_SIZE; i++) {
+                var keyByte = i < key.length ? key[i] : 0;
+
+                innerPad[i] = (byte) (keyByte ^ 0x36);
+                outerPad[i] = (byte) (keyByte ^ 0x5c);
+            }
+
+            innerState = new SHA512Digest();
+            innerState.update(innerPad, 0, BLOCK_SIZE);
+            innerState.update((byte) 0);
+            innerState.update(keyData, 0, Ed25519.SECRET_KEY_SIZE);
+
+            outerState = new SHA512Digest();
+            outerState.update(outerPad, 0, BLOCK_SIZE);
+        }
+
+        // Copies the states of another deriver, for use on another thread
+        ChildKeyDeriver(ChildKeyDeriver other) {
+            innerState = new SHA512Digest(other.innerState);
+            outerState = new SHA512Digest(other.outerState);
+        }
+
+        PrivateKey derive(int index) {
+            // write the index in big-endian order, setting the 31st bit to mark it "hardened"
+            ByteBuffer.wrap(indexBytes).order(ByteOrder.BIG_ENDIAN).putInt(index);
+            indexBytes[0] |= (byte) 0b10000000;
+
+            digest.reset(innerState);
+            digest.update(indexBytes, 0, indexBytes.length);
+            digest.doFinal(innerHash, 0);
+
+            digest.reset(outerState);
+            digest.update(innerHash, 0, innerHash.length);
+
+            var output = new byte[64];
+            digest.doFinal(output, 0);
+
+            return derivableKey(output);
+        }
+
+        void deriveInto(PrivateKey[] keys, int start, int from, int to) {
+            for (var i = from; i < to; i++) {
+                keys[i] = derive(start + i);
+            }
+        }
+    }
+
+    /**
+     * Derives the keys in {@code [from, to)}, splitting the range until each task is small. Each task writes only its
+     * own range of {@code keys}.
+     */
+    private static final class DeriveTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        // Below this many keys per task, deriving is cheaper than splitting further
+        private static final int MIN_TASK_SIZE = 256;
+
+        private final ChildKeyDeriver deriver;
+        private final PrivateKey[] keys;
+        private final int start;
+        private final int from;
+        private final int to;
+
+        DeriveTask(ChildKeyDeriver deriver, PrivateKey[] keys, int start, int from, int to) {
+            this.deriver = deriver;
+            this.keys = keys;
+            this.start = start;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= MIN_TASK_SIZE) {
+                new ChildKeyDeriver(deriver).deriveInto(keys, start, from, to);
+                return;
+            }
+
+            var middle = (from + to) >>> 1;
+
+            invokeAll(
+                new DeriveTask(deriver, keys, start, from, middle),
+                new DeriveTask(deriver, keys, start, middle, to)
+            );
+        }
+    }
 }
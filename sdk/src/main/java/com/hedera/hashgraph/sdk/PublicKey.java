@@ -8,6 +8,7 @@ import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
 import org.bouncycastle.math.ec.rfc8032.Ed25519;
 import org.bouncycastle.util.encoders.Hex;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.Arrays;
 
@@ -17,6 +18,11 @@ import java.util.Arrays;
 public final class PublicKey extends Key {
     private final byte[] keyData;
 
+    // keyData as the pubKeyPrefix of a signature pair, built on first use.
+    // A racing thread may build it twice, which is harmless as both copies are equal.
+    @Nullable
+    private ByteString prefix = null;
+
     PublicKey(byte[] keyData) {
         this.keyData = keyData;
     }
@@ -58,7 +64,7 @@ public final class PublicKey extends Key {
         for (var signedTransaction : transaction.innerSignedTransactions) {
             @Var var found = false;
             for (var sigPair : signedTransaction.getSigMap().getSigPairList()) {
-                if (sigPair.getPubKeyPrefix().equals(ByteString.copyFrom(toBytes()))) {
+                if (sigPair.getPubKeyPrefix().equals(toPrefixByteString())) {
                     found = true;
 
                     if (!verify(signedTransaction.getBodyBytes().toByteArray(), sigPair.getEd25519().toByteArray())) {
@@ -87,11 +93,25 @@ public final class PublicKey extends Key {
      */
     SignaturePair toSignaturePairProtobuf(byte[] signature) {
         return SignaturePair.newBuilder()
-            .setPubKeyPrefix(ByteString.copyFrom(keyData))
+            .setPubKeyPrefix(toPrefixByteString())
             .setEd25519(ByteString.copyFrom(signature))
             .build();
     }
 
+    /**
+     * The full key as the {@code pubKeyPrefix} of a signature pair
+     */
+    ByteString toPrefixByteString() {
+        @Var var prefix = this.prefix;
+
+        if (prefix == null) {
+            prefix = ByteString.copyFrom(keyData);
+            this.prefix = prefix;
+        }
+
+        return prefix;
+    }
+
     @Override
     public byte[] toBytes() {
         return keyData;
@@ -0,0 +1,184 @@
+package com.hedera.hashgraph.sdk;
+
+import java8.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Waits for the receipts of submitted transactions on behalf of a {@link Client}.
+ * <p>
+ * Callers waiting on the same transaction share a single poll. The first poll for a transaction is timed from
+ * a moving estimate of how long transactions take to reach consensus, measured from the moment the node accepted
+ * it, so most receipts are found on the first request instead of after several misses. Later polls back off
+ * exponentially from a fraction of that estimate. Every poll is scheduled on the client's {@link RetryScheduler},
+ * so any number of pending receipts share one timer thread.
+ */
+final class ReceiptPoller {
+    private static final Logger logger = LoggerFactory.getLogger(ReceiptPoller.class);
+
+    static final long DEFAULT_CONSENSUS_LATENCY_MILLIS = 2000;
+
+    // Weight given to each new observation in the consensus latency estimate
+    private static final double LATENCY_ALPHA = 0.2;
+
+    // Poll slightly before the estimate so the estimate can shrink as well as grow
+    private static final double FIRST_POLL_FRACTION = 0.9;
+
+    // Each later poll waits this fraction of the estimate, doubling per miss
+    private static final double BACKOFF_FRACTION = 0.25;
+
+    private static final long MIN_BACKOFF_MILLIS = 50;
+
+    private final Client client;
+    private final ConcurrentHashMap<TransactionId, Pending> pending = new ConcurrentHashMap<>();
+
+    // Double bits of the consensus latency estimate in milliseconds
+    private final AtomicLong consensusLatency;
+
+    ReceiptPoller(Client client) {
+        this(client, DEFAULT_CONSENSUS_LATENCY_MILLIS);
+    }
+
+    ReceiptPoller(Client client, long initialConsensusLatencyMillis) {
+        this.client = client;
+        this.consensusLatency = new AtomicLong(Double.doubleToLongBits(initialConsensusLatencyMillis));
+    }
+
+    /**
+     * @return the current estimate of the time from submission to consensus in milliseconds
+     */
+    double getConsensusLatency() {
+        return Double.longBitsToDouble(consensusLatency.get());
+    }
+
+    /**
+     * Replace the current estimate of the time from submission to consensus.
+     *
+     * @param latencyMillis the new estimate in milliseconds
+     */
+    void setConsensusLatency(double latencyMillis) {
+        consensusLatency.set(Double.doubleToLongBits(latencyMillis));
+    }
+
+    /**
+     * @return the number of transactions whose receipt is being waited on
+     */
+    int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Get the receipt of a submitted transaction once it has reached consensus.
+     *
+     * @param response the response of the node which accepted the transaction
+     * @return a future of the receipt, shared with any other caller waiting on the same transaction
+     */
+    CompletableFuture<TransactionReceipt> getReceipt(TransactionResponse response) {
+        var elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - response.submittedAt);
+        var firstPoll = (long) (getConsensusLatency() * FIRST_POLL_FRACTION) - elapsed;
+
+        // a receipt asked for late says nothing about how long consensus took, so only polls
+        // timed from the estimate feed back into it
+        var created = new Pending(response, firstPoll > 0);
+        var existing = pending.putIfAbsent(response.transactionId, created);
+
+        if (existing != null) {
+            return existing.result.copy();
+        }
+
+        if (firstPoll > 0) {
+            client.retryScheduler.schedule(firstPoll, created, error -> created.complete(null, error));
+        } else {
+            // asked late enough that consensus has most likely been reached already
+            created.run();
+        }
+
+        return created.result.copy();
+    }
+
+    private void recordConsensusLatency(double latencyMillis) {
+        while (true) {
+            var current = consensusLatency.get();
+            var estimate = Double.longBitsToDouble(current);
+            var next = estimate + LATENCY_ALPHA * (latencyMillis - estimate);
+
+            if (consensusLatency.compareAndSet(current, Double.doubleToLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    private final class Pending implements Runnable {
+        final CompletableFuture<TransactionReceipt> result = new CompletableFuture<>();
+        private final TransactionResponse response;
+        private final boolean sampleLatency;
+        private int polls = 0;
+
+        Pending(TransactionResponse response, boolean sampleLatency) {
+            this.response = response;
+            this.sampleLatency = sampleLatency;
+        }
+
+        @Override
+        public void run() {
+            polls += 1;
+
+            try {
+                new TransactionReceiptQuery()
+                    .setTransactionId(response.transactionId)
+                    .setNodeAccountIds(Collections.singletonList(response.nodeId))
+                    .setWaitForConsensus(false)
+                    .executeAsync(client)
+                    .whenComplete(this::onPoll);
+            } catch (Throwable error) {
+                complete(null, error);
+            }
+        }
+
+        private void onPoll(@Nullable TransactionReceipt receipt, @Nullable Throwable error) {
+            if (error != null || receipt == null) {
+                complete(null, error);
+                return;
+            }
+
+            if (receipt.status == Status.SUCCESS) {
+                if (sampleLatency) {
+                    recordConsensusLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - response.submittedAt));
+                }
+
+                complete(receipt, null);
+                return;
+            }
+
+            if (polls >= client.getMaxAttempts()) {
+                complete(null, new Exception("Failed to get receipt within maximum poll count"));
+                return;
+            }
+
+            var delay = (long) Math.min(
+                Math.max(getConsensusLatency() * BACKOFF_FRACTION, MIN_BACKOFF_MILLIS) * Math.pow(2, polls - 1),
+                client.getMaxBackoff().toMillis());
+
+            logger.trace("Receipt for {} not available after poll #{}, polling again in {} ms",
+                response.transactionId, polls, delay);
+
+            client.retryScheduler.schedule(delay, this, error -> complete(null, error));
+        }
+
+        private void complete(@Nullable TransactionReceipt receipt, @Nullable Throwable error) {
+            pending.remove(response.transactionId, this);
+
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(receipt);
+            }
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import java8.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A hashed wheel timer that schedules the retries of every in-flight request on a {@link Client}.
+ * <p>
+ * Pending retries are kept in a single wheel that is advanced by one timer thread. When a retry
+ * expires it is handed to the client's executor so the timer thread never runs request work itself.
+ * The timer thread is started lazily on the first scheduled retry and exits again once the wheel has
+ * been empty for a while.
+ */
+final class RetryScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(RetryScheduler.class);
+
+    static final long DEFAULT_TICK_MILLIS = 10;
+    static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    // How long the timer thread will sit on an empty wheel before exiting
+    private static final long IDLE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Executor executor;
+    private final ThreadFactory threadFactory;
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startTime = System.nanoTime();
+
+    // Timeouts are handed to the timer thread through this queue; only the timer thread touches the wheel
+    private final Queue<Timeout> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final Object lock = new Object();
+
+    @Nullable
+    private volatile Thread worker = null;
+
+    RetryScheduler(Executor executor, ThreadFactory threadFactory) {
+        this(executor, threadFactory, DEFAULT_TICK_MILLIS, DEFAULT_TICKS_PER_WHEEL);
+    }
+
+    RetryScheduler(Executor executor, ThreadFactory threadFactory, long tickMillis, int ticksPerWheel) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be greater than zero");
+        }
+
+        if (ticksPerWheel <= 0 || Integer.bitCount(ticksPerWheel) != 1) {
+            throw new IllegalArgumentException("ticksPerWheel must be a positive power of two");
+        }
+
+        this.executor = executor;
+        this.threadFactory = threadFactory;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.wheel = new Bucket[ticksPerWheel];
+        this.mask = ticksPerWheel - 1;
+
+        for (var i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+    }
+
+    /**
+     * Schedule {@code task} to run on the executor after {@code delayMillis}.
+     *
+     * @param delayMillis the delay in milliseconds; non-positive delays run on the next tick
+     * @param task        the task to run
+     * @return a handle that may be used to cancel the task before it runs
+     */
+    Timeout schedule(long delayMillis, Runnable task) {
+        return schedule(delayMillis, task, error -> logger.error("retry could not be executed", error));
+    }
+
+    /**
+     * Schedule {@code task} to run on the executor after {@code delayMillis}.
+     * <p>
+     * If the executor refuses the task when it expires, for example because the client has been closed,
+     * {@code onRejected} is called on the timer thread instead so the owner of the task can fail it.
+     *
+     * @param delayMillis the delay in milliseconds; non-positive delays run on the next tick
+     * @param task        the task to run
+     * @param onRejected  called with the rejection if the executor does not accept the task
+     * @return a handle that may be used to cancel the task before it runs
+     */
+    Timeout schedule(long delayMillis, Runnable task, Consumer<Throwable> onRejected) {
+        var deadline = System.nanoTime() - startTime + TimeUnit.MILLISECONDS.toNanos(Math.max(delayMillis, 0));
+        var timeout = new Timeout(this, task, onRejected, deadline);
+
+        // NOTE: the count must be raised before the worker is checked, see `tryExit`
+        pendingCount.incrementAndGet();
+        incoming.add(timeout);
+
+        if (worker == null) {
+            start();
+        }
+
+        return timeout;
+    }
+
+    /**
+     * @return the number of scheduled tasks which have neither run nor been cancelled
+     */
+    int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    private void start() {
+        synchronized (lock) {
+            if (worker != null) {
+                return;
+            }
+
+            var thread = threadFactory.newThread(this::run);
+            worker = thread;
+            thread.start();
+        }
+    }
+
+    /**
+     * Called by the timer thread when the wheel has been idle. Returns {@code true} if the thread
+     * should exit.
+     */
+    private boolean tryExit() {
+        synchronized (lock) {
+            // clear the worker _before_ checking the count so that a concurrent `schedule`
+            // either sees the cleared worker and starts a new one, or we see its timeout
+            var self = worker;
+            worker = null;
+
+            if (pendingCount.get() != 0) {
+                worker = self;
+                return false;
+            }
+
+            return true;
+        }
+    }
+
+    private void run() {
+        @Var long tick = (System.nanoTime() - startTime) / tickNanos;
+        @Var long idleSince = System.nanoTime();
+
+        while (true) {
+            var deadline = tickNanos * (tick + 1);
+            var sleepNanos = deadline - (System.nanoTime() - startTime);
+
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    logger.warn("retry scheduler interrupted; running pending retries immediately");
+                    runAll();
+
+                    synchronized (lock) {
+                        worker = null;
+                    }
+
+                    // anything scheduled while we were draining is picked up by a fresh timer thread
+                    if (pendingCount.get() != 0) {
+                        start();
+                    }
+
+                    return;
+                }
+            }
+
+            transferIncoming(tick);
+            wheel[(int) (tick & mask)].expire(deadline);
+            tick++;
+
+            if (pendingCount.get() != 0) {
+                idleSince = System.nanoTime();
+            } else if (System.nanoTime() - idleSince > IDLE_TIMEOUT_NANOS && tryExit()) {
+                return;
+            }
+        }
+    }
+
+    private void transferIncoming(long currentTick) {
+        // bound the transfer so a flood of new timeouts cannot stall the current tick
+        for (var i = 0; i < 100_000; i++) {
+            var timeout = incoming.poll();
+
+            if (timeout == null) {
+                return;
+            }
+
+            if (timeout.isCancelled()) {
+                continue;
+            }
+
+            var calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - currentTick) / wheel.length;
+
+            // never schedule into the past; already expired timeouts fire on this tick
+            var ticks = Math.max(calculated, currentTick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void runAll() {
+        for (var bucket : wheel) {
+            bucket.drain();
+        }
+
+        @Var Timeout timeout;
+        while ((timeout = incoming.poll()) != null) {
+            timeout.fire();
+        }
+    }
+
+    private void execute(Runnable task, Consumer<Throwable> onRejected) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            try {
+                onRejected.accept(e);
+            } catch (Throwable t) {
+                logger.error("failed to handle a rejected retry", t);
+            }
+        }
+    }
+
+    /**
+     * A handle to a task scheduled on a {@link RetryScheduler}.
+     */
+    static final class Timeout {
+        private static final int STATE_PENDING = 0;
+        private static final int STATE_CANCELLED = 1;
+        private static final int STATE_EXPIRED = 2;
+
+        private final RetryScheduler scheduler;
+        private final Runnable task;
+        private final Consumer<Throwable> onRejected;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(STATE_PENDING);
+
+        // only accessed by the timer thread
+        long remainingRounds;
+        @Nullable
+        Timeout next;
+
+        Timeout(RetryScheduler scheduler, Runnable task, Consumer<Throwable> onRejected, long deadline) {
+            this.scheduler = scheduler;
+            this.task = task;
+            this.onRejected = onRejected;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancel the task if it has not yet run.
+         *
+         * @return {@code true} if the task was cancelled by this call
+         */
+        boolean cancel() {
+            if (state.compareAndSet(STATE_PENDING, STATE_CANCELLED)) {
+                scheduler.pendingCount.decrementAndGet();
+                return true;
+            }
+
+            return false;
+        }
+
+        boolean isCancelled() {
+            return state.get() == STATE_CANCELLED;
+        }
+
+        void fire() {
+            if (state.compareAndSet(STATE_PENDING, STATE_EXPIRED)) {
+                scheduler.pendingCount.decrementAndGet();
+                scheduler.execute(task, onRejected);
+            }
+        }
+    }
+
+    /**
+     * An intrusive singly-linked list of timeouts that share a slot on the wheel.
+     */
+    private static final class Bucket {
+        @Nullable
+        private Timeout head;
+
+        void add(Timeout timeout) {
+            timeout.next = head;
+            head = timeout;
+        }
+
+        void expire(long deadline) {
+            @Var Timeout previous = null;
+            @Var Timeout timeout = head;
+
+            while (timeout != null) {
+                var next = timeout.next;
+                @Var var remove = false;
+
+                if (timeout.isCancelled()) {
+                    remove = true;
+                } else if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                    timeout.fire();
+                    remove = true;
+                } else {
+                    timeout.remainingRounds--;
+                }
+
+                if (remove) {
+                    if (previous == null) {
+                        head = next;
+                    } else {
+                        previous.next = next;
+                    }
+
+                    timeout.next = null;
+                } else {
+                    previous = timeout;
+                }
+
+                timeout = next;
+            }
+        }
+
+        void drain() {
+            @Var Timeout timeout = head;
+            head = null;
+
+            while (timeout != null) {
+                var next = timeout.next;
+                timeout.next = null;
+                timeout.fire();
+                timeout = next;
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.hedera.hashgraph.sdk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cycles through the network with a shared cursor. Healthy nodes are preferred; unhealthy nodes are only
+ * used to fill the remaining slots when there are not enough healthy ones.
+ */
+final class RoundRobinNodeSelector implements NodeSelector {
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    @Override
+    public List<AccountId> select(List<? extends Candidate> candidates, int count) {
+        var size = candidates.size();
+        var selected = new ArrayList<AccountId>(count);
+
+        if (size == 0 || count <= 0) {
+            return selected;
+        }
+
+        var now = System.currentTimeMillis();
+        // the cursor is allowed to overflow so keep the start index positive
+        var start = ((cursor.getAndAdd(count) % size) + size) % size;
+        var skipped = new ArrayList<AccountId>();
+
+        for (var i = 0; i < size && selected.size() < count; i++) {
+            var candidate = candidates.get((start + i) % size);
+
+            if (candidate.getUnhealthyUntil() < now) {
+                selected.add(candidate.getAccountId());
+            } else {
+                skipped.add(candidate.getAccountId());
+            }
+        }
+
+        for (var i = 0; i < skipped.size() && selected.size() < count; i++) {
+            selected.add(skipped.get(i));
+        }
+
+        return selected;
+    }
+}
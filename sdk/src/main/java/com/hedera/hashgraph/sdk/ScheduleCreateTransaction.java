@@ -9,7 +9,6 @@ import com.hedera.hashgraph.sdk.proto.TransactionResponse;
 import io.grpc.MethodDescriptor;
 
 import javax.annotation.Nullable;
-import java.util.LinkedHashMap;
 import java.util.Objects;
 
 public final class ScheduleCreateTransaction extends Transaction<ScheduleCreateTransaction> {
@@ -25,7 +24,7 @@ public final class ScheduleCreateTransaction extends Transaction<ScheduleCreateT
         defaultMaxTransactionFee = new Hbar(5);
     }
 
-    ScheduleCreateTransaction(LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>> txs) throws InvalidProtocolBufferException {
+    ScheduleCreateTransaction(TransactionListDecoder.Decoded txs) throws InvalidProtocolBufferException {
         super(txs);
         initFromTransactionBody();
     }
@@ -134,7 +133,7 @@ public final class ScheduleCreateTransaction extends Transaction<ScheduleCreateT
         com.hedera.hashgraph.sdk.proto.Transaction request
     ) {
         var transactionId = Objects.requireNonNull(getTransactionId()).setScheduled(true);
-        var hash = hash(request.getSignedTransactionBytes().toByteArray());
+        var hash = hashRequest(request, nodeId);
         nextTransactionIndex = (nextTransactionIndex + 1) % transactionIds.size();
         return new com.hedera.hashgraph.sdk.TransactionResponse(nodeId, transactionId, hash, transactionId);
     }
@@ -9,7 +9,6 @@ import com.hedera.hashgraph.sdk.proto.TransactionResponse;
 import io.grpc.MethodDescriptor;
 
 import javax.annotation.Nullable;
-import java.util.LinkedHashMap;
 import java.util.Objects;
 
 public final class ScheduleDeleteTransaction extends Transaction<ScheduleDeleteTransaction> {
@@ -21,7 +20,7 @@ public final class ScheduleDeleteTransaction extends Transaction<ScheduleDeleteT
         defaultMaxTransactionFee = new Hbar(5);
     }
 
-    ScheduleDeleteTransaction(LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>> txs) throws InvalidProtocolBufferException {
+    ScheduleDeleteTransaction(TransactionListDecoder.Decoded txs) throws InvalidProtocolBufferException {
         super(txs);
         initFromTransactionBody();
     }
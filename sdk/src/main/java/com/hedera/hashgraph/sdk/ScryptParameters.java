@@ -0,0 +1,95 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * The cost parameters of scrypt for a keystore written by {@link PrivateKey#writeKeystore(java.io.OutputStream, String, ScryptParameters)}.
+ * <p>
+ * Every guess at the passphrase takes {@code 128 * r * n} bytes of memory, and {@code p} times that in work.
+ * Keystores are read from files which may not be trusted, so the cost is capped: at most
+ * {@link #MAX_MEMORY_BYTES} of memory and {@link #MAX_WORK_BYTES} of work. Parameters over the cap are rejected
+ * both when writing and when reading a keystore.
+ */
+public final class ScryptParameters {
+    /**
+     * The most memory a single derivation may take, 256 MiB.
+     */
+    public static final long MAX_MEMORY_BYTES = 256L * 1024 * 1024;
+
+    /**
+     * The most memory a derivation may touch over all of its {@code p} passes, 1 GiB.
+     */
+    public static final long MAX_WORK_BYTES = 1024L * 1024 * 1024;
+
+    /**
+     * 64 MiB and a few hundred milliseconds per key.
+     */
+    public static final ScryptParameters DEFAULT = new ScryptParameters(1 << 16, 8, 1);
+
+    /**
+     * The CPU and memory cost, a power of 2.
+     */
+    public final int n;
+
+    /**
+     * The block size.
+     */
+    public final int r;
+
+    /**
+     * The parallelization.
+     */
+    public final int p;
+
+    /**
+     * @param n the CPU and memory cost, a power of 2 greater than 1
+     * @param r the block size, at least 1
+     * @param p the parallelization, at least 1
+     * @throws IllegalArgumentException if a parameter is out of range or the cost is over the cap
+     */
+    public ScryptParameters(int n, int r, int p) {
+        if (n < 2 || (n & (n - 1)) != 0) {
+            throw new IllegalArgumentException("n must be a power of 2 greater than 1");
+        }
+
+        if (r < 1) {
+            throw new IllegalArgumentException("r must be at least 1");
+        }
+
+        if (p < 1) {
+            throw new IllegalArgumentException("p must be at least 1");
+        }
+
+        // the limits of BouncyCastle's scrypt, which indexes arrays of 128 * r * n and 1024 * r * p bytes
+        if (r == 1 && n >= 1 << 16) {
+            throw new IllegalArgumentException("n must be less than 2^16 when r is 1");
+        }
+
+        if ((long) r * p > Integer.MAX_VALUE / 1024) {
+            throw new IllegalArgumentException("r * p must be less than 2^21");
+        }
+
+        var memory = 128L * r * n;
+
+        if (memory > MAX_MEMORY_BYTES) {
+            throw new IllegalArgumentException("128 * r * n must be at most " + MAX_MEMORY_BYTES + " bytes");
+        }
+
+        if (memory * p > MAX_WORK_BYTES) {
+            throw new IllegalArgumentException("128 * r * n * p must be at most " + MAX_WORK_BYTES + " bytes");
+        }
+
+        this.n = n;
+        this.r = r;
+        this.p = p;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("n", n)
+            .add("r", r)
+            .add("p", p)
+            .toString();
+    }
+}
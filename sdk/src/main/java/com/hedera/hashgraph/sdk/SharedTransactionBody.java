@@ -0,0 +1,67 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+
+/**
+ * A frozen transaction body which is serialized once and shared by the transactions for every node.
+ * <p>
+ * The bodies for the different nodes only differ in their node account ID. Fields are serialized in field number
+ * order, so the node account ID always sits right after the transaction ID; the body for a node is the shared
+ * bytes on either side of it with the node account ID spliced in between. The result is a rope over the shared
+ * bytes, which are only copied when the transaction for that node is signed or built.
+ */
+final class SharedTransactionBody {
+    private final ByteString beforeNode;
+    private final ByteString afterNode;
+
+    /**
+     * @param body the body to share, without a node account ID
+     */
+    SharedTransactionBody(TransactionBody body) {
+        var bytes = body.toByteString();
+        var split = body.hasTransactionID()
+            ? CodedOutputStream.computeMessageSize(TransactionBody.TRANSACTIONID_FIELD_NUMBER, body.getTransactionID())
+            : 0;
+
+        beforeNode = bytes.substring(0, split);
+        afterNode = bytes.substring(split);
+    }
+
+    /**
+     * @param beforeNode the serialized fields of the body which come before the node account ID
+     * @param afterNode the serialized fields of the body which come after the node account ID
+     */
+    SharedTransactionBody(ByteString beforeNode, ByteString afterNode) {
+        this.beforeNode = beforeNode;
+        this.afterNode = afterNode;
+    }
+
+    /**
+     * @param nodeId the node account ID
+     * @return the node account ID serialized as a field of a transaction body
+     */
+    static ByteString nodeField(AccountId nodeId) {
+        return TransactionBody.newBuilder()
+            .setNodeAccountID(nodeId.toProtobuf())
+            .build()
+            .toByteString();
+    }
+
+    /**
+     * @param nodeId the node the body is for
+     * @return the serialized body with its node account ID set to {@code nodeId}
+     */
+    ByteString forNode(AccountId nodeId) {
+        return forNode(nodeField(nodeId));
+    }
+
+    /**
+     * @param nodeField the node account ID field of the body, from {@link #nodeField(AccountId)}
+     * @return the serialized body with that node account ID field
+     */
+    ByteString forNode(ByteString nodeField) {
+        return beforeNode.concat(nodeField).concat(afterNode);
+    }
+}
@@ -0,0 +1,98 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts requests and failures over a sliding window of fixed-width time buckets without locking.
+ * <p>
+ * A bucket is reset by the first recorder to observe that it belongs to an older window. A recorder
+ * racing with that reset may have its sample dropped, which is acceptable for a health statistic.
+ */
+final class SlidingErrorRate {
+    static final int DEFAULT_BUCKETS = 10;
+    static final long DEFAULT_BUCKET_MILLIS = 1000;
+
+    private final long bucketNanos;
+
+    // Parallel arrays indexed by bucket; `epochs` holds the absolute bucket number each slot last counted for
+    private final AtomicLongArray epochs;
+    private final AtomicLongArray requests;
+    private final AtomicLongArray errors;
+
+    SlidingErrorRate() {
+        this(DEFAULT_BUCKETS, DEFAULT_BUCKET_MILLIS);
+    }
+
+    SlidingErrorRate(int buckets, long bucketMillis) {
+        this.bucketNanos = TimeUnit.MILLISECONDS.toNanos(bucketMillis);
+        this.epochs = new AtomicLongArray(buckets);
+        this.requests = new AtomicLongArray(buckets);
+        this.errors = new AtomicLongArray(buckets);
+
+        for (var i = 0; i < buckets; i++) {
+            epochs.set(i, Long.MIN_VALUE);
+        }
+    }
+
+    void record(boolean failed) {
+        record(System.nanoTime(), failed);
+    }
+
+    void record(long nowNanos, boolean failed) {
+        var epoch = nowNanos / bucketNanos;
+        var index = (int) Math.abs(epoch % epochs.length());
+        var seen = epochs.get(index);
+
+        if (seen != epoch && epochs.compareAndSet(index, seen, epoch)) {
+            requests.set(index, 0);
+            errors.set(index, 0);
+        }
+
+        requests.incrementAndGet(index);
+
+        if (failed) {
+            errors.incrementAndGet(index);
+        }
+    }
+
+    /**
+     * @return the number of requests recorded within the window
+     */
+    long getRequestCount() {
+        return sum(System.nanoTime(), requests);
+    }
+
+    /**
+     * @return the fraction of requests within the window which failed, or {@code 0} if there were none
+     */
+    double getErrorRate() {
+        return getErrorRate(System.nanoTime());
+    }
+
+    double getErrorRate(long nowNanos) {
+        var total = sum(nowNanos, requests);
+
+        if (total == 0) {
+            return 0.0;
+        }
+
+        return (double) sum(nowNanos, errors) / total;
+    }
+
+    private long sum(long nowNanos, AtomicLongArray counts) {
+        var current = nowNanos / bucketNanos;
+        @Var long sum = 0;
+
+        for (var i = 0; i < epochs.length(); i++) {
+            // only count buckets which belong to the current window
+            if (epochs.get(i) > current - epochs.length()) {
+                sum += counts.get(i);
+            }
+        }
+
+        return sum;
+    }
+}
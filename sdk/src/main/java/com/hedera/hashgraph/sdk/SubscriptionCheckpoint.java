@@ -0,0 +1,66 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+import org.threeten.bp.Instant;
+
+import javax.annotation.Nullable;
+import java.util.Objects;
+
+/**
+ * The position of a topic subscription: the last message which was delivered to its consumer.
+ *
+ * @see SubscriptionCheckpointStore
+ */
+public final class SubscriptionCheckpoint {
+    /**
+     * The consensus timestamp of the last delivered message; for a chunked message, of its last chunk.
+     */
+    public final Instant consensusTimestamp;
+
+    /**
+     * The sequence number of the last delivered message; for a chunked message, of its last chunk.
+     */
+    public final long sequenceNumber;
+
+    /**
+     * The consensus timestamp to resume the subscription at. This is before {@link #consensusTimestamp} when
+     * chunks of messages which were not yet complete had been received, so that those chunks are read again.
+     */
+    public final Instant resumeTimestamp;
+
+    public SubscriptionCheckpoint(Instant consensusTimestamp, long sequenceNumber, Instant resumeTimestamp) {
+        this.consensusTimestamp = Objects.requireNonNull(consensusTimestamp, "consensusTimestamp must not be null");
+        this.sequenceNumber = sequenceNumber;
+        this.resumeTimestamp = Objects.requireNonNull(resumeTimestamp, "resumeTimestamp must not be null");
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof SubscriptionCheckpoint)) {
+            return false;
+        }
+
+        var other = (SubscriptionCheckpoint) o;
+        return sequenceNumber == other.sequenceNumber &&
+            consensusTimestamp.equals(other.consensusTimestamp) &&
+            resumeTimestamp.equals(other.resumeTimestamp);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(consensusTimestamp, sequenceNumber, resumeTimestamp);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("consensusTimestamp", consensusTimestamp)
+            .add("sequenceNumber", sequenceNumber)
+            .add("resumeTimestamp", resumeTimestamp)
+            .toString();
+    }
+}
@@ -0,0 +1,48 @@
+package com.hedera.hashgraph.sdk;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Durable storage for the positions of topic subscriptions, so that a subscription can resume where a previous
+ * process left off.
+ * <p>
+ * A store holds one checkpoint per topic, so only one subscription to a topic should use a store at a time.
+ * Checkpoints are saved from the threads messages are delivered on, so implementations must be thread-safe.
+ *
+ * @see TopicMessageQuery#setCheckpointStore(SubscriptionCheckpointStore)
+ */
+public interface SubscriptionCheckpointStore {
+    /**
+     * A store which keeps the checkpoint of each topic in its own file in {@code directory}. A checkpoint is
+     * written to a temporary file which is then renamed over the previous one, so a crash while saving leaves
+     * either the old or the new checkpoint. Where a rename can not replace a file, the previous checkpoint is
+     * renamed aside first, and is loaded if the crash came before the new one was in place.
+     *
+     * @param directory the directory to keep the checkpoints in; created on the first save if missing
+     * @return {@link SubscriptionCheckpointStore}
+     */
+    static SubscriptionCheckpointStore inDirectory(File directory) {
+        return new FileSubscriptionCheckpointStore(directory);
+    }
+
+    /**
+     * Load the checkpoint of a topic.
+     *
+     * @param topicId the topic
+     * @return the last saved checkpoint, or {@code null} if none has been saved
+     * @throws IOException if the checkpoint could not be read
+     */
+    @Nullable
+    SubscriptionCheckpoint load(TopicId topicId) throws IOException;
+
+    /**
+     * Save the checkpoint of a topic, replacing the previous one.
+     *
+     * @param topicId    the topic
+     * @param checkpoint the checkpoint to save
+     * @throws IOException if the checkpoint could not be written
+     */
+    void save(TopicId topicId, SubscriptionCheckpoint checkpoint) throws IOException;
+}
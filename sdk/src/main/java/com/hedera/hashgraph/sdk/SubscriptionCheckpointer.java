@@ -0,0 +1,137 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicQuery;
+import java8.util.function.BiConsumer;
+import java8.util.function.Consumer;
+import org.threeten.bp.Instant;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Delivers the messages of a subscription which come after its checkpoint, and saves a new checkpoint after
+ * delivering them.
+ * <p>
+ * A checkpoint is saved at most once per interval, and once more when the subscription ends. It only ever covers
+ * messages whose delivery has returned, so resuming from it never skips a message; messages up to it are never
+ * delivered again. After a crash, the messages delivered since the last save are delivered again.
+ * <p>
+ * Each message comes with the timestamp a stream would have to resume at to see every message not yet delivered.
+ * When chunks of a message which was not yet complete had been received, that is the timestamp of the oldest such
+ * chunk rather than just after the delivered message. The messages read again from there are dropped by their
+ * sequence number.
+ */
+final class SubscriptionCheckpointer implements BiConsumer<TopicMessage, Instant> {
+    private final SubscriptionCheckpointStore store;
+    private final TopicId topicId;
+    private final long intervalNanos;
+    private final Consumer<TopicMessage> onNext;
+    private final Consumer<Throwable> onSaveError;
+
+    @Nullable
+    private final SubscriptionCheckpoint loaded;
+
+    // guarded by this
+    @Nullable
+    private SubscriptionCheckpoint delivered;
+    @Nullable
+    private SubscriptionCheckpoint saved;
+    private long savedAt = System.nanoTime();
+    private boolean closed = false;
+
+    SubscriptionCheckpointer(
+        SubscriptionCheckpointStore store,
+        TopicId topicId,
+        long intervalNanos,
+        Consumer<TopicMessage> onNext,
+        Consumer<Throwable> onSaveError
+    ) {
+        this.store = store;
+        this.topicId = topicId;
+        this.intervalNanos = intervalNanos;
+        this.onNext = onNext;
+        this.onSaveError = onSaveError;
+
+        try {
+            this.loaded = store.load(topicId);
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to load the checkpoint of topic " + topicId, e);
+        }
+
+        this.delivered = loaded;
+        this.saved = loaded;
+    }
+
+    /**
+     * @return {@code query}, starting after the loaded checkpoint if it is later than the query's start time
+     */
+    ConsensusTopicQuery resume(ConsensusTopicQuery query) {
+        if (loaded == null) {
+            return query;
+        }
+
+        var resumeAt = loaded.resumeTimestamp;
+
+        if (query.hasConsensusStartTime() &&
+            !InstantConverter.fromProtobuf(query.getConsensusStartTime()).isBefore(resumeAt)) {
+            return query;
+        }
+
+        return query.toBuilder()
+            .setConsensusStartTime(InstantConverter.toProtobuf(resumeAt))
+            .build();
+    }
+
+    @Override
+    public synchronized void accept(TopicMessage message, Instant resumeAt) {
+        if (closed) {
+            return;
+        }
+
+        if (delivered != null && message.sequenceNumber <= delivered.sequenceNumber) {
+            // delivered before the checkpoint, or before the stream was resumed
+            return;
+        }
+
+        try {
+            onNext.accept(message);
+        } finally {
+            // a consumer which threw has still been given the message
+            delivered = new SubscriptionCheckpoint(message.consensusTimestamp, message.sequenceNumber, resumeAt);
+
+            if (System.nanoTime() - savedAt >= intervalNanos) {
+                save();
+            }
+        }
+    }
+
+    /**
+     * Stop delivering messages and save the checkpoint of the last delivered message.
+     */
+    synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        save();
+    }
+
+    private void save() {
+        var delivered = this.delivered;
+
+        if (delivered == null || delivered.equals(saved)) {
+            return;
+        }
+
+        savedAt = System.nanoTime();
+
+        try {
+            store.save(topicId, delivered);
+            saved = delivered;
+        } catch (Throwable e) {
+            onSaveError.accept(e);
+        }
+    }
+}
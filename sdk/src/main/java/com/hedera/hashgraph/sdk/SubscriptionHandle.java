@@ -1,11 +1,14 @@
 package com.hedera.hashgraph.sdk;
 
 import javax.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicLong;
 
 public final class SubscriptionHandle {
     @Nullable
     private Runnable onUnsubscribe;
 
+    final AtomicLong evictedMessages = new AtomicLong();
+
     SubscriptionHandle() {
     }
 
@@ -13,6 +16,14 @@ public final class SubscriptionHandle {
         this.onUnsubscribe = onUnsubscribe;
     }
 
+    /**
+     * @return the number of partially received messages dropped by this subscription
+     * @see TopicMessageEvictedException
+     */
+    public long getEvictedMessageCount() {
+        return evictedMessages.get();
+    }
+
     public void unsubscribe() {
         if (this.onUnsubscribe != null) {
             this.onUnsubscribe.run();
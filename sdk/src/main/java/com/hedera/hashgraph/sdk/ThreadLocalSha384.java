@@ -0,0 +1,94 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteOutput;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import org.bouncycastle.crypto.digests.SHA384Digest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * SHA-384 hashing with one reusable digest per thread.
+ * <p>
+ * A {@link ByteString} is fed to the digest straight from its backing storage, so hashing a signed
+ * transaction does not copy it first.
+ */
+final class ThreadLocalSha384 {
+    @SuppressWarnings("AnonymousHasLambdaAlternative")
+    private static final ThreadLocal<DigestOutput> digestOutput =
+        new ThreadLocal<DigestOutput>() {
+            @Override
+            protected DigestOutput initialValue() {
+                return new DigestOutput();
+            }
+        };
+
+    private ThreadLocalSha384() {
+    }
+
+    static byte[] digest(ByteString bytes) {
+        var output = digestOutput.get();
+
+        output.digest.reset();
+
+        try {
+            // hands over the ByteString's own arrays or buffers, without copying
+            UnsafeByteOperations.unsafeWriteTo(bytes, output);
+        } catch (IOException e) {
+            // DigestOutput does not throw
+            throw new IllegalStateException(e);
+        }
+
+        return output.finish();
+    }
+
+    private static final class DigestOutput extends ByteOutput {
+        final SHA384Digest digest = new SHA384Digest();
+
+        // Only used for buffers which are not backed by an accessible array
+        private final byte[] scratch = new byte[256];
+
+        byte[] finish() {
+            var hash = new byte[digest.getDigestSize()];
+            digest.doFinal(hash, 0);
+
+            return hash;
+        }
+
+        @Override
+        public void write(byte value) {
+            digest.update(value);
+        }
+
+        @Override
+        public void write(byte[] value, int offset, int length) {
+            digest.update(value, offset, length);
+        }
+
+        @Override
+        public void writeLazy(byte[] value, int offset, int length) {
+            digest.update(value, offset, length);
+        }
+
+        @Override
+        public void write(ByteBuffer value) {
+            if (value.hasArray()) {
+                digest.update(value.array(), value.arrayOffset() + value.position(), value.remaining());
+                value.position(value.limit());
+                return;
+            }
+
+            while (value.hasRemaining()) {
+                var length = Math.min(value.remaining(), scratch.length);
+                value.get(scratch, 0, length);
+                digest.update(scratch, 0, length);
+            }
+        }
+
+        @Override
+        public void writeLazy(ByteBuffer value) {
+            write(value);
+        }
+    }
+}
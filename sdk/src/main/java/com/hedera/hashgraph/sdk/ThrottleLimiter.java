@@ -0,0 +1,224 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import com.hedera.hashgraph.sdk.proto.ConsensusServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.FileServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.FreezeServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.NetworkServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.ScheduleServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.SmartContractServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.ThrottleBucket;
+import com.hedera.hashgraph.sdk.proto.ThrottleDefinitions;
+import com.hedera.hashgraph.sdk.proto.ThrottleGroup;
+import com.hedera.hashgraph.sdk.proto.TokenServiceGrpc;
+import io.grpc.MethodDescriptor;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side token buckets mirroring the network's throttle definitions.
+ * <p>
+ * Every bucket drains completely in its burst period, and each operation of a throttle group fills it by the
+ * time one operation takes at that group's rate, so a group alone may burst for the whole period and then
+ * sustain its configured rate. An operation must fit in all of its buckets.
+ * <p>
+ * Buckets are tracked as the time at which they will next be empty (GCRA). {@link #reserve(MethodDescriptor)}
+ * claims room immediately and returns how long the caller must wait before sending, so concurrent callers queue
+ * up behind each other in the order they reserved.
+ */
+final class ThrottleLimiter {
+    private static final Map<String, RequestType> REQUEST_TYPES = new HashMap<>();
+
+    static {
+        put(ConsensusServiceGrpc.getCreateTopicMethod(), RequestType.CONSENSUS_CREATE_TOPIC);
+        put(ConsensusServiceGrpc.getUpdateTopicMethod(), RequestType.CONSENSUS_UPDATE_TOPIC);
+        put(ConsensusServiceGrpc.getDeleteTopicMethod(), RequestType.CONSENSUS_DELETE_TOPIC);
+        put(ConsensusServiceGrpc.getGetTopicInfoMethod(), RequestType.CONSENSUS_GET_TOPIC_INFO);
+        put(ConsensusServiceGrpc.getSubmitMessageMethod(), RequestType.CONSENSUS_SUBMIT_MESSAGE);
+
+        put(CryptoServiceGrpc.getCreateAccountMethod(), RequestType.CRYPTO_CREATE);
+        put(CryptoServiceGrpc.getUpdateAccountMethod(), RequestType.CRYPTO_UPDATE);
+        put(CryptoServiceGrpc.getCryptoTransferMethod(), RequestType.CRYPTO_TRANSFER);
+        put(CryptoServiceGrpc.getCryptoDeleteMethod(), RequestType.CRYPTO_DELETE);
+        put(CryptoServiceGrpc.getAddLiveHashMethod(), RequestType.CRYPTO_ADD_LIVE_HASH);
+        put(CryptoServiceGrpc.getDeleteLiveHashMethod(), RequestType.CRYPTO_DELETE_LIVE_HASH);
+        put(CryptoServiceGrpc.getGetLiveHashMethod(), RequestType.CRYPTO_GET_LIVE_HASH);
+        put(CryptoServiceGrpc.getGetAccountRecordsMethod(), RequestType.CRYPTO_GET_ACCOUNT_RECORDS);
+        put(CryptoServiceGrpc.getCryptoGetBalanceMethod(), RequestType.CRYPTO_GET_ACCOUNT_BALANCE);
+        put(CryptoServiceGrpc.getGetAccountInfoMethod(), RequestType.CRYPTO_GET_INFO);
+        put(CryptoServiceGrpc.getGetTransactionReceiptsMethod(), RequestType.TRANSACTION_GET_RECEIPT);
+        put(CryptoServiceGrpc.getGetTxRecordByTxIDMethod(), RequestType.TRANSACTION_GET_RECORD);
+        put(CryptoServiceGrpc.getGetStakersByAccountIDMethod(), RequestType.CRYPTO_GET_STAKERS);
+
+        put(FileServiceGrpc.getCreateFileMethod(), RequestType.FILE_CREATE);
+        put(FileServiceGrpc.getUpdateFileMethod(), RequestType.FILE_UPDATE);
+        put(FileServiceGrpc.getDeleteFileMethod(), RequestType.FILE_DELETE);
+        put(FileServiceGrpc.getAppendContentMethod(), RequestType.FILE_APPEND);
+        put(FileServiceGrpc.getGetFileContentMethod(), RequestType.FILE_GET_CONTENTS);
+        put(FileServiceGrpc.getGetFileInfoMethod(), RequestType.FILE_GET_INFO);
+        put(FileServiceGrpc.getSystemDeleteMethod(), RequestType.SYSTEM_DELETE);
+        put(FileServiceGrpc.getSystemUndeleteMethod(), RequestType.SYSTEM_UNDELETE);
+
+        put(FreezeServiceGrpc.getFreezeMethod(), RequestType.FREEZE);
+
+        put(NetworkServiceGrpc.getGetVersionInfoMethod(), RequestType.GET_VERSION_INFO);
+        put(NetworkServiceGrpc.getUncheckedSubmitMethod(), RequestType.UNCHECKED_SUBMIT);
+
+        put(ScheduleServiceGrpc.getCreateScheduleMethod(), RequestType.SCHEDULE_CREATE);
+        put(ScheduleServiceGrpc.getSignScheduleMethod(), RequestType.SCHEDULE_SIGN);
+        put(ScheduleServiceGrpc.getDeleteScheduleMethod(), RequestType.SCHEDULE_DELETE);
+        put(ScheduleServiceGrpc.getGetScheduleInfoMethod(), RequestType.SCHEDULE_GET_INFO);
+
+        put(SmartContractServiceGrpc.getCreateContractMethod(), RequestType.CONTRACT_CREATE);
+        put(SmartContractServiceGrpc.getUpdateContractMethod(), RequestType.CONTRACT_UPDATE);
+        put(SmartContractServiceGrpc.getContractCallMethodMethod(), RequestType.CONTRACT_CALL);
+        put(SmartContractServiceGrpc.getGetContractInfoMethod(), RequestType.CONTRACT_GET_INFO);
+        put(SmartContractServiceGrpc.getContractCallLocalMethodMethod(), RequestType.CONTRACT_CALL_LOCAL);
+        put(SmartContractServiceGrpc.getContractGetBytecodeMethod(), RequestType.CONTRACT_GET_BYTECODE);
+        put(SmartContractServiceGrpc.getGetBySolidityIDMethod(), RequestType.GET_BY_SOLIDITY_ID);
+        put(SmartContractServiceGrpc.getGetTxRecordByContractIDMethod(), RequestType.CONTRACT_GET_RECORDS);
+        put(SmartContractServiceGrpc.getDeleteContractMethod(), RequestType.CONTRACT_DELETE);
+        put(SmartContractServiceGrpc.getSystemDeleteMethod(), RequestType.SYSTEM_DELETE);
+        put(SmartContractServiceGrpc.getSystemUndeleteMethod(), RequestType.SYSTEM_UNDELETE);
+
+        put(TokenServiceGrpc.getCreateTokenMethod(), RequestType.TOKEN_CREATE);
+        put(TokenServiceGrpc.getUpdateTokenMethod(), RequestType.TOKEN_UPDATE);
+        put(TokenServiceGrpc.getMintTokenMethod(), RequestType.TOKEN_MINT);
+        put(TokenServiceGrpc.getBurnTokenMethod(), RequestType.TOKEN_BURN);
+        put(TokenServiceGrpc.getDeleteTokenMethod(), RequestType.TOKEN_DELETE);
+        put(TokenServiceGrpc.getWipeTokenAccountMethod(), RequestType.TOKEN_ACCOUNT_WIPE);
+        put(TokenServiceGrpc.getFreezeTokenAccountMethod(), RequestType.TOKEN_FREEZE_ACCOUNT);
+        put(TokenServiceGrpc.getUnfreezeTokenAccountMethod(), RequestType.TOKEN_UNFREEZE_ACCOUNT);
+        put(TokenServiceGrpc.getGrantKycToTokenAccountMethod(), RequestType.TOKEN_GRANT_KYC_TO_ACCOUNT);
+        put(TokenServiceGrpc.getRevokeKycFromTokenAccountMethod(), RequestType.TOKEN_REVOKE_KYC_FROM_ACCOUNT);
+        put(TokenServiceGrpc.getAssociateTokensMethod(), RequestType.TOKEN_ASSOCIATE_TO_ACCOUNT);
+        put(TokenServiceGrpc.getDissociateTokensMethod(), RequestType.TOKEN_DISSOCIATE_FROM_ACCOUNT);
+        put(TokenServiceGrpc.getUpdateTokenFeeScheduleMethod(), RequestType.TOKEN_FEE_SCHEDULE_UPDATE);
+        put(TokenServiceGrpc.getGetTokenInfoMethod(), RequestType.TOKEN_GET_INFO);
+        put(TokenServiceGrpc.getGetAccountNftInfosMethod(), RequestType.TOKEN_GET_ACCOUNT_NFT_INFOS);
+        put(TokenServiceGrpc.getGetTokenNftInfoMethod(), RequestType.TOKEN_GET_NFT_INFO);
+        put(TokenServiceGrpc.getGetTokenNftInfosMethod(), RequestType.TOKEN_GET_NFT_INFOS);
+    }
+
+    private final Map<RequestType, List<Usage>> usages = new EnumMap<>(RequestType.class);
+
+    ThrottleLimiter(ThrottleDefinitions definitions) {
+        for (var throttleBucket : definitions.getThrottleBucketsList()) {
+            var bucket = new Bucket(throttleBucket);
+
+            for (var group : throttleBucket.getThrottleGroupsList()) {
+                var cost = Bucket.cost(group);
+
+                for (var operation : group.getOperationsList()) {
+                    RequestType type;
+
+                    try {
+                        type = RequestType.valueOf(operation);
+                    } catch (IllegalStateException e) {
+                        // an operation newer than this SDK; it cannot be sent from here anyway
+                        continue;
+                    }
+
+                    @Var var list = usages.get(type);
+
+                    if (list == null) {
+                        list = new ArrayList<>();
+                        usages.put(type, list);
+                    }
+
+                    list.add(new Usage(bucket, cost));
+                }
+            }
+        }
+    }
+
+    private static void put(MethodDescriptor<?, ?> method, RequestType type) {
+        REQUEST_TYPES.put(method.getFullMethodName(), type);
+    }
+
+    /**
+     * Claim room for one request to {@code method}.
+     *
+     * @return the number of milliseconds to wait before sending the request, {@code 0} to send it now
+     */
+    long reserve(MethodDescriptor<?, ?> method) {
+        var type = REQUEST_TYPES.get(method.getFullMethodName());
+
+        if (type == null) {
+            return 0;
+        }
+
+        // round up so the request is never sent before its slot
+        return TimeUnit.NANOSECONDS.toMillis(reserve(type, System.nanoTime()) + 999_999);
+    }
+
+    /**
+     * Claim room for one request of {@code type} at {@code nowNanos}.
+     * <p>
+     * A request type which appears in no bucket is not limited here and is left for the network to judge.
+     *
+     * @return the number of nanoseconds after {@code nowNanos} at which the request may be sent
+     */
+    synchronized long reserve(RequestType type, long nowNanos) {
+        var list = usages.get(type);
+
+        if (list == null) {
+            return 0;
+        }
+
+        @Var var sendAt = nowNanos;
+
+        for (var usage : list) {
+            // the request fits once the bucket has drained enough to hold its cost
+            sendAt = Math.max(sendAt, usage.bucket.emptyAt + usage.cost - usage.bucket.capacity);
+        }
+
+        for (var usage : list) {
+            usage.bucket.emptyAt = Math.max(usage.bucket.emptyAt, sendAt) + usage.cost;
+        }
+
+        return sendAt - nowNanos;
+    }
+
+    private static final class Bucket {
+        // the amount a bucket can hold, expressed as the nanoseconds it takes to drain
+        final long capacity;
+
+        // the time, in System.nanoTime() terms, at which the bucket will next be empty
+        long emptyAt = Long.MIN_VALUE / 2;
+
+        Bucket(ThrottleBucket bucket) {
+            @Var var capacity = TimeUnit.MILLISECONDS.toNanos(bucket.getBurstPeriodMs());
+
+            // a bucket must be able to hold at least one of any of its operations
+            for (var group : bucket.getThrottleGroupsList()) {
+                capacity = Math.max(capacity, cost(group));
+            }
+
+            this.capacity = capacity;
+        }
+
+        /**
+         * @return the nanoseconds between two operations of {@code group} at its sustained rate
+         */
+        static long cost(ThrottleGroup group) {
+            return TimeUnit.SECONDS.toNanos(1000) / Math.max(group.getMilliOpsPerSec(), 1);
+        }
+    }
+
+    private static final class Usage {
+        final Bucket bucket;
+        final long cost;
+
+        Usage(Bucket bucket, long cost) {
+            this.bucket = bucket;
+            this.cost = cost;
+        }
+    }
+}
@@ -12,7 +12,6 @@ import io.grpc.MethodDescriptor;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
 
@@ -25,7 +24,7 @@ public class TokenBurnTransaction extends com.hedera.hashgraph.sdk.Transaction<T
     public TokenBurnTransaction() {
     }
 
-    TokenBurnTransaction(LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>> txs) throws InvalidProtocolBufferException {
+    TokenBurnTransaction(TransactionListDecoder.Decoded txs) throws InvalidProtocolBufferException {
         super(txs);
         initFromTransactionBody();
     }
@@ -13,7 +13,6 @@ import org.threeten.bp.Instant;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
 
@@ -54,7 +53,7 @@ public class TokenCreateTransaction extends Transaction<TokenCreateTransaction>
         defaultMaxTransactionFee = new Hbar(30);
     }
 
-    TokenCreateTransaction(LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>> txs) throws InvalidProtocolBufferException {
+    TokenCreateTransaction(TransactionListDecoder.Decoded txs) throws InvalidProtocolBufferException {
         super(txs);
         initFromTransactionBody();
     }
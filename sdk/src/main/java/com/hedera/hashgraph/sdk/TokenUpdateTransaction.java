@@ -12,7 +12,6 @@ import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
 
 import javax.annotation.Nullable;
-import java.util.LinkedHashMap;
 import java.util.Objects;
 
 public class TokenUpdateTransaction extends Transaction<TokenUpdateTransaction> {
@@ -47,7 +46,7 @@ public class TokenUpdateTransaction extends Transaction<TokenUpdateTransaction>
     public TokenUpdateTransaction() {
     }
 
-    TokenUpdateTransaction(LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>> txs) throws InvalidProtocolBufferException {
+    TokenUpdateTransaction(TransactionListDecoder.Decoded txs) throws InvalidProtocolBufferException {
         super(txs);
         initFromTransactionBody();
     }
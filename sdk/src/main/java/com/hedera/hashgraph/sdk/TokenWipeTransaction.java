@@ -11,7 +11,6 @@ import io.grpc.MethodDescriptor;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
 
@@ -26,7 +25,7 @@ public class TokenWipeTransaction extends com.hedera.hashgraph.sdk.Transaction<T
     public TokenWipeTransaction() {
     }
 
-    TokenWipeTransaction(LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>> txs) throws InvalidProtocolBufferException {
+    TokenWipeTransaction(TransactionListDecoder.Decoded txs) throws InvalidProtocolBufferException {
         super(txs);
         initFromTransactionBody();
     }
@@ -3,17 +3,23 @@ package com.hedera.hashgraph.sdk;
 import com.google.common.base.MoreObjects;
 import com.google.errorprone.annotations.Var;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
 import org.threeten.bp.Instant;
 
 import javax.annotation.Nullable;
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 
 public final class TopicMessage {
     public final Instant consensusTimestamp;
 
+    /**
+     * @deprecated Use {@link #getContents()}, {@link #getContentsByteString()} or {@link #getContentsBuffer()}.
+     * This field will be removed in the next major version.
+     */
+    @Deprecated
     public final byte[] contents;
 
     public final byte[] runningHash;
@@ -26,16 +32,22 @@ public final class TopicMessage {
     @Nullable
     public final TransactionId transactionId;
 
+    // wraps contents, so the message holds a single copy of its contents
+    private final ByteString contentsByteString;
+
     TopicMessage(
         Instant lastConsensusTimestamp,
-        byte[] message,
+        ByteString message,
         byte[] lastRunningHash,
         long lastSequenceNumber,
         @Nullable TopicMessageChunk[] chunks,
         @Nullable TransactionId transactionId
     ) {
         this.consensusTimestamp = lastConsensusTimestamp;
-        this.contents = message;
+        // NOTE: copied eagerly into one array while the public field exists; once it is removed the contents
+        //       can be kept as received, concatenating the chunks without copying them
+        this.contents = message.toByteArray();
+        this.contentsByteString = UnsafeByteOperations.unsafeWrap(contents);
         this.runningHash = lastRunningHash;
         this.sequenceNumber = lastSequenceNumber;
         this.chunks = chunks;
@@ -45,7 +57,7 @@ public final class TopicMessage {
     static TopicMessage ofSingle(ConsensusTopicResponse response) {
         return new TopicMessage(
             InstantConverter.fromProtobuf(response.getConsensusTimestamp()),
-            response.getMessage().toByteArray(),
+            response.getMessage(),
             response.getRunningHash().toByteArray(),
             response.getSequenceNumber(),
             new TopicMessageChunk[]{new TopicMessageChunk(response)},
@@ -60,7 +72,6 @@ public final class TopicMessage {
         var chunks = new TopicMessageChunk[responses.size()];
         @Var TransactionId transactionId = null;
         var contents = new ByteString[responses.size()];
-        @Var long totalSize = 0;
 
         for (ConsensusTopicResponse r : responses) {
             if (transactionId == null && r.getChunkInfo().hasInitialTransactionID()) {
@@ -71,20 +82,13 @@ public final class TopicMessage {
 
             chunks[index] = new TopicMessageChunk(r);
             contents[index] = r.getMessage();
-            totalSize += r.getMessage().size();
-        }
-
-        var wholeMessage = ByteBuffer.allocate((int) totalSize);
-
-        for (var content : contents) {
-            wholeMessage.put(content.asReadOnlyByteBuffer());
         }
 
         var lastReceived = responses.get(responses.size() - 1);
 
         return new TopicMessage(
             InstantConverter.fromProtobuf(lastReceived.getConsensusTimestamp()),
-            wholeMessage.array(),
+            ByteString.copyFrom(Arrays.asList(contents)),
             lastReceived.getRunningHash().toByteArray(),
             lastReceived.getSequenceNumber(),
             chunks,
@@ -92,11 +96,43 @@ public final class TopicMessage {
         );
     }
 
+    /**
+     * Get the contents of the message as an array.
+     * <p>
+     * The same array is returned on every call, and backs {@link #getContentsByteString()} and
+     * {@link #getContentsBuffer()}, so it must not be modified.
+     *
+     * @return the contents of the message
+     */
+    @SuppressWarnings("deprecation")
+    public byte[] getContents() {
+        return contents;
+    }
+
+    /**
+     * Get the contents of the message, backed by the array returned by {@link #getContents()}.
+     *
+     * @return the contents of the message
+     */
+    public ByteString getContentsByteString() {
+        return contentsByteString;
+    }
+
+    /**
+     * Get a read-only buffer of the contents of the message, backed by the array returned by
+     * {@link #getContents()}.
+     *
+     * @return a read-only buffer of the contents of the message
+     */
+    public ByteBuffer getContentsBuffer() {
+        return contentsByteString.asReadOnlyByteBuffer();
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
             .add("consensusTimestamp", consensusTimestamp)
-            .add("contents", new String(contents, StandardCharsets.UTF_8))
+            .add("contents", contentsByteString.toStringUtf8())
             .add("runningHash", runningHash)
             .add("sequenceNumber", sequenceNumber)
             .toString();
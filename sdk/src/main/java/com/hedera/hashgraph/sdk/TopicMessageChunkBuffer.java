@@ -0,0 +1,168 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import java8.util.function.Consumer;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Holds the chunks of partially received topic messages for one subscription until each message is complete.
+ * <p>
+ * A message is removed as soon as its last chunk arrives. Partial messages are dropped, oldest first, when the
+ * first chunk is older than the maximum age in consensus time (the stream is in consensus order, so the newest
+ * response received stands in for "now"), or when more messages or bytes are held than allowed. Every dropped
+ * message is reported to the eviction handler.
+ * <p>
+ * The chunks of a subscription arrive on one stream at a time, so this is not thread safe.
+ */
+final class TopicMessageChunkBuffer {
+    private final int maxMessages;
+    private final long maxBytes;
+    private final Duration maxAge;
+    private final Consumer<TopicMessageEvictedException> evictionHandler;
+
+    // in order of the consensus timestamp of the first chunk received
+    private final LinkedHashMap<TransactionID, PendingMessage> pending = new LinkedHashMap<>();
+    private long bytes = 0;
+
+    TopicMessageChunkBuffer(int maxMessages, long maxBytes, Duration maxAge, Consumer<TopicMessageEvictedException> evictionHandler) {
+        this.maxMessages = maxMessages;
+        this.maxBytes = maxBytes;
+        this.maxAge = maxAge;
+        this.evictionHandler = evictionHandler;
+    }
+
+    /**
+     * @return the number of partial messages held
+     */
+    int getPendingMessages() {
+        return pending.size();
+    }
+
+    /**
+     * @return the total size of the chunk contents held
+     */
+    long getPendingBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return the consensus timestamp of the first chunk received of the oldest partial message, or {@code null}
+     * if none is held
+     */
+    @Nullable
+    Instant getOldestPendingTimestamp() {
+        return pending.isEmpty() ? null : pending.values().iterator().next().firstConsensusTimestamp;
+    }
+
+    /**
+     * Add a chunk of a message.
+     *
+     * @param response a response with {@code chunkInfo} of a message with more than one chunk
+     * @return all chunks of the message, in the order received, if this was the last one missing
+     */
+    @Nullable
+    List<ConsensusTopicResponse> add(ConsensusTopicResponse response) {
+        var chunkInfo = response.getChunkInfo();
+
+        if (chunkInfo.getTotal() < 1 || chunkInfo.getNumber() < 1 || chunkInfo.getNumber() > chunkInfo.getTotal()) {
+            // malformed chunk info; holding on to it would only produce a message that can never complete
+            return null;
+        }
+
+        var consensusTimestamp = InstantConverter.fromProtobuf(response.getConsensusTimestamp());
+
+        expire(consensusTimestamp);
+
+        var initialTransactionID = chunkInfo.getInitialTransactionID();
+        @Var var message = pending.get(initialTransactionID);
+
+        if (message == null) {
+            message = new PendingMessage(initialTransactionID, chunkInfo.getTotal(), consensusTimestamp);
+            pending.put(initialTransactionID, message);
+        }
+
+        if (!message.add(response)) {
+            // a duplicate or out of range chunk
+            return null;
+        }
+
+        bytes += response.getMessage().size();
+
+        if (message.isComplete()) {
+            pending.remove(initialTransactionID);
+            bytes -= message.bytes;
+
+            return message.chunks;
+        }
+
+        while (!pending.isEmpty() && (pending.size() > maxMessages || bytes > maxBytes)) {
+            evictOldest(false);
+        }
+
+        return null;
+    }
+
+    private void expire(Instant now) {
+        var oldest = now.minus(maxAge);
+
+        while (!pending.isEmpty() && pending.values().iterator().next().firstConsensusTimestamp.isBefore(oldest)) {
+            evictOldest(true);
+        }
+    }
+
+    private void evictOldest(boolean expired) {
+        var iterator = pending.values().iterator();
+        var message = iterator.next();
+
+        iterator.remove();
+        bytes -= message.bytes;
+
+        evictionHandler.accept(new TopicMessageEvictedException(
+            message.initialTransactionID.hasAccountID() ? TransactionId.fromProtobuf(message.initialTransactionID) : null,
+            message.chunks.size(),
+            message.received.length,
+            expired
+        ));
+    }
+
+    private static final class PendingMessage {
+        final TransactionID initialTransactionID;
+        final Instant firstConsensusTimestamp;
+        final List<ConsensusTopicResponse> chunks;
+        final boolean[] received;
+        long bytes = 0;
+
+        PendingMessage(TransactionID initialTransactionID, int total, Instant firstConsensusTimestamp) {
+            this.initialTransactionID = initialTransactionID;
+            this.firstConsensusTimestamp = firstConsensusTimestamp;
+            this.chunks = new ArrayList<>(total);
+            this.received = new boolean[total];
+        }
+
+        boolean add(ConsensusTopicResponse response) {
+            var index = response.getChunkInfo().getNumber() - 1;
+
+            if (index < 0 || index >= received.length || received[index]) {
+                return false;
+            }
+
+            received[index] = true;
+            chunks.add(response);
+            bytes += response.getMessage().size();
+
+            return true;
+        }
+
+        boolean isComplete() {
+            return chunks.size() == received.length;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.hedera.hashgraph.sdk;
+
+import javax.annotation.Nullable;
+
+/**
+ * Signals that a subscription dropped the chunks of a partially received topic message.
+ * <p>
+ * Chunks are held until every chunk of their message has arrived. A message is dropped when its
+ * first chunk is older, in consensus time, than {@link TopicMessageQuery#setMaxPendingAge}, or to
+ * make room when more messages or bytes are pending than {@link TopicMessageQuery#setMaxPendingMessages}
+ * and {@link TopicMessageQuery#setMaxPendingBytes} allow.
+ */
+public final class TopicMessageEvictedException extends Exception {
+    /**
+     * The ID of the transaction which submitted the first chunk of the message.
+     * <p>
+     * This can be `null` if the chunks did not include it.
+     */
+    @Nullable
+    public final TransactionId transactionId;
+
+    /**
+     * The number of chunks which had been received.
+     */
+    public final int receivedChunks;
+
+    /**
+     * The number of chunks in the whole message.
+     */
+    public final int totalChunks;
+
+    /**
+     * Whether the message was dropped for being too old, rather than to make room.
+     */
+    public final boolean expired;
+
+    TopicMessageEvictedException(@Nullable TransactionId transactionId, int receivedChunks, int totalChunks, boolean expired) {
+        this.transactionId = transactionId;
+        this.receivedChunks = receivedChunks;
+        this.totalChunks = totalChunks;
+        this.expired = expired;
+    }
+
+    @Override
+    public String getMessage() {
+        return "dropped topic message `" + transactionId + "` with " + receivedChunks + " of " + totalChunks
+            + " chunks received " + (expired ? "after waiting too long for the rest" : "to make room for newer messages");
+    }
+}
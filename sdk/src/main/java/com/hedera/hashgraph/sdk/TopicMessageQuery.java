@@ -1,8 +1,8 @@
 package com.hedera.hashgraph.sdk;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.errorprone.annotations.Var;
 import com.hedera.hashgraph.sdk.proto.Timestamp;
-import com.hedera.hashgraph.sdk.proto.TransactionID;
 import com.hedera.hashgraph.sdk.proto.mirror.ConsensusServiceGrpc;
 import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicQuery;
 import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
@@ -10,8 +10,10 @@ import io.grpc.CallOptions;
 import io.grpc.ClientCall;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ClientCallStreamObserver;
 import io.grpc.stub.ClientCalls;
-import io.grpc.stub.StreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import java8.util.concurrent.Flow;
 import java8.util.function.BiConsumer;
 import java8.util.function.Consumer;
 import java8.util.function.Predicate;
@@ -20,11 +22,10 @@ import org.slf4j.LoggerFactory;
 import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import javax.annotation.Nullable;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.regex.Pattern;
 
 public final class TopicMessageQuery {
@@ -39,6 +40,12 @@ public final class TopicMessageQuery {
     private int maxAttempts = 10;
     private Duration maxBackoff = Duration.ofSeconds(8L);
     private Predicate<Throwable> retryHandler = this::shouldRetry;
+    private int maxPendingMessages = 1000;
+    private long maxPendingBytes = 32 * 1024 * 1024;
+    private Duration maxPendingAge = Duration.ofMinutes(5);
+    @Nullable
+    private SubscriptionCheckpointStore checkpointStore = null;
+    private Duration checkpointInterval = Duration.ofSeconds(5);
 
     public TopicMessageQuery() {
         builder = ConsensusTopicQuery.newBuilder();
@@ -101,6 +108,97 @@ public final class TopicMessageQuery {
         return this;
     }
 
+    /**
+     * Set the maximum number of partially received chunked messages to hold while waiting for their
+     * remaining chunks. When exceeded, the oldest partial message is dropped and reported to the error
+     * handler as a {@link TopicMessageEvictedException}.
+     *
+     * @param maxPendingMessages the maximum number of partial messages
+     * @return {@code this}
+     */
+    public TopicMessageQuery setMaxPendingMessages(int maxPendingMessages) {
+        if (maxPendingMessages < 1) {
+            throw new IllegalArgumentException("maxPendingMessages must be at least 1");
+        }
+        this.maxPendingMessages = maxPendingMessages;
+        return this;
+    }
+
+    /**
+     * Set the maximum total size of the chunks held for partially received messages. When exceeded, the
+     * oldest partial message is dropped and reported to the error handler as a
+     * {@link TopicMessageEvictedException}.
+     *
+     * @param maxPendingBytes the maximum size in bytes
+     * @return {@code this}
+     */
+    public TopicMessageQuery setMaxPendingBytes(long maxPendingBytes) {
+        if (maxPendingBytes < 1) {
+            throw new IllegalArgumentException("maxPendingBytes must be at least 1");
+        }
+        this.maxPendingBytes = maxPendingBytes;
+        return this;
+    }
+
+    /**
+     * Set how long, in consensus time, to wait for the remaining chunks of a partially received message
+     * after its first chunk. Older partial messages are dropped and reported to the error handler as a
+     * {@link TopicMessageEvictedException}.
+     *
+     * @param maxPendingAge the maximum age of a partial message
+     * @return {@code this}
+     */
+    public TopicMessageQuery setMaxPendingAge(Duration maxPendingAge) {
+        if (maxPendingAge == null || maxPendingAge.isNegative() || maxPendingAge.isZero()) {
+            throw new IllegalArgumentException("maxPendingAge must be positive");
+        }
+        this.maxPendingAge = maxPendingAge;
+        return this;
+    }
+
+    /**
+     * Set the store to keep the position of subscriptions to this topic in.
+     * <p>
+     * A subscription loads the checkpoint of its topic when it starts, and resumes from it if it is later
+     * than the start time. A checkpoint taken while a chunked message was partly received resumes at the first
+     * chunk of that message, so it can still be completed. Messages up to the checkpoint are not delivered again. As messages are delivered, the
+     * checkpoint is saved every {@link #setCheckpointInterval(Duration) checkpoint interval} and when the
+     * subscription completes, fails or is unsubscribed; failures to save are reported to the error handler.
+     * If the process stops without unsubscribing, the messages delivered since the last save are delivered again
+     * after resuming. Subscribing throws an {@link java.io.UncheckedIOException} if the checkpoint can not be
+     * loaded.
+     *
+     * @param checkpointStore the store of checkpoints
+     * @return {@code this}
+     * @see SubscriptionCheckpointStore#inDirectory(java.io.File)
+     */
+    public TopicMessageQuery setCheckpointStore(SubscriptionCheckpointStore checkpointStore) {
+        Objects.requireNonNull(checkpointStore, "checkpointStore must not be null");
+        this.checkpointStore = checkpointStore;
+        return this;
+    }
+
+    /**
+     * Set how often the checkpoint of a subscription is saved while messages are delivered. A zero interval
+     * saves after every message.
+     * <p>
+     * Defaults to 5 seconds.
+     *
+     * @param checkpointInterval the minimum time between saves
+     * @return {@code this}
+     */
+    public TopicMessageQuery setCheckpointInterval(Duration checkpointInterval) {
+        if (checkpointInterval == null || checkpointInterval.isNegative()) {
+            throw new IllegalArgumentException("checkpointInterval must not be negative");
+        }
+        this.checkpointInterval = checkpointInterval;
+        return this;
+    }
+
+    TopicId getTopicId() {
+        return TopicId.fromProtobuf(builder.getTopicID());
+    }
+
     private void onComplete() {
         var topicId = TopicId.fromProtobuf(builder.getTopicID());
         LOGGER.info("Subscription to topic {} complete", topicId);
@@ -145,117 +243,484 @@ public final class TopicMessageQuery {
 
     // TODO: Refactor into a base class when we add more mirror query types
     public SubscriptionHandle subscribe(Client client, Consumer<TopicMessage> onNext) {
-        SubscriptionHandle subscriptionHandle = new SubscriptionHandle();
-        HashMap<TransactionID, ArrayList<ConsensusTopicResponse>> pendingMessages = new HashMap<>();
-        makeStreamingCall(client, subscriptionHandle, onNext, 0, new AtomicLong(), new AtomicReference<>(), pendingMessages);
-        return subscriptionHandle;
+        var subscription = newSubscription(
+            client,
+            builder.build(),
+            onNext,
+            error -> errorHandler.accept(error, null),
+            () -> completionHandler.run(),
+            MoreExecutors.directExecutor(),
+            false,
+            null
+        );
+
+        subscription.start();
+
+        return subscription.handle;
     }
 
-    private void makeStreamingCall(
+    /**
+     * Subscribe on behalf of a {@link TopicSubscriptionManager}, which chooses the mirror node of each
+     * streaming call and paces retries through {@code listener}. The handlers of this query and
+     * {@code onNext} are all run on {@code dispatcher}, in the order the messages were received.
+     */
+    SubscriptionHandle subscribe(Client client, Consumer<TopicMessage> onNext, Executor dispatcher, StreamListener listener) {
+        var subscription = newSubscription(
+            client,
+            builder.build(),
+            onNext,
+            error -> errorHandler.accept(error, null),
+            () -> completionHandler.run(),
+            dispatcher,
+            false,
+            listener
+        );
+
+        subscription.start();
+
+        return subscription.handle;
+    }
+
+    /**
+     * Create a publisher of the messages of this query, for consumers which need to control how fast
+     * messages are delivered.
+     * <p>
+     * Each subscriber gets its own subscription to the mirror node. Responses are only requested from
+     * the mirror node as the subscriber signals demand, using gRPC flow control, so a slow subscriber
+     * does not cause messages to be buffered without bound. Retries resume from the last received
+     * message as with {@link #subscribe(Client, Consumer)}.
+     * <p>
+     * A failed or completed subscription is signalled to the subscriber. Errors thrown by the
+     * subscriber's {@code onNext} and dropped partial messages are reported to the error handler.
+     *
+     * @param client the client with the mirror network to subscribe through
+     * @return a publisher of the messages
+     */
+    public Flow.Publisher<TopicMessage> asPublisher(Client client) {
+        var query = builder.build();
+
+        return subscriber -> {
+            Objects.requireNonNull(subscriber, "subscriber must not be null");
+
+            var subscription = newSubscription(
+                client,
+                query,
+                subscriber::onNext,
+                subscriber::onError,
+                subscriber::onComplete,
+                MoreExecutors.directExecutor(),
+                true,
+                null
+            );
+
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    if (n <= 0) {
+                        subscription.handle.unsubscribe();
+                        subscriber.onError(new IllegalArgumentException("subscriber requested a non-positive number of messages"));
+                        return;
+                    }
+
+                    subscription.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    subscription.handle.unsubscribe();
+                }
+            });
+
+            subscription.start();
+        };
+    }
+
+    /**
+     * Create a subscription whose messages and handlers are run on {@code dispatcher}, resuming from and
+     * saving to the checkpoint store if one is set.
+     */
+    private Subscription newSubscription(
         Client client,
-        SubscriptionHandle subscriptionHandle,
+        ConsensusTopicQuery query,
         Consumer<TopicMessage> onNext,
-        int attempt,
-        AtomicLong counter,
-        AtomicReference<ConsensusTopicResponse> lastMessage,
-        HashMap<TransactionID, ArrayList<ConsensusTopicResponse>> pendingMessages
+        Consumer<Throwable> onError,
+        Runnable onComplete,
+        Executor dispatcher,
+        boolean flowControlled,
+        @Nullable StreamListener listener
     ) {
-        ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> call =
-            client.mirrorNetwork.getNextMirrorNode().getChannel()
+        var checkpointStore = this.checkpointStore;
+        @Nullable SubscriptionCheckpointer checkpointer = checkpointStore == null ? null : new SubscriptionCheckpointer(
+            checkpointStore,
+            TopicId.fromProtobuf(query.getTopicID()),
+            checkpointInterval.toNanos(),
+            onNext,
+            error -> errorHandler.accept(error, null)
+        );
+        BiConsumer<TopicMessage, Instant> deliver = checkpointer != null
+            ? checkpointer
+            : (message, resumeAt) -> onNext.accept(message);
+
+        var subscription = new Subscription(
+            client,
+            checkpointer != null ? checkpointer.resume(query) : query,
+            (message, resumeAt) -> dispatcher.execute(() -> {
+                try {
+                    deliver.accept(message, resumeAt);
+                } catch (Throwable t) {
+                    errorHandler.accept(t, message);
+                }
+            }),
+            // the final checkpoint is saved after every message before it has been delivered
+            error -> dispatcher.execute(() -> {
+                if (checkpointer != null) {
+                    checkpointer.close();
+                }
+
+                onError.accept(error);
+            }),
+            () -> dispatcher.execute(() -> {
+                if (checkpointer != null) {
+                    checkpointer.close();
+                }
+
+                onComplete.run();
+            }),
+            evicted -> dispatcher.execute(() -> errorHandler.accept(evicted, null)),
+            flowControlled,
+            listener
+        );
+
+        if (checkpointer != null) {
+            // messages not yet delivered when unsubscribing are dropped, and are delivered after resuming
+            subscription.handle.setOnUnsubscribe(() -> {
+                subscription.cancel();
+                checkpointer.close();
+            });
+        }
+
+        return subscription;
+    }
+
+    /**
+     * Told about the streaming calls of a subscription, so their mirror nodes and retries can be coordinated
+     * with other subscriptions.
+     */
+    interface StreamListener {
+        /**
+         * @return the mirror node to open the next streaming call to
+         */
+        MirrorNode nextMirrorNode();
+
+        /**
+         * Called once for every streaming call opened to {@code node}, when it ends.
+         *
+         * @param error the error the call failed with, or {@code null} if it completed or was cancelled
+         */
+        void onStreamClosed(MirrorNode node, @Nullable Throwable error);
+
+        /**
+         * @param backoff the wait before resubscribing chosen by the subscription, in milliseconds
+         * @return the wait to use instead, in milliseconds
+         */
+        long onRetry(long backoff);
+
+        /**
+         * Called once when the subscription has completed, failed or been unsubscribed.
+         */
+        void onSubscriptionClosed();
+    }
+
+    /**
+     * The state of one subscription, which lives across the streaming calls made to resume it after errors.
+     */
+    private final class Subscription {
+        // the most responses requested from the mirror node at a time when flow controlled
+        private static final int MAX_REQUESTED_RESPONSES = 64;
+
+        final SubscriptionHandle handle = new SubscriptionHandle();
+        private final Client client;
+        private final ConsensusTopicQuery query;
+        // given each message with the consensus timestamp a stream must resume at to see every later message
+        private final BiConsumer<TopicMessage, Instant> onNext;
+        private final Consumer<Throwable> onError;
+        private final Runnable onComplete;
+        private final Consumer<TopicMessageEvictedException> onEvicted;
+        private final boolean flowControlled;
+        private final TopicMessageChunkBuffer pendingMessages;
+        @Nullable
+        private final StreamListener listener;
+
+        // only changed on the thread of the current streaming call
+        private int attempt = 0;
+        private long counter = 0;
+        @Nullable
+        private ConsensusTopicResponse lastMessage = null;
+
+        // guarded by this
+        @Nullable
+        private ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> call = null;
+        private boolean cancelled = false;
+        @Nullable
+        private RetryScheduler.Timeout resubscribe = null;
+        // messages the subscriber is ready for, and responses requested from the current call
+        private long demand = 0;
+        private int requested = 0;
+        private boolean closed = false;
+
+        Subscription(
+            Client client,
+            ConsensusTopicQuery query,
+            BiConsumer<TopicMessage, Instant> onNext,
+            Consumer<Throwable> onError,
+            Runnable onComplete,
+            Consumer<TopicMessageEvictedException> onEvicted,
+            boolean flowControlled,
+            @Nullable StreamListener listener
+        ) {
+            this.client = client;
+            this.query = query;
+            this.onNext = onNext;
+            this.onError = onError;
+            this.onComplete = onComplete;
+            this.onEvicted = onEvicted;
+            this.flowControlled = flowControlled;
+            this.listener = listener;
+            this.pendingMessages = new TopicMessageChunkBuffer(maxPendingMessages, maxPendingBytes, maxPendingAge, e -> {
+                handle.evictedMessages.incrementAndGet();
+                onEvicted.accept(e);
+            });
+
+            handle.setOnUnsubscribe(this::cancel);
+        }
+
+        void start() {
+            var node = listener != null ? listener.nextMirrorNode() : client.mirrorNetwork.getNextMirrorNode();
+            ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> call = node.getChannel()
                 .newCall(ConsensusServiceGrpc.getSubscribeTopicMethod(), CallOptions.DEFAULT);
 
-        subscriptionHandle.setOnUnsubscribe(() -> {
-            call.cancel("unsubscribe", null);
-        });
+            if (isCancelled()) {
+                if (listener != null) {
+                    listener.onStreamClosed(node, null);
+                }
+                return;
+            }
+
+            ClientCalls.asyncServerStreamingCall(call, nextQuery(), new ClientResponseObserver<ConsensusTopicQuery, ConsensusTopicResponse>() {
+                @Override
+                public void beforeStart(ClientCallStreamObserver<ConsensusTopicQuery> requestStream) {
+                    if (flowControlled) {
+                        // responses are requested as the subscriber signals demand
+                        requestStream.disableAutoRequestWithInitial(0);
+                    }
+                }
+
+                @Override
+                public void onNext(ConsensusTopicResponse consensusTopicResponse) {
+                    onResponse(consensusTopicResponse);
+                }
 
-        @Var
-        var newBuilder = builder;
+                @Override
+                public void onError(Throwable t) {
+                    if (listener != null) {
+                        listener.onStreamClosed(node, isCancelled() ? null : t);
+                    }
+
+                    onStreamError(call, t);
+                }
+
+                @Override
+                public void onCompleted() {
+                    if (listener != null) {
+                        listener.onStreamClosed(node, null);
+                    }
+
+                    onComplete.run();
+                    close();
+                }
+            });
 
-        // Update the start time and limit on retry
-        if (lastMessage.get() != null) {
-            newBuilder = builder.clone();
+            // publish the call only once it has started, as gRPC rejects requests on an unstarted call
+            synchronized (this) {
+                if (cancelled) {
+                    // unsubscribed while starting, the cancellation is reported to the observer
+                    call.cancel("unsubscribe", null);
+                    return;
+                }
 
-            if (builder.getLimit() > 0) {
-                newBuilder.setLimit(builder.getLimit() - counter.get());
+                this.call = call;
+                requested = 0;
             }
 
-            var lastStartTime = lastMessage.get().getConsensusTimestamp();
-            var nextStartTime = Timestamp.newBuilder(lastStartTime).setNanos(lastStartTime.getNanos() + 1);
-            newBuilder.setConsensusStartTime(nextStartTime);
+            if (flowControlled) {
+                requestResponses();
+            }
         }
 
-        ClientCalls.asyncServerStreamingCall(call, newBuilder.build(), new StreamObserver<>() {
-            @Override
-            public void onNext(ConsensusTopicResponse consensusTopicResponse) {
-                counter.incrementAndGet();
-                lastMessage.set(consensusTopicResponse);
+        synchronized void cancel() {
+            cancelled = true;
 
-                // Short circuit for no chunks or 1/1 chunks
-                if (!consensusTopicResponse.hasChunkInfo() || consensusTopicResponse.getChunkInfo().getTotal() == 1) {
-                    var message = TopicMessage.ofSingle(consensusTopicResponse);
+            if (resubscribe != null) {
+                resubscribe.cancel();
+            }
 
-                    try {
-                        onNext.accept(message);
-                    } catch (Throwable t) {
-                        errorHandler.accept(t, message);
-                    }
+            if (call != null) {
+                call.cancel("unsubscribe", null);
+            }
+
+            close();
+        }
 
+        private synchronized boolean isCancelled() {
+            return cancelled;
+        }
+
+        private void close() {
+            synchronized (this) {
+                if (closed) {
                     return;
                 }
 
-                // get the list of chunks for this pending message
-                var initialTransactionID = consensusTopicResponse.getChunkInfo().getInitialTransactionID();
+                closed = true;
+            }
+
+            if (listener != null) {
+                listener.onSubscriptionClosed();
+            }
+        }
+
+        synchronized void request(long n) {
+            // saturate at Long.MAX_VALUE, which is unbounded
+            demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+
+            requestResponses();
+        }
 
-                // Can't use `HashMap.putIfAbsent()` since that method is not available on Android
-                if (!pendingMessages.containsKey(initialTransactionID)) {
-                    pendingMessages.put(initialTransactionID, new ArrayList<>());
+        private synchronized void requestResponses() {
+            if (call == null || cancelled) {
+                return;
+            }
+
+            // keep as many responses requested as messages wanted, up to a limit; a chunked message
+            // needs several responses, so this is topped up again after every response
+            var wanted = (int) Math.min(demand, MAX_REQUESTED_RESPONSES);
+
+            if (wanted > requested) {
+                call.request(wanted - requested);
+                requested = wanted;
+            }
+        }
+
+        private ConsensusTopicQuery nextQuery() {
+            var lastMessage = this.lastMessage;
+
+            if (lastMessage == null) {
+                return query;
+            }
+
+            // Update the start time and limit on retry
+            var newQuery = query.toBuilder();
+
+            if (query.getLimit() > 0) {
+                newQuery.setLimit(query.getLimit() - counter);
+            }
+
+            var lastStartTime = lastMessage.getConsensusTimestamp();
+            var nextStartTime = Timestamp.newBuilder(lastStartTime).setNanos(lastStartTime.getNanos() + 1);
+            newQuery.setConsensusStartTime(nextStartTime);
+
+            return newQuery.build();
+        }
+
+        private void onResponse(ConsensusTopicResponse consensusTopicResponse) {
+            counter += 1;
+            lastMessage = consensusTopicResponse;
+
+            if (flowControlled) {
+                synchronized (this) {
+                    requested -= 1;
                 }
+            }
 
-                ArrayList<ConsensusTopicResponse> chunks = pendingMessages.get(initialTransactionID);
+            @Nullable @Var TopicMessage message = null;
 
-                // not possible as we do [putIfAbsent]
-                // add our response to the pending chunk list
-                Objects.requireNonNull(chunks).add(consensusTopicResponse);
+            // Short circuit for no chunks or 1/1 chunks
+            if (!consensusTopicResponse.hasChunkInfo() || consensusTopicResponse.getChunkInfo().getTotal() == 1) {
+                message = TopicMessage.ofSingle(consensusTopicResponse);
+            } else {
+                // add our response to the pending chunks, getting all of them back once complete
+                var chunks = pendingMessages.add(consensusTopicResponse);
 
                 // if we now have enough chunks, emit
-                if (chunks.size() == consensusTopicResponse.getChunkInfo().getTotal()) {
-                    var message = TopicMessage.ofMany(chunks);
+                if (chunks != null) {
+                    message = TopicMessage.ofMany(chunks);
+                }
+            }
 
-                    try {
-                        onNext.accept(message);
-                    } catch (Throwable t) {
-                        errorHandler.accept(t, message);
+            if (message != null) {
+                if (flowControlled) {
+                    synchronized (this) {
+                        if (demand != Long.MAX_VALUE) {
+                            demand -= 1;
+                        }
                     }
                 }
+
+                // chunks of partial messages received so far would be lost by resuming just after this message
+                @Nullable var oldestPending = pendingMessages.getOldestPendingTimestamp();
+                var resumeAt = oldestPending != null ? oldestPending : message.consensusTimestamp.plusNanos(1);
+
+                try {
+                    onNext.accept(message, resumeAt);
+                } catch (Throwable t) {
+                    errorHandler.accept(t, message);
+                }
+            }
+
+            if (flowControlled) {
+                requestResponses();
             }
+        }
 
-            @Override
-            public void onError(Throwable t) {
-                if (attempt >= maxAttempts || !retryHandler.test(t)) {
-                    errorHandler.accept(t, null);
+        private void onStreamError(ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> call, Throwable t) {
+            synchronized (this) {
+                if (cancelled) {
+                    // unsubscribed, so the error is the cancellation itself
                     return;
                 }
+            }
 
-                var delay = Math.min(500 * (long) Math.pow(2, attempt), maxBackoff.toMillis());
-                var topicId = TopicId.fromProtobuf(builder.getTopicID());
-                LOGGER.warn("Error subscribing to topic {} during attempt #{}. Waiting {} ms before next attempt: {}",
-                    topicId, attempt, delay, t.getMessage());
-                call.cancel("unsubscribed", null);
+            if (attempt >= maxAttempts || !retryHandler.test(t)) {
+                onError.accept(t);
+                close();
+                return;
+            }
 
-                // Cannot use `CompletableFuture<U>` here since this future is never polled
-                try {
-                    Thread.sleep(delay);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
+            // Exponential back-off with jitter so that subscriptions which failed together do not all
+            // resubscribe together: half of 500ms, 1s, 2s, ... maxBackoff plus up to as much again at random
+            var backoff = Math.min(500 * (long) Math.pow(2, attempt), maxBackoff.toMillis());
+            @Var var delay = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
 
-                makeStreamingCall(client, subscriptionHandle, onNext, attempt + 1, counter, lastMessage, pendingMessages);
+            if (listener != null) {
+                delay = listener.onRetry(delay);
             }
 
-            @Override
-            public void onCompleted() {
-                completionHandler.run();
+            var topicId = TopicId.fromProtobuf(query.getTopicID());
+            LOGGER.warn("Error subscribing to topic {} during attempt #{}. Waiting {} ms before next attempt: {}",
+                topicId, attempt, delay, t.getMessage());
+            call.cancel("unsubscribed", null);
+
+            attempt += 1;
+
+            synchronized (this) {
+                if (!cancelled) {
+                    // wait on the client's timer rather than holding the gRPC callback thread
+                    resubscribe = client.retryScheduler.schedule(delay, this::start, error -> {
+                        onError.accept(error);
+                        close();
+                    });
+                }
             }
-        });
+        }
     }
 }
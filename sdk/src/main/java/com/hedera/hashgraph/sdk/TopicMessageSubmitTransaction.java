@@ -12,7 +12,7 @@ import com.hedera.hashgraph.sdk.proto.TransactionResponse;
 import io.grpc.MethodDescriptor;
 
 import javax.annotation.Nullable;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
 import java.util.Objects;
 
 /**
@@ -33,7 +33,7 @@ public final class TopicMessageSubmitTransaction extends ChunkedTransaction<Topi
     public TopicMessageSubmitTransaction() {
     }
 
-    TopicMessageSubmitTransaction(LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>> txs) throws InvalidProtocolBufferException {
+    TopicMessageSubmitTransaction(TransactionListDecoder.Decoded txs) throws InvalidProtocolBufferException {
         super(txs);
         initFromTransactionBody();
     }
@@ -77,9 +77,14 @@ public final class TopicMessageSubmitTransaction extends ChunkedTransaction<Topi
             topicId = TopicId.fromProtobuf(body.getTopicID());
         }
 
+        var chunks = new ArrayList<ByteString>();
+
+        // the first chunk is the source transaction body, which has already been parsed
+        chunks.add(body.getMessage());
+
         try {
-            for (var i = 0; i < innerSignedTransactions.size(); i += nodeAccountIds.isEmpty() ? 1 : nodeAccountIds.size()) {
-                data = data.concat(
+            for (var i = nodeAccountIds.isEmpty() ? 1 : nodeAccountIds.size(); i < innerSignedTransactions.size(); i += nodeAccountIds.isEmpty() ? 1 : nodeAccountIds.size()) {
+                chunks.add(
                     TransactionBody.parseFrom(innerSignedTransactions.get(i).getBodyBytes())
                         .getConsensusSubmitMessage().getMessage()
                 );
@@ -87,6 +92,8 @@ public final class TopicMessageSubmitTransaction extends ChunkedTransaction<Topi
         } catch (InvalidProtocolBufferException exc) {
             throw new IllegalArgumentException(exc.getMessage());
         }
+
+        data = ByteString.copyFrom(chunks);
     }
 
     ConsensusSubmitMessageTransactionBody.Builder build() {
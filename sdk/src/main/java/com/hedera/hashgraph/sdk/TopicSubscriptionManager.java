@@ -0,0 +1,419 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.errorprone.annotations.Var;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java8.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coordinates many topic subscriptions made through one {@link Client}.
+ * <p>
+ * Each subscription still has its own streaming call, but the mirror node of every call is chosen by the manager:
+ * the healthy mirror node with the fewest open streams. A mirror node whose streams fail with a transport or
+ * server error is backed off from, so the affected subscriptions resubscribe to the other mirror nodes. Retries of
+ * all subscriptions share one budget of {@link #setMaxRetriesPerSecond(int)}, so a failed mirror node does not
+ * cause every stream it served to resubscribe at once.
+ * <p>
+ * Messages are delivered on a fixed number of dispatch threads. All messages of one topic are delivered on the
+ * same thread, in order, together with the completion and error handlers of its query; different topics are
+ * delivered in parallel.
+ *
+ * <pre>{@code
+ * var manager = client.getTopicSubscriptionManager().setDispatchParallelism(4);
+ *
+ * for (var topicId : topicIds) {
+ *     manager.subscribe(new TopicMessageQuery().setTopicId(topicId), message -> { ... });
+ * }
+ * }</pre>
+ *
+ * @see Client#getTopicSubscriptionManager()
+ */
+public final class TopicSubscriptionManager {
+    private static final Logger logger = LoggerFactory.getLogger(TopicSubscriptionManager.class);
+
+    // How long a failed mirror node is avoided, doubling for each failure in a row; longer than the first
+    // back off of a subscription so that its retry goes elsewhere
+    private static final long MIN_NODE_BACKOFF_MILLIS = 2000;
+    private static final long MAX_NODE_BACKOFF_MILLIS = 60000;
+
+    private final Client client;
+    private final AtomicLong deliveredMessages = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong queuedMessages = new AtomicLong();
+
+    // guarded by this
+    private final Map<MirrorNode, NodeStreams> streams = new HashMap<>();
+    private final Set<Tracked> subscriptions = new HashSet<>();
+    private int dispatchParallelism = Runtime.getRuntime().availableProcessors();
+    private int maxRetriesPerSecond = 20;
+    @Nullable
+    private ExecutorService[] dispatchers = null;
+    private long nextRetryAt = System.nanoTime();
+    private int nextNode = 0;
+    private boolean closed = false;
+
+    TopicSubscriptionManager(Client client) {
+        this.client = client;
+    }
+
+    /**
+     * @return the number of threads messages are delivered on
+     */
+    public synchronized int getDispatchParallelism() {
+        return dispatchParallelism;
+    }
+
+    /**
+     * Set the number of threads messages are delivered on. Messages of one topic are always delivered in order
+     * on the same thread. This can not be changed once the first subscription has been made.
+     * <p>
+     * Defaults to the number of available processors.
+     *
+     * @param dispatchParallelism the number of dispatch threads
+     * @return {@code this}
+     */
+    public synchronized TopicSubscriptionManager setDispatchParallelism(int dispatchParallelism) {
+        if (dispatchParallelism < 1) {
+            throw new IllegalArgumentException("dispatchParallelism must be at least 1");
+        }
+
+        if (dispatchers != null) {
+            throw new IllegalStateException("dispatchParallelism can not be changed after the first subscription");
+        }
+
+        this.dispatchParallelism = dispatchParallelism;
+        return this;
+    }
+
+    /**
+     * @return the maximum rate at which subscriptions resubscribe after errors
+     */
+    public synchronized int getMaxRetriesPerSecond() {
+        return maxRetriesPerSecond;
+    }
+
+    /**
+     * Set the maximum rate at which the subscriptions of this manager, together, resubscribe after errors.
+     * Retries beyond this rate wait longer than their own back off.
+     * <p>
+     * Defaults to 20.
+     *
+     * @param maxRetriesPerSecond the shared retry rate
+     * @return {@code this}
+     */
+    public synchronized TopicSubscriptionManager setMaxRetriesPerSecond(int maxRetriesPerSecond) {
+        if (maxRetriesPerSecond < 1) {
+            throw new IllegalArgumentException("maxRetriesPerSecond must be at least 1");
+        }
+
+        this.maxRetriesPerSecond = maxRetriesPerSecond;
+        return this;
+    }
+
+    /**
+     * Subscribe to the messages of a topic through this manager.
+     * <p>
+     * The query's retry and chunk settings apply as for {@link TopicMessageQuery#subscribe(Client, Consumer)};
+     * its completion and error handlers, and {@code onNext}, are run on the dispatch thread of its topic.
+     *
+     * @param query  the query to subscribe with
+     * @param onNext called with every message of the topic
+     * @return the handle to unsubscribe with
+     */
+    public SubscriptionHandle subscribe(TopicMessageQuery query, Consumer<TopicMessage> onNext) {
+        Objects.requireNonNull(query, "query must not be null");
+        Objects.requireNonNull(onNext, "onNext must not be null");
+
+        var tracked = new Tracked();
+        var dispatcher = register(query.getTopicId(), tracked);
+
+        SubscriptionHandle handle;
+
+        try {
+            handle = query.subscribe(client, message -> {
+                deliveredMessages.incrementAndGet();
+                onNext.accept(message);
+            }, dispatcher, tracked);
+        } catch (RuntimeException e) {
+            tracked.onSubscriptionClosed();
+            throw e;
+        }
+
+        boolean wasClosed;
+
+        synchronized (this) {
+            tracked.handle = handle;
+            wasClosed = closed;
+        }
+
+        if (wasClosed) {
+            // the manager was closed while this was subscribing
+            handle.unsubscribe();
+        }
+
+        return handle;
+    }
+
+    /**
+     * @return the number of subscriptions which have not completed, failed or been unsubscribed
+     */
+    public synchronized int getSubscriptionCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * @return the number of open streaming calls to each mirror node, keyed by mirror node address
+     */
+    public synchronized Map<String, Integer> getStreamCounts() {
+        var counts = new HashMap<String, Integer>(streams.size());
+
+        for (var entry : streams.entrySet()) {
+            counts.put(entry.getKey().address, entry.getValue().active);
+        }
+
+        return counts;
+    }
+
+    /**
+     * @return the number of messages delivered to all subscriptions of this manager
+     */
+    public long getDeliveredMessageCount() {
+        return deliveredMessages.get();
+    }
+
+    /**
+     * @return the number of times subscriptions of this manager have resubscribed after an error
+     */
+    public long getRetryCount() {
+        return retries.get();
+    }
+
+    /**
+     * @return the number of messages and handler calls waiting for a dispatch thread
+     */
+    public long getQueuedMessageCount() {
+        return queuedMessages.get();
+    }
+
+    /**
+     * Unsubscribe every subscription and stop the dispatch threads once they have delivered what was already
+     * received.
+     */
+    void close() {
+        ArrayList<Tracked> open;
+        @Nullable ExecutorService[] dispatchers;
+
+        synchronized (this) {
+            closed = true;
+            open = new ArrayList<>(subscriptions);
+            dispatchers = this.dispatchers;
+        }
+
+        for (var tracked : open) {
+            var handle = tracked.handle;
+
+            if (handle != null) {
+                handle.unsubscribe();
+            }
+        }
+
+        if (dispatchers != null) {
+            for (var dispatcher : dispatchers) {
+                dispatcher.shutdown();
+            }
+        }
+    }
+
+    private synchronized Executor register(TopicId topicId, Tracked tracked) {
+        if (closed) {
+            throw new IllegalStateException("the client of this subscription manager has been closed");
+        }
+
+        @Var var dispatchers = this.dispatchers;
+
+        if (dispatchers == null) {
+            var threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat("hedera-sdk-topic-%d")
+                .setDaemon(true)
+                .build();
+
+            dispatchers = new ExecutorService[dispatchParallelism];
+
+            for (var i = 0; i < dispatchers.length; i++) {
+                dispatchers[i] = Executors.newSingleThreadExecutor(threadFactory);
+            }
+
+            this.dispatchers = dispatchers;
+        }
+
+        subscriptions.add(tracked);
+
+        // every message of a topic goes through the same single threaded executor, which keeps them in order
+        var dispatcher = dispatchers[Math.floorMod(topicId.hashCode(), dispatchers.length)];
+
+        return command -> {
+            queuedMessages.incrementAndGet();
+
+            dispatcher.execute(() -> {
+                queuedMessages.decrementAndGet();
+                command.run();
+            });
+        };
+    }
+
+    /**
+     * @return whether a stream failing with {@code error} means its mirror node should be backed off from
+     */
+    private static boolean isMirrorNodeFailure(Throwable error) {
+        if (!(error instanceof StatusRuntimeException)) {
+            return false;
+        }
+
+        var code = ((StatusRuntimeException) error).getStatus().getCode();
+
+        // NOT_FOUND and INVALID_ARGUMENT are about the query, not the mirror node
+        return code == Status.Code.UNAVAILABLE ||
+            code == Status.Code.RESOURCE_EXHAUSTED ||
+            code == Status.Code.INTERNAL ||
+            code == Status.Code.UNKNOWN ||
+            code == Status.Code.DEADLINE_EXCEEDED;
+    }
+
+    /**
+     * The streams the manager has opened to one mirror node.
+     */
+    private static final class NodeStreams {
+        int active = 0;
+        int failures = 0;
+        long backoffUntil = System.nanoTime();
+
+        boolean isHealthy(long now) {
+            return now - backoffUntil >= 0;
+        }
+    }
+
+    private final class Tracked implements TopicMessageQuery.StreamListener {
+        // set under the manager's lock once subscribed
+        @Nullable
+        volatile SubscriptionHandle handle = null;
+
+        @Override
+        public MirrorNode nextMirrorNode() {
+            synchronized (TopicSubscriptionManager.this) {
+                var nodes = new ArrayList<MirrorNode>(client.mirrorNetwork.network);
+
+                if (nodes.isEmpty()) {
+                    throw new IllegalStateException("the client has no mirror network");
+                }
+
+                var now = System.nanoTime();
+
+                // start from a rotating node so that ties are spread out
+                @Var var best = nodes.get(nextNode % nodes.size());
+                @Var var bestStreams = streamsOf(best);
+
+                for (var i = 1; i < nodes.size(); i++) {
+                    var node = nodes.get((nextNode + i) % nodes.size());
+                    var nodeStreams = streamsOf(node);
+                    var healthy = nodeStreams.isHealthy(now);
+                    var bestHealthy = bestStreams.isHealthy(now);
+
+                    if ((healthy && !bestHealthy) || (healthy == bestHealthy && nodeStreams.active < bestStreams.active)) {
+                        best = node;
+                        bestStreams = nodeStreams;
+                    }
+                }
+
+                nextNode = (nextNode + 1) % nodes.size();
+                bestStreams.active += 1;
+
+                return best;
+            }
+        }
+
+        @Override
+        public void onStreamClosed(MirrorNode node, @Nullable Throwable error) {
+            synchronized (TopicSubscriptionManager.this) {
+                var nodeStreams = streams.get(node);
+
+                if (nodeStreams == null) {
+                    return;
+                }
+
+                nodeStreams.active -= 1;
+
+                var now = System.nanoTime();
+
+                if (error != null && isMirrorNodeFailure(error)) {
+                    nodeStreams.failures += 1;
+
+                    var backoff = Math.min(
+                        MIN_NODE_BACKOFF_MILLIS * (long) Math.pow(2, nodeStreams.failures - 1),
+                        MAX_NODE_BACKOFF_MILLIS);
+
+                    nodeStreams.backoffUntil = now + TimeUnit.MILLISECONDS.toNanos(backoff);
+
+                    logger.debug("Mirror node {} failed a stream, backing off for {} ms: {}",
+                        node.address, backoff, error.getMessage());
+                } else if (error == null && nodeStreams.isHealthy(now)) {
+                    nodeStreams.failures = 0;
+                }
+
+                if (nodeStreams.active == 0 && !client.mirrorNetwork.network.contains(node)) {
+                    // the node has been removed from the mirror network
+                    streams.remove(node);
+                }
+            }
+        }
+
+        @Override
+        public long onRetry(long backoff) {
+            retries.incrementAndGet();
+
+            synchronized (TopicSubscriptionManager.this) {
+                var now = System.nanoTime();
+                var earliest = now + TimeUnit.MILLISECONDS.toNanos(backoff);
+                var at = nextRetryAt - earliest > 0 ? nextRetryAt : earliest;
+
+                // reserve the next slot of the shared retry budget
+                nextRetryAt = at + TimeUnit.SECONDS.toNanos(1) / maxRetriesPerSecond;
+
+                return TimeUnit.NANOSECONDS.toMillis(at - now);
+            }
+        }
+
+        @Override
+        public void onSubscriptionClosed() {
+            synchronized (TopicSubscriptionManager.this) {
+                subscriptions.remove(this);
+            }
+        }
+
+        private NodeStreams streamsOf(MirrorNode node) {
+            @Var var nodeStreams = streams.get(node);
+
+            if (nodeStreams == null) {
+                nodeStreams = new NodeStreams();
+                streams.put(node, nodeStreams);
+            }
+
+            return nodeStreams;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.hedera.hashgraph.sdk;
 
 import com.google.errorprone.annotations.Var;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.hashgraph.sdk.proto.SchedulableTransactionBody;
 import com.hedera.hashgraph.sdk.proto.SignatureMap;
@@ -11,17 +12,21 @@ import com.hedera.hashgraph.sdk.proto.TransactionBody;
 import com.hedera.hashgraph.sdk.proto.TransactionList;
 import java8.util.concurrent.CompletableFuture;
 import java8.util.function.Function;
-import org.bouncycastle.crypto.digests.SHA384Digest;
 import org.threeten.bp.Duration;
 
 import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Base class for all transactions that may be built and submitted to Hedera.
@@ -76,6 +81,12 @@ public abstract class Transaction<T extends Transaction<T>>
     @Nullable
     private Hbar maxTransactionFee = null;
     private String memo = "";
+    // When set, buildAllTransactions() builds and signs the transaction for each node and chunk in this pool
+    @Nullable
+    private ForkJoinPool buildPool = null;
+    // The hash of each built entry of outerTransactions, paired with the entry it was computed from
+    // so that an entry which has been rebuilt after signing is hashed again.
+    private HashedTransaction[] transactionHashes = new HashedTransaction[0];
 
     Transaction() {
         setTransactionValidDuration(DEFAULT_TRANSACTION_VALID_DURATION);
@@ -92,42 +103,61 @@ public abstract class Transaction<T extends Transaction<T>>
         sourceTransactionBody = txBody;
     }
 
-    // This constructor is used to construct via fromBytes
-    Transaction(LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>> txs) throws InvalidProtocolBufferException {
-        var txCount = txs.keySet().size();
-        var nodeCount = txs.values().iterator().next().size();
-
-        nodeAccountIds = new ArrayList<>(nodeCount);
-        sigPairLists = new ArrayList<>(nodeCount * txCount);
-        outerTransactions = new ArrayList<>(nodeCount * txCount);
-        innerSignedTransactions = new ArrayList<>(nodeCount * txCount);
-        transactionIds = new ArrayList<>(txCount);
-
-        for (var transactionEntry : txs.entrySet()) {
-            transactionIds.add(transactionEntry.getKey());
-
-            for (var nodeEntry : transactionEntry.getValue().entrySet()) {
-                if (nodeAccountIds.size() != nodeCount) {
-                    nodeAccountIds.add(nodeEntry.getKey());
-                }
+    // This constructor is used to construct from a TransactionTemplate, with the body for each node already
+    // serialized. sourceTransactionBody holds only the fields which are the same for every instance of the template.
+    Transaction(
+        TransactionBody sourceTransactionBody,
+        TransactionId transactionId,
+        String memo,
+        List<AccountId> nodeAccountIds,
+        List<ByteString> nodeBodies
+    ) {
+        this.sourceTransactionBody = sourceTransactionBody;
+        this.nodeAccountIds = new ArrayList<>(nodeAccountIds);
 
-                var transaction = SignedTransaction.parseFrom(nodeEntry.getValue().getSignedTransactionBytes());
-                outerTransactions.add(nodeEntry.getValue());
-                sigPairLists.add(transaction.getSigMap().toBuilder());
-                innerSignedTransactions.add(transaction.toBuilder());
+        transactionIds = Collections.singletonList(transactionId);
+        sigPairLists = new ArrayList<>(nodeBodies.size());
+        outerTransactions = new ArrayList<>(nodeBodies.size());
+        innerSignedTransactions = new ArrayList<>(nodeBodies.size());
 
-                if (publicKeys.isEmpty()) {
-                    for (var sigPair : transaction.getSigMap().getSigPairList()) {
-                        publicKeys.add(PublicKey.fromBytes(sigPair.getPubKeyPrefix().toByteArray()));
-                        signers.add(null);
-                    }
-                }
-            }
+        for (var bodyBytes : nodeBodies) {
+            sigPairLists.add(SignatureMap.newBuilder());
+            innerSignedTransactions.add(SignedTransaction.newBuilder().setBodyBytes(bodyBytes));
+            outerTransactions.add(null);
+        }
+
+        setTransactionValidDuration(DurationConverter.fromProtobuf(sourceTransactionBody.getTransactionValidDuration()));
+        setMaxTransactionFee(Hbar.fromTinybars(sourceTransactionBody.getTransactionFee()));
+        setTransactionMemo(memo);
+
+        // The bodies are complete, so the transaction is constructed as frozen
+        frozenBodyBuilder = sourceTransactionBody.toBuilder();
+    }
+
+    // This constructor is used to construct via fromBytes
+    Transaction(TransactionListDecoder.Decoded txs) throws InvalidProtocolBufferException {
+        var entryCount = txs.outerTransactions.size();
+
+        nodeAccountIds = new ArrayList<>(txs.nodeAccountIds);
+        sigPairLists = new ArrayList<>(entryCount);
+        outerTransactions = new ArrayList<>(txs.outerTransactions);
+        innerSignedTransactions = new ArrayList<>(entryCount);
+        transactionIds = new ArrayList<>(txs.transactionIds);
+
+        for (var transaction : txs.signedTransactions) {
+            sigPairLists.add(transaction.getSigMap().toBuilder());
+            innerSignedTransactions.add(transaction.toBuilder());
+        }
+
+        for (var sigPair : txs.signedTransactions.get(0).getSigMap().getSigPairList()) {
+            publicKeys.add(PublicKey.fromBytes(sigPair.getPubKeyPrefix().toByteArray()));
+            signers.add(null);
         }
 
         nodeAccountIds.remove(new AccountId(0));
 
-        sourceTransactionBody = TransactionBody.parseFrom(innerSignedTransactions.get(0).getBodyBytes());
+        // The decoder only scanned the bodies, and the bodies for the other nodes differ only in their node account ID
+        sourceTransactionBody = TransactionBody.parseFrom(txs.signedTransactions.get(0).getBodyBytes());
 
         setTransactionValidDuration(DurationConverter.fromProtobuf(sourceTransactionBody.getTransactionValidDuration()));
         setMaxTransactionFee(Hbar.fromTinybars(sourceTransactionBody.getTransactionFee()));
@@ -140,59 +170,51 @@ public abstract class Transaction<T extends Transaction<T>>
     }
 
     public static Transaction<?> fromBytes(byte[] bytes) throws InvalidProtocolBufferException {
-        var txs = new LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>>();
-        @Var TransactionBody.DataCase dataCase = TransactionBody.DataCase.DATA_NOT_SET;
-
-        var list = TransactionList.parseFrom(bytes);
-
-        if (list.getTransactionListList().isEmpty()) {
-            var transaction = com.hedera.hashgraph.sdk.proto.Transaction.parseFrom(bytes).toBuilder();
-
-            TransactionBody txBody;
-            if (transaction.getSignedTransactionBytes().isEmpty()) {
-                txBody = TransactionBody.parseFrom(transaction.getBodyBytes());
-
-                transaction.setSignedTransactionBytes(SignedTransaction.newBuilder()
-                    .setBodyBytes(transaction.getBodyBytes())
-                    .setSigMap(transaction.getSigMap())
-                    .build()
-                    .toByteString())
-                    .clearBodyBytes()
-                    .clearSigMap();
-            } else {
-                var signedTransaction = SignedTransaction.parseFrom(transaction.getSignedTransactionBytes());
-                txBody = TransactionBody.parseFrom(signedTransaction.getBodyBytes());
-            }
-
-            dataCase = txBody.getDataCase();
-
-            var account = AccountId.fromProtobuf(txBody.getNodeAccountID());
-            var transactionId = TransactionId.fromProtobuf(txBody.getTransactionID());
-
-            var linked = new LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>();
-            linked.put(account, transaction.build());
-            txs.put(transactionId, linked);
-        } else {
-            for (var transaction : list.getTransactionListList()) {
-                var signedTransaction = SignedTransaction.parseFrom(transaction.getSignedTransactionBytes());
-                var txBody = TransactionBody.parseFrom(signedTransaction.getBodyBytes());
-
-                if (dataCase.getNumber() == TransactionBody.DataCase.DATA_NOT_SET.getNumber()) {
-                    dataCase = txBody.getDataCase();
-                }
-
-                var account = AccountId.fromProtobuf(txBody.getNodeAccountID());
-                var transactionId = TransactionId.fromProtobuf(txBody.getTransactionID());
+        try {
+            return fromDecoded(TransactionListDecoder.decode(CodedInputStream.newInstance(bytes)));
+        } catch (InvalidProtocolBufferException e) {
+            throw e;
+        } catch (IOException e) {
+            // reading from an array does not fail other than for invalid input
+            throw new InvalidProtocolBufferException(e);
+        }
+    }
 
-                var linked = txs.containsKey(transactionId) ?
-                    Objects.requireNonNull(txs.get(transactionId)) :
-                    new LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>();
+    /**
+     * Create a transaction from the remaining bytes of a buffer, as produced by {@link #toBytes()}.
+     * <p>
+     * The buffer is read in place, without first being copied into an array.
+     *
+     * @param bytes the serialized transaction list or transaction
+     * @return the transaction
+     * @throws InvalidProtocolBufferException if the bytes are not a valid transaction list or transaction
+     */
+    public static Transaction<?> fromBytes(ByteBuffer bytes) throws InvalidProtocolBufferException {
+        try {
+            return fromDecoded(TransactionListDecoder.decode(CodedInputStream.newInstance(bytes)));
+        } catch (InvalidProtocolBufferException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new InvalidProtocolBufferException(e);
+        }
+    }
 
-                linked.put(account, transaction);
+    /**
+     * Create a transaction from a stream of the bytes produced by {@link #toBytes()}.
+     * <p>
+     * The entries of the transaction list are decoded one at a time as they are read, so the serialized list is
+     * never held in memory as a whole. The stream is read to its end but is not closed.
+     *
+     * @param stream the serialized transaction list or transaction
+     * @return the transaction
+     * @throws IOException if the stream could not be read or does not hold a valid transaction list or transaction
+     */
+    public static Transaction<?> fromStream(InputStream stream) throws IOException {
+        return fromDecoded(TransactionListDecoder.decode(CodedInputStream.newInstance(stream)));
+    }
 
-                txs.put(transactionId, linked);
-            }
-        }
+    private static Transaction<?> fromDecoded(TransactionListDecoder.Decoded txs) throws InvalidProtocolBufferException {
+        var dataCase = txs.dataCase;
 
         switch (dataCase) {
             case CONTRACTCALL:
@@ -418,14 +440,8 @@ public abstract class Transaction<T extends Transaction<T>>
         }
     }
 
-    static byte[] hash(byte[] bytes) {
-        var digest = new SHA384Digest();
-        var hash = new byte[digest.getDigestSize()];
-
-        digest.update(bytes, 0, bytes.length);
-        digest.doFinal(hash, 0);
-
-        return hash;
+    static byte[] hash(ByteString bytes) {
+        return ThreadLocalSha384.digest(bytes);
     }
 
     protected ScheduleCreateTransaction doSchedule(TransactionBody.Builder bodyBuilder) {
@@ -541,6 +557,45 @@ public abstract class Transaction<T extends Transaction<T>>
         return (T) this;
     }
 
+    /**
+     * Build and sign the transactions for every node (and every chunk) in parallel on the common
+     * {@link ForkJoinPool}, instead of one after the other on the calling thread.
+     * <p>
+     * This is worthwhile when there are many signatures to make, for example a transaction signed by
+     * several keys of a {@link KeyList} and prepared for many nodes, or a large file append split into
+     * many chunks. The built transactions are byte-for-byte identical to those built serially.
+     * <p>
+     * Every signer given to {@link #signWith(PublicKey, Function)} must be safe to call from several
+     * threads at once. Signers created by {@link #sign(PrivateKey)} are.
+     *
+     * @param parallelBuild whether to build in parallel
+     * @return {@code this}
+     */
+    public final T setParallelBuild(boolean parallelBuild) {
+        return setParallelBuild(parallelBuild ? ForkJoinPool.commonPool() : null);
+    }
+
+    /**
+     * Build and sign the transactions for every node (and every chunk) in parallel on {@code pool}.
+     *
+     * @param pool the pool to build in, or {@code null} to build serially on the calling thread
+     * @return {@code this}
+     * @see #setParallelBuild(boolean)
+     */
+    public final T setParallelBuild(@Nullable ForkJoinPool pool) {
+        buildPool = pool;
+
+        // noinspection unchecked
+        return (T) this;
+    }
+
+    /**
+     * @return whether transactions are built and signed in parallel
+     */
+    public final boolean isParallelBuild() {
+        return buildPool != null;
+    }
+
     public byte[] toBytes() {
         if (!this.isFrozen()) {
             throw new IllegalStateException("transaction must have been frozen before conversion to bytes will be stable, try calling `freeze`");
@@ -564,9 +619,7 @@ public abstract class Transaction<T extends Transaction<T>>
 
         var index = nextTransactionIndex * nodeAccountIds.size() + nextNodeIndex;
 
-        buildTransaction(index);
-
-        return hash(outerTransactions.get(index).getSignedTransactionBytes().toByteArray());
+        return hashTransaction(index);
     }
 
     public Map<AccountId, byte[]> getTransactionHashPerNode() {
@@ -579,7 +632,7 @@ public abstract class Transaction<T extends Transaction<T>>
         var hashes = new HashMap<AccountId, byte[]>();
 
         for (var i = 0; i < outerTransactions.size(); i++) {
-            hashes.put(nodeAccountIds.get(i), hash(outerTransactions.get(i).getSignedTransactionBytes().toByteArray()));
+            hashes.put(nodeAccountIds.get(i), hashTransaction(i));
         }
 
         return hashes;
@@ -617,7 +670,9 @@ public abstract class Transaction<T extends Transaction<T>>
     }
 
     public final T sign(PrivateKey privateKey) {
-        return signWith(privateKey.getPublicKey(), privateKey::sign);
+        var signingContext = privateKey.getSigningContext();
+
+        return signWith(signingContext.publicKey, signingContext::sign);
     }
 
     public T signWith(PublicKey publicKey, Function<byte[], byte[]> transactionSigner) {
@@ -693,6 +748,31 @@ public abstract class Transaction<T extends Transaction<T>>
         return (T) this;
     }
 
+    /**
+     * Register a key whose signatures are added with {@link #addSignatureAt(int, PublicKey, byte[])}.
+     *
+     * @return false if the key has already signed this transaction
+     */
+    boolean addExternalSigner(PublicKey publicKey) {
+        if (keyAlreadySigned(publicKey)) {
+            return false;
+        }
+
+        publicKeys.add(publicKey);
+        signers.add(null);
+
+        return true;
+    }
+
+    /**
+     * Add a signature made elsewhere to the transaction at {@code index}. Only that transaction is
+     * built again.
+     */
+    void addSignatureAt(int index, PublicKey publicKey, byte[] signature) {
+        sigPairLists.get(index).addSigPair(publicKey.toSignaturePairProtobuf(signature));
+        outerTransactions.set(index, null);
+    }
+
     protected Map<AccountId, Map<PublicKey, byte[]>> getSignaturesAtOffset(int offset) {
         var map = new HashMap<AccountId, Map<PublicKey, byte[]>>(nodeAccountIds.size());
 
@@ -818,14 +898,13 @@ public abstract class Transaction<T extends Transaction<T>>
         sigPairLists = new ArrayList<>(nodeAccountIds.size());
         innerSignedTransactions = new ArrayList<>(nodeAccountIds.size());
 
+        // The body is serialized once; each node only adds its node account ID
+        var sharedBody = new SharedTransactionBody(frozenBodyBuilder.build());
+
         for (AccountId nodeId : nodeAccountIds) {
             sigPairLists.add(SignatureMap.newBuilder());
             innerSignedTransactions.add(com.hedera.hashgraph.sdk.proto.SignedTransaction.newBuilder()
-                .setBodyBytes(frozenBodyBuilder
-                    .setNodeAccountID(nodeId.toProtobuf())
-                    .build()
-                    .toByteString()
-                ));
+                .setBodyBytes(sharedBody.forNode(nodeId)));
             outerTransactions.add(null);
         }
 
@@ -834,11 +913,58 @@ public abstract class Transaction<T extends Transaction<T>>
     }
 
     void buildAllTransactions() {
+        var pool = buildPool;
+
+        if (pool != null && innerSignedTransactions.size() > 1 && hasSigners()) {
+            pool.invoke(new BuildTask(0, innerSignedTransactions.size()));
+            return;
+        }
+
         for (var i = 0; i < innerSignedTransactions.size(); ++i) {
             buildTransaction(i);
         }
     }
 
+    private boolean hasSigners() {
+        for (var signer : signers) {
+            if (signer != null) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Builds the transactions in {@code [from, to)}, splitting the range until each task builds one.
+     * <p>
+     * Each index has its own body, signature map and outer transaction, so the tasks share no mutable
+     * state and the result is the same as building them in order.
+     */
+    private final class BuildTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        BuildTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                buildTransaction(from);
+                return;
+            }
+
+            var middle = (from + to) >>> 1;
+
+            invokeAll(new BuildTask(from, middle), new BuildTask(middle, to));
+        }
+    }
+
     /**
      * Will build the specific transaction at {@code index}
      * This function is only ever called after the transaction is frozen.
@@ -864,13 +990,65 @@ public abstract class Transaction<T extends Transaction<T>>
             ).build());
     }
 
-    private boolean publicKeyIsInSigPairList(ByteString publicKeyBytes, List<SignaturePair> sigPairList) {
-        for(var pair : sigPairList) {
-            if(pair.getPubKeyPrefix().equals(publicKeyBytes)) {
-                return true;
-            }
+    /**
+     * Will build and hash the specific transaction at {@code index}.
+     * The hash is computed at most once for each build; every caller receives its own copy.
+     * This function is only ever called after the transaction is frozen.
+     */
+    byte[] hashTransaction(int index) {
+        buildTransaction(index);
+
+        var transaction = outerTransactions.get(index);
+        @Var var hashes = transactionHashes;
+
+        if (hashes.length != outerTransactions.size()) {
+            hashes = new HashedTransaction[outerTransactions.size()];
+            transactionHashes = hashes;
         }
-        return false;
+
+        @Var var hashed = hashes[index];
+
+        if (hashed == null || hashed.transaction != transaction) {
+            hashed = new HashedTransaction(transaction, hash(transaction.getSignedTransactionBytes()));
+            hashes[index] = hashed;
+        }
+
+        return hashed.hash.clone();
+    }
+
+    /**
+     * Hash a request sent to {@code nodeId} for the current transaction ID, reusing the cached hash
+     * when the request is the built transaction.
+     */
+    final byte[] hashRequest(com.hedera.hashgraph.sdk.proto.Transaction request, AccountId nodeId) {
+        var nodeIndex = nodeAccountIds.indexOf(nodeId);
+        var index = nextTransactionIndex * nodeAccountIds.size() + nodeIndex;
+
+        if (nodeIndex >= 0 && index < outerTransactions.size() && outerTransactions.get(index) == request) {
+            return hashTransaction(index);
+        }
+
+        return hash(request.getSignedTransactionBytes());
+    }
+
+    private static final class HashedTransaction {
+        final com.hedera.hashgraph.sdk.proto.Transaction transaction;
+        final byte[] hash;
+
+        HashedTransaction(com.hedera.hashgraph.sdk.proto.Transaction transaction, byte[] hash) {
+            this.transaction = transaction;
+            this.hash = hash;
+        }
+    }
+
+    private static HashSet<ByteString> getPubKeyPrefixes(List<SignaturePair> sigPairList) {
+        var prefixes = new HashSet<ByteString>(sigPairList.size() * 2);
+
+        for (var pair : sigPairList) {
+            prefixes.add(pair.getPubKeyPrefix());
+        }
+
+        return prefixes;
     }
 
     /**
@@ -878,22 +1056,29 @@ public abstract class Transaction<T extends Transaction<T>>
      * This function is only ever called after the transaction is frozen.
      */
     void signTransaction(int index) {
-        var bodyBytes = innerSignedTransactions.get(index).getBodyBytes().toByteArray();
-        var thisSigPairList = sigPairLists.get(index).getSigPairList();
+        var sigPairList = sigPairLists.get(index);
+        var signedPrefixes = getPubKeyPrefixes(sigPairList.getSigPairList());
+
+        @Nullable @Var byte[] bodyBytes = null;
 
         for (var i = 0; i < publicKeys.size(); i++) {
-            if (signers.get(i) == null) {
+            var signer = signers.get(i);
+
+            if (signer == null) {
                 continue;
             }
-            if (publicKeyIsInSigPairList(ByteString.copyFrom(publicKeys.get(i).toBytes()), thisSigPairList)) {
+
+            var publicKey = publicKeys.get(i);
+
+            if (signedPrefixes.contains(publicKey.toPrefixByteString())) {
                 continue;
             }
 
-            var signatureBytes = signers.get(i).apply(bodyBytes);
+            if (bodyBytes == null) {
+                bodyBytes = innerSignedTransactions.get(index).getBodyBytes().toByteArray();
+            }
 
-            sigPairLists
-                .get(index)
-                .addSigPair(publicKeys.get(i).toSignaturePairProtobuf(signatureBytes));
+            sigPairList.addSigPair(publicKey.toSignaturePairProtobuf(signer.apply(bodyBytes)));
         }
     }
 
@@ -925,7 +1110,7 @@ public abstract class Transaction<T extends Transaction<T>>
         com.hedera.hashgraph.sdk.proto.Transaction request
     ) {
         var transactionId = Objects.requireNonNull(getTransactionId());
-        var hash = hash(request.getSignedTransactionBytes().toByteArray());
+        var hash = hashRequest(request, nodeId);
         nextTransactionIndex = (nextTransactionIndex + 1) % transactionIds.size();
         return new TransactionResponse(nodeId, transactionId, hash, null);
     }
@@ -0,0 +1,300 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.SignatureMap;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Decodes a serialized {@link com.hedera.hashgraph.sdk.proto.TransactionList}, or a single serialized
+ * {@link com.hedera.hashgraph.sdk.proto.Transaction}, one entry at a time.
+ * <p>
+ * The body of every entry is only scanned for its transaction ID, node account ID and type; the full body of a
+ * transaction is parsed once by the transaction it is decoded into. The bodies of the entries for different nodes
+ * are checked to be byte for byte the same apart from the node account ID, and every transaction ID must be
+ * present for the same nodes in the same order. The signed transaction of each entry shares the bytes it was read
+ * from instead of copying its body and signatures again.
+ */
+final class TransactionListDecoder {
+    private static final int TRANSACTION_LIST_FIELD = 1;
+    private static final int SIG_MAP_FIELD = 3;
+    private static final int BODY_BYTES_FIELD = 4;
+    private static final int SIGNED_TRANSACTION_BYTES_FIELD = 5;
+
+    private static final int BODY_TRANSACTION_ID_FIELD = 1;
+    private static final int BODY_NODE_ACCOUNT_ID_FIELD = 2;
+
+    private final LinkedHashMap<TransactionId, Group> groups = new LinkedHashMap<>();
+    private TransactionBody.DataCase dataCase = TransactionBody.DataCase.DATA_NOT_SET;
+
+    private TransactionListDecoder() {
+    }
+
+    /**
+     * Decode the entries of a transaction list read from {@code input}. Input which has no entries is decoded
+     * as a single transaction.
+     *
+     * @param input the serialized transaction list or transaction
+     * @return the decoded entries, grouped by transaction ID
+     * @throws IOException if the input could not be read or is not a valid transaction list
+     */
+    static Decoded decode(CodedInputStream input) throws IOException {
+        var decoder = new TransactionListDecoder();
+        var extensionRegistry = ExtensionRegistryLite.getEmptyRegistry();
+
+        // the fields of a single transaction, in case this is not a list
+        var single = com.hedera.hashgraph.sdk.proto.Transaction.newBuilder();
+
+        while (true) {
+            var tag = input.readTag();
+
+            if (tag == 0) {
+                break;
+            }
+
+            var lengthDelimited = WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
+            switch (lengthDelimited ? WireFormat.getTagFieldNumber(tag) : 0) {
+                case TRANSACTION_LIST_FIELD:
+                    decoder.add(input.readMessage(com.hedera.hashgraph.sdk.proto.Transaction.parser(), extensionRegistry));
+                    break;
+
+                case SIG_MAP_FIELD:
+                    single.setSigMap(input.readMessage(SignatureMap.parser(), extensionRegistry));
+                    break;
+
+                case BODY_BYTES_FIELD:
+                    single.setBodyBytes(input.readBytes());
+                    break;
+
+                case SIGNED_TRANSACTION_BYTES_FIELD:
+                    single.setSignedTransactionBytes(input.readBytes());
+                    break;
+
+                default:
+                    input.skipField(tag);
+            }
+        }
+
+        if (decoder.groups.isEmpty()) {
+            decoder.add(single.build());
+        }
+
+        return decoder.finish();
+    }
+
+    private void add(com.hedera.hashgraph.sdk.proto.Transaction transaction) throws IOException {
+        @Var var outer = transaction;
+
+        if (outer.getSignedTransactionBytes().isEmpty() && !outer.getBodyBytes().isEmpty()) {
+            // the deprecated form, with the body and signatures directly in the transaction
+            outer = outer.toBuilder()
+                .setSignedTransactionBytes(SignedTransaction.newBuilder()
+                    .setBodyBytes(outer.getBodyBytes())
+                    .setSigMap(outer.getSigMap())
+                    .build()
+                    .toByteString())
+                .clearBodyBytes()
+                .clearSigMap()
+                .build();
+        }
+
+        var signedInput = outer.getSignedTransactionBytes().newCodedInput();
+        // the body and signatures share the bytes of the outer transaction
+        signedInput.enableAliasing(true);
+
+        var signed = SignedTransaction.parseFrom(signedInput);
+        var body = new BodyScan(signed.getBodyBytes());
+
+        if (body.dataCase != TransactionBody.DataCase.DATA_NOT_SET) {
+            if (dataCase == TransactionBody.DataCase.DATA_NOT_SET) {
+                dataCase = body.dataCase;
+            } else if (dataCase != body.dataCase) {
+                throw new InvalidProtocolBufferException(
+                    "transaction list mixes " + dataCase + " and " + body.dataCase + " transactions");
+            }
+        }
+
+        @Var var group = groups.get(body.transactionId);
+
+        if (group == null) {
+            group = new Group(body);
+            groups.put(body.transactionId, group);
+        } else {
+            group.check(body);
+        }
+
+        group.nodeAccountIds.add(body.nodeAccountId);
+        group.outerTransactions.add(outer);
+        group.signedTransactions.add(signed);
+    }
+
+    private Decoded finish() throws InvalidProtocolBufferException {
+        @Nullable @Var List<AccountId> nodeAccountIds = null;
+        var transactionIds = new ArrayList<TransactionId>(groups.size());
+        var outerTransactions = new ArrayList<com.hedera.hashgraph.sdk.proto.Transaction>();
+        var signedTransactions = new ArrayList<SignedTransaction>();
+
+        for (var entry : groups.entrySet()) {
+            var group = entry.getValue();
+
+            if (nodeAccountIds == null) {
+                nodeAccountIds = group.nodeAccountIds;
+            } else if (!nodeAccountIds.equals(group.nodeAccountIds)) {
+                throw new InvalidProtocolBufferException("transaction " + entry.getKey() +
+                    " is for nodes " + group.nodeAccountIds + " instead of " + nodeAccountIds);
+            }
+
+            transactionIds.add(entry.getKey());
+            outerTransactions.addAll(group.outerTransactions);
+            signedTransactions.addAll(group.signedTransactions);
+        }
+
+        return new Decoded(
+            transactionIds,
+            nodeAccountIds != null ? nodeAccountIds : new ArrayList<>(),
+            outerTransactions,
+            signedTransactions,
+            dataCase
+        );
+    }
+
+    /**
+     * The entries of a transaction list in transaction ID major, node minor order, ready to be taken over by a
+     * {@link Transaction}.
+     */
+    static final class Decoded {
+        final List<TransactionId> transactionIds;
+        final List<AccountId> nodeAccountIds;
+        final List<com.hedera.hashgraph.sdk.proto.Transaction> outerTransactions;
+        final List<SignedTransaction> signedTransactions;
+        final TransactionBody.DataCase dataCase;
+
+        Decoded(
+            List<TransactionId> transactionIds,
+            List<AccountId> nodeAccountIds,
+            List<com.hedera.hashgraph.sdk.proto.Transaction> outerTransactions,
+            List<SignedTransaction> signedTransactions,
+            TransactionBody.DataCase dataCase
+        ) {
+            this.transactionIds = transactionIds;
+            this.nodeAccountIds = nodeAccountIds;
+            this.outerTransactions = outerTransactions;
+            this.signedTransactions = signedTransactions;
+            this.dataCase = dataCase;
+        }
+    }
+
+    /**
+     * The entries of one transaction ID, one per node.
+     */
+    private static final class Group {
+        final List<AccountId> nodeAccountIds = new ArrayList<>();
+        final List<com.hedera.hashgraph.sdk.proto.Transaction> outerTransactions = new ArrayList<>();
+        final List<SignedTransaction> signedTransactions = new ArrayList<>();
+
+        // the body of the first entry, around its node account ID
+        private final ByteString bodyBeforeNode;
+        private final ByteString bodyAfterNode;
+
+        Group(BodyScan body) {
+            bodyBeforeNode = body.beforeNode();
+            bodyAfterNode = body.afterNode();
+        }
+
+        void check(BodyScan body) throws InvalidProtocolBufferException {
+            if (nodeAccountIds.contains(body.nodeAccountId)) {
+                throw new InvalidProtocolBufferException(
+                    "transaction " + body.transactionId + " is listed twice for node " + body.nodeAccountId);
+            }
+
+            if (!bodyBeforeNode.equals(body.beforeNode()) || !bodyAfterNode.equals(body.afterNode())) {
+                throw new InvalidProtocolBufferException(
+                    "the bodies of transaction " + body.transactionId + " differ in more than the node account ID");
+            }
+        }
+    }
+
+    /**
+     * The fields of a transaction body needed to group it, read without parsing the rest of the body.
+     */
+    private static final class BodyScan {
+        final ByteString bytes;
+        final TransactionId transactionId;
+        final AccountId nodeAccountId;
+        final TransactionBody.DataCase dataCase;
+
+        // the range of the node account ID field, including its tag
+        private final int nodeStart;
+        private final int nodeEnd;
+
+        BodyScan(ByteString bytes) throws IOException {
+            this.bytes = bytes;
+
+            var input = bytes.newCodedInput();
+            var extensionRegistry = ExtensionRegistryLite.getEmptyRegistry();
+
+            @Var var transactionId = TransactionID.getDefaultInstance();
+            @Var var nodeAccountId = AccountID.getDefaultInstance();
+            @Var var dataCase = TransactionBody.DataCase.DATA_NOT_SET;
+            @Var var nodeStart = 0;
+            @Var var nodeEnd = 0;
+
+            while (true) {
+                var start = input.getTotalBytesRead();
+                var tag = input.readTag();
+
+                if (tag == 0) {
+                    break;
+                }
+
+                var field = WireFormat.getTagFieldNumber(tag);
+                var lengthDelimited = WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
+                if (field == BODY_TRANSACTION_ID_FIELD && lengthDelimited) {
+                    transactionId = input.readMessage(TransactionID.parser(), extensionRegistry);
+                } else if (field == BODY_NODE_ACCOUNT_ID_FIELD && lengthDelimited) {
+                    nodeAccountId = input.readMessage(AccountID.parser(), extensionRegistry);
+                    nodeStart = start;
+                    nodeEnd = input.getTotalBytesRead();
+                } else {
+                    // the data of the body is a oneof, so its case is the number of its field
+                    var fieldDataCase = TransactionBody.DataCase.forNumber(field);
+
+                    if (fieldDataCase != null && dataCase == TransactionBody.DataCase.DATA_NOT_SET) {
+                        dataCase = fieldDataCase;
+                    }
+
+                    input.skipField(tag);
+                }
+            }
+
+            this.transactionId = TransactionId.fromProtobuf(transactionId);
+            this.nodeAccountId = AccountId.fromProtobuf(nodeAccountId);
+            this.dataCase = dataCase;
+            this.nodeStart = nodeStart;
+            this.nodeEnd = nodeEnd;
+        }
+
+        ByteString beforeNode() {
+            return bytes.substring(0, nodeStart);
+        }
+
+        ByteString afterNode() {
+            return bytes.substring(nodeEnd);
+        }
+    }
+}
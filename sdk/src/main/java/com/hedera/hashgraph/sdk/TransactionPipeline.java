@@ -0,0 +1,537 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java8.util.concurrent.CompletableFuture;
+import java8.util.concurrent.CompletionException;
+import java8.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Submits a large number of transactions with a bounded number in flight.
+ * <p>
+ * Transactions are pulled from the source only as room frees up, so a lazily generated source of any size is
+ * never held in memory at once. Each transaction is executed through {@link Transaction#executeAsync(Client)},
+ * so node health, node selection and retries behave exactly as for a single transaction.
+ * <p>
+ * Transactions which do not have node account IDs set are assigned nodes by the client's {@link NodeSelector},
+ * with the first node that is below {@link #setMaxInFlightPerNode(int)} moved to the front.
+ *
+ * <pre>{@code
+ * new TransactionPipeline(client)
+ *     .setMaxInFlight(500)
+ *     .setFetchReceipts(true)
+ *     .submitAllAsync(transfers.iterator(), result -> { ... })
+ *     .join();
+ * }</pre>
+ */
+public final class TransactionPipeline {
+    private static final Logger logger = LoggerFactory.getLogger(TransactionPipeline.class);
+
+    private final Client client;
+    private int maxInFlight = 100;
+    private int maxInFlightPerNode = 20;
+    private boolean fetchReceipts = false;
+    private int maxReceiptsInFlight = 50;
+
+    public TransactionPipeline(Client client) {
+        this.client = Objects.requireNonNull(client, "client must not be null");
+    }
+
+    /**
+     * @return the maximum number of transactions which are submitted or awaiting a receipt at once
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Set the maximum number of transactions which are submitted or awaiting a receipt at once.
+     * <p>
+     * Defaults to 100.
+     *
+     * @param maxInFlight the global in-flight limit
+     * @return {@code this}
+     */
+    public TransactionPipeline setMaxInFlight(int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be at least 1");
+        }
+
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    /**
+     * @return the maximum number of transactions submitted to a single node at once
+     */
+    public int getMaxInFlightPerNode() {
+        return maxInFlightPerNode;
+    }
+
+    /**
+     * Set the maximum number of transactions submitted to a single node at once. A transaction counts against
+     * the first node it is sent to until the node has responded.
+     * <p>
+     * Defaults to 20.
+     *
+     * @param maxInFlightPerNode the per-node in-flight limit
+     * @return {@code this}
+     */
+    public TransactionPipeline setMaxInFlightPerNode(int maxInFlightPerNode) {
+        if (maxInFlightPerNode < 1) {
+            throw new IllegalArgumentException("maxInFlightPerNode must be at least 1");
+        }
+
+        this.maxInFlightPerNode = maxInFlightPerNode;
+        return this;
+    }
+
+    /**
+     * @return whether a receipt is fetched for each submitted transaction
+     */
+    public boolean getFetchReceipts() {
+        return fetchReceipts;
+    }
+
+    /**
+     * Set whether a receipt is fetched for each submitted transaction before its result is reported.
+     * <p>
+     * Defaults to {@code false}.
+     *
+     * @param fetchReceipts whether to fetch receipts
+     * @return {@code this}
+     */
+    public TransactionPipeline setFetchReceipts(boolean fetchReceipts) {
+        this.fetchReceipts = fetchReceipts;
+        return this;
+    }
+
+    /**
+     * @return the maximum number of receipts fetched at once
+     */
+    public int getMaxReceiptsInFlight() {
+        return maxReceiptsInFlight;
+    }
+
+    /**
+     * Set the maximum number of receipts fetched at once when {@link #setFetchReceipts(boolean)} is enabled.
+     * Transactions waiting for a receipt still count against {@link #setMaxInFlight(int)}.
+     * <p>
+     * Defaults to 50.
+     *
+     * @param maxReceiptsInFlight the receipt in-flight limit
+     * @return {@code this}
+     */
+    public TransactionPipeline setMaxReceiptsInFlight(int maxReceiptsInFlight) {
+        if (maxReceiptsInFlight < 1) {
+            throw new IllegalArgumentException("maxReceiptsInFlight must be at least 1");
+        }
+
+        this.maxReceiptsInFlight = maxReceiptsInFlight;
+        return this;
+    }
+
+    /**
+     * Submit every transaction of {@code transactions}.
+     *
+     * @param transactions the transactions to submit
+     * @param onResult     called once per transaction with its outcome, possibly from several threads at once
+     * @return a future which completes once every transaction has been reported to {@code onResult}
+     * @see #submitAllAsync(Iterator, Consumer)
+     */
+    public CompletableFuture<Void> submitAllAsync(Iterable<? extends Transaction<?>> transactions, Consumer<Result> onResult) {
+        Objects.requireNonNull(transactions, "transactions must not be null");
+        return submitAllAsync(transactions.iterator(), onResult);
+    }
+
+    /**
+     * Submit every transaction produced by {@code transactions}.
+     * <p>
+     * The iterator is only ever called from one thread at a time, and no further than the in-flight limits
+     * allow. A failure of a single transaction is reported to {@code onResult} and does not stop the others.
+     *
+     * @param transactions the transactions to submit
+     * @param onResult     called once per transaction with its outcome, possibly from several threads at once
+     * @return a future which completes once every transaction has been reported to {@code onResult}, or
+     * completes exceptionally if {@code transactions} itself throws
+     */
+    public CompletableFuture<Void> submitAllAsync(Iterator<? extends Transaction<?>> transactions, Consumer<Result> onResult) {
+        Objects.requireNonNull(transactions, "transactions must not be null");
+        Objects.requireNonNull(onResult, "onResult must not be null");
+
+        var run = new Run(transactions, onResult, maxInFlight, maxInFlightPerNode, fetchReceipts, maxReceiptsInFlight);
+        run.drain();
+
+        return run.done;
+    }
+
+    /**
+     * The outcome of one transaction submitted through a {@link TransactionPipeline}.
+     */
+    public static final class Result {
+        /**
+         * The transaction which was submitted.
+         */
+        public final Transaction<?> transaction;
+
+        /**
+         * The response of the node which accepted the transaction, or {@code null} if it was not accepted.
+         */
+        @Nullable
+        public final TransactionResponse response;
+
+        /**
+         * The receipt of the transaction, or {@code null} if receipts are not fetched or could not be.
+         */
+        @Nullable
+        public final TransactionReceipt receipt;
+
+        /**
+         * The reason the transaction or its receipt failed, or {@code null} if it succeeded.
+         */
+        @Nullable
+        public final Throwable error;
+
+        Result(
+            Transaction<?> transaction,
+            @Nullable TransactionResponse response,
+            @Nullable TransactionReceipt receipt,
+            @Nullable Throwable error
+        ) {
+            this.transaction = transaction;
+            this.response = response;
+            this.receipt = receipt;
+            this.error = error;
+        }
+
+        /**
+         * @return whether the transaction, and its receipt if requested, completed without error
+         */
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                .add("transactionId", response != null ? response.transactionId : null)
+                .add("response", response)
+                .add("receipt", receipt)
+                .add("error", error)
+                .toString();
+        }
+    }
+
+    /**
+     * The state of a single {@link #submitAllAsync(Iterator, Consumer)} call.
+     * <p>
+     * All counters and the source iterator are guarded by {@code this}; callbacks and the user's handler are
+     * always invoked outside of the lock.
+     */
+    private final class Run {
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private final Iterator<? extends Transaction<?>> source;
+        private final Consumer<Result> onResult;
+        private final int maxInFlight;
+        private final int maxInFlightPerNode;
+        private final boolean fetchReceipts;
+        private final int maxReceiptsInFlight;
+
+        private final Map<AccountId, Integer> inFlightPerNode = new HashMap<>();
+        private final ArrayDeque<Submitted> awaitingReceipt = new ArrayDeque<>();
+
+        // the next transaction from the source, held back because no node had room for it
+        @Nullable
+        private Transaction<?> blocked = null;
+        // nodes selected outside of the lock for the blocked transaction, as selection may block
+        @Nullable
+        private List<AccountId> candidates = null;
+        private boolean needsCandidates = false;
+        private int inFlight = 0;
+        private int receiptsInFlight = 0;
+        private boolean exhausted = false;
+        private boolean draining = false;
+        private boolean drainAgain = false;
+
+        Run(
+            Iterator<? extends Transaction<?>> source,
+            Consumer<Result> onResult,
+            int maxInFlight,
+            int maxInFlightPerNode,
+            boolean fetchReceipts,
+            int maxReceiptsInFlight
+        ) {
+            this.source = source;
+            this.onResult = onResult;
+            this.maxInFlight = maxInFlight;
+            this.maxInFlightPerNode = maxInFlightPerNode;
+            this.fetchReceipts = fetchReceipts;
+            this.maxReceiptsInFlight = maxReceiptsInFlight;
+        }
+
+        /**
+         * Start as much work as the limits allow. Re-entrant calls, e.g. from a future which completed
+         * immediately, are folded into the running call instead of recursing.
+         */
+        void drain() {
+            synchronized (this) {
+                if (draining) {
+                    drainAgain = true;
+                    return;
+                }
+
+                draining = true;
+            }
+
+            while (true) {
+                var ready = new ArrayList<Runnable>();
+                boolean selectNodes;
+
+                synchronized (this) {
+                    drainAgain = false;
+
+                    try {
+                        collectWork(ready);
+                    } catch (Throwable error) {
+                        exhausted = true;
+                        done.completeExceptionally(error);
+                    }
+
+                    selectNodes = needsCandidates;
+
+                    if (ready.isEmpty() && !drainAgain && !selectNodes) {
+                        draining = false;
+
+                        if (exhausted && inFlight == 0) {
+                            done.complete(null);
+                        }
+
+                        return;
+                    }
+                }
+
+                for (var work : ready) {
+                    work.run();
+                }
+
+                if (selectNodes) {
+                    selectCandidates();
+                }
+            }
+        }
+
+        /**
+         * Select the nodes for the blocked transaction. Selecting may wait on the network, so this is only
+         * called outside of the lock.
+         */
+        private void selectCandidates() {
+            try {
+                var selected = client.network.getNodeAccountIdsForExecute();
+
+                synchronized (this) {
+                    candidates = selected;
+                    needsCandidates = false;
+                }
+            } catch (Throwable error) {
+                Transaction<?> transaction;
+
+                synchronized (this) {
+                    transaction = Objects.requireNonNull(blocked);
+                    blocked = null;
+                    needsCandidates = false;
+                }
+
+                report(new Result(transaction, null, null, error instanceof InterruptedException
+                    ? new RuntimeException(error) : error));
+            }
+        }
+
+        private void collectWork(List<Runnable> ready) {
+            while (receiptsInFlight < maxReceiptsInFlight && !awaitingReceipt.isEmpty()) {
+                var submitted = awaitingReceipt.poll();
+                receiptsInFlight += 1;
+                ready.add(() -> fetchReceipt(submitted));
+            }
+
+            while (!exhausted && inFlight < maxInFlight) {
+                @Var var transaction = blocked;
+
+                if (transaction == null) {
+                    if (!source.hasNext()) {
+                        exhausted = true;
+                        break;
+                    }
+
+                    transaction = Objects.requireNonNull(source.next(), "transactions must not produce null");
+                }
+
+                var submit = transaction;
+
+                if (transaction.isFrozen() && transaction.nodeAccountIds.isEmpty()) {
+                    // there is no node to count it against, and executing it reports why it cannot be sent
+                    blocked = null;
+                    inFlight += 1;
+                    ready.add(() -> submit(submit, null));
+                    continue;
+                }
+
+                if (transaction.nodeAccountIds.isEmpty() && candidates == null) {
+                    blocked = transaction;
+                    needsCandidates = true;
+                    break;
+                }
+
+                var nodeId = assignNode(transaction);
+
+                if (nodeId == null) {
+                    // every node it may go to is full; wait for one of them to respond
+                    blocked = transaction;
+                    break;
+                }
+
+                blocked = null;
+                inFlight += 1;
+                inFlightPerNode.put(nodeId, getInFlight(nodeId) + 1);
+
+                ready.add(() -> submit(submit, nodeId));
+            }
+        }
+
+        /**
+         * @return the node the transaction will be sent to first, or {@code null} if that node has no room
+         */
+        @Nullable
+        private AccountId assignNode(Transaction<?> transaction) {
+            if (!transaction.nodeAccountIds.isEmpty()) {
+                var nodeId = transaction.nodeAccountIds.get(0);
+                return getInFlight(nodeId) < maxInFlightPerNode ? nodeId : null;
+            }
+
+            // the selection is only good for this transaction; a later one selects again
+            var candidates = Objects.requireNonNull(this.candidates);
+            this.candidates = null;
+
+            for (var i = 0; i < candidates.size(); i++) {
+                var nodeId = candidates.get(i);
+
+                if (getInFlight(nodeId) < maxInFlightPerNode) {
+                    // keep the other candidates to fail over to
+                    var nodeIds = new ArrayList<AccountId>(candidates.size());
+                    nodeIds.add(nodeId);
+
+                    for (var j = 0; j < candidates.size(); j++) {
+                        if (j != i) {
+                            nodeIds.add(candidates.get(j));
+                        }
+                    }
+
+                    transaction.setNodeAccountIds(nodeIds);
+                    return nodeId;
+                }
+            }
+
+            return null;
+        }
+
+        private int getInFlight(AccountId nodeId) {
+            var count = inFlightPerNode.get(nodeId);
+            return count != null ? count : 0;
+        }
+
+        private void submit(Transaction<?> transaction, @Nullable AccountId nodeId) {
+            @Var CompletableFuture<TransactionResponse> future;
+
+            try {
+                future = transaction.executeAsync(client);
+            } catch (Throwable error) {
+                future = CompletableFuture.failedFuture(error);
+            }
+
+            future.whenComplete((response, error) -> {
+                synchronized (this) {
+                    if (nodeId != null) {
+                        var count = getInFlight(nodeId) - 1;
+
+                        if (count > 0) {
+                            inFlightPerNode.put(nodeId, count);
+                        } else {
+                            inFlightPerNode.remove(nodeId);
+                        }
+                    }
+
+                    if (error == null && fetchReceipts) {
+                        // keep counting against the global limit until the receipt is in
+                        awaitingReceipt.add(new Submitted(transaction, response));
+                    } else {
+                        inFlight -= 1;
+                    }
+                }
+
+                if (error != null || !fetchReceipts) {
+                    report(new Result(transaction, response, null, unwrap(error)));
+                }
+
+                drain();
+            });
+        }
+
+        private void fetchReceipt(Submitted submitted) {
+            @Var CompletableFuture<TransactionReceipt> future;
+
+            try {
+                future = submitted.response.getReceiptAsync(client);
+            } catch (Throwable error) {
+                future = CompletableFuture.failedFuture(error);
+            }
+
+            future.whenComplete((receipt, error) -> {
+                synchronized (this) {
+                    receiptsInFlight -= 1;
+                    inFlight -= 1;
+                }
+
+                report(new Result(submitted.transaction, submitted.response, receipt, unwrap(error)));
+                drain();
+            });
+        }
+
+        private void report(Result result) {
+            try {
+                onResult.accept(result);
+            } catch (Throwable error) {
+                logger.warn("Transaction pipeline result handler threw", error);
+            }
+        }
+    }
+
+    @Nullable
+    private static Throwable unwrap(@Nullable Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+
+        return error;
+    }
+
+    private static final class Submitted {
+        final Transaction<?> transaction;
+        final TransactionResponse response;
+
+        Submitted(Transaction<?> transaction, TransactionResponse response) {
+            this.transaction = transaction;
+            this.response = response;
+        }
+    }
+}
@@ -24,6 +24,9 @@ public final class TransactionReceiptQuery
     @Nullable
     TransactionId transactionId = null;
 
+    // when false, a receipt which has not reached consensus yet is returned instead of retried
+    private boolean waitForConsensus = true;
+
     public TransactionReceiptQuery() {
     }
 
@@ -44,6 +47,19 @@ public final class TransactionReceiptQuery
         return this;
     }
 
+    /**
+     * Set whether to keep retrying until the transaction has reached consensus. When disabled, a single
+     * answer is returned even if its status is still {@link Status#UNKNOWN}; used by {@link ReceiptPoller},
+     * which schedules its own polls.
+     *
+     * @param waitForConsensus whether to retry until consensus
+     * @return {@code this}
+     */
+    TransactionReceiptQuery setWaitForConsensus(boolean waitForConsensus) {
+        this.waitForConsensus = waitForConsensus;
+        return this;
+    }
+
     @Override
     boolean isPaymentRequired() {
         return false;
@@ -96,10 +112,12 @@ public final class TransactionReceiptQuery
     @Override
     ExecutionState shouldRetry(Status status, Response response) {
         switch (status) {
-            case BUSY:
             case UNKNOWN:
             case RECEIPT_NOT_FOUND:
             case RECORD_NOT_FOUND:
+                return waitForConsensus ? ExecutionState.Retry : ExecutionState.Finished;
+
+            case BUSY:
                 return ExecutionState.Retry;
 
             case OK:
@@ -113,11 +131,13 @@ public final class TransactionReceiptQuery
             Status.valueOf(response.getTransactionGetReceipt().getReceipt().getStatus());
 
         switch (receiptStatus) {
-            case BUSY:
             case UNKNOWN:
             case OK:
             case RECEIPT_NOT_FOUND:
             case RECORD_NOT_FOUND:
+                return waitForConsensus ? ExecutionState.Retry : ExecutionState.Finished;
+
+            case BUSY:
                 return ExecutionState.Retry;
 
             case SUCCESS:
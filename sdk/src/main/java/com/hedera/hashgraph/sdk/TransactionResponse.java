@@ -17,6 +17,9 @@ public final class TransactionResponse implements WithGetReceipt, WithGetRecord
     @Nullable
     public final TransactionId scheduledTransactionId;
 
+    // System.nanoTime() at which the node accepted the transaction; the starting point of its consensus latency
+    final long submittedAt;
+
     TransactionResponse(
         AccountId nodeId,
         TransactionId transactionId,
@@ -27,14 +30,21 @@ public final class TransactionResponse implements WithGetReceipt, WithGetRecord
         this.transactionId = transactionId;
         this.transactionHash = transactionHash;
         this.scheduledTransactionId = scheduledTransactionId;
+        this.submittedAt = System.nanoTime();
     }
 
+    /**
+     * Wait for the receipt of this transaction.
+     * <p>
+     * Receipts are polled by the client's shared receipt poller, which times the first poll from how long
+     * transactions have recently taken to reach consensus. Calls for the same transaction share one poll.
+     *
+     * @param client The client with which this will be executed.
+     * @return a future of the receipt
+     */
     @Override
     public CompletableFuture<TransactionReceipt> getReceiptAsync(Client client) {
-        return new TransactionReceiptQuery()
-            .setTransactionId(transactionId)
-            .setNodeAccountIds(Collections.singletonList(nodeId))
-            .executeAsync(client);
+        return client.receiptPoller.getReceipt(this);
     }
 
     @Override
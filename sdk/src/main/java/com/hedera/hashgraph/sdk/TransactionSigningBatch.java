@@ -0,0 +1,184 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import com.hedera.hashgraph.sdk.proto.TransactionList;
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The body bytes of many frozen transactions which need to be signed, for signing all of them at once somewhere
+ * else, such as a hardware security module or an offline machine.
+ * <p>
+ * Each entry of the batch is the body of one transaction for one chunk and one node; a chunked transaction has an
+ * entry for every chunk and node, which {@link Transaction#addSignature(PublicKey, byte[])} does not support. The
+ * signatures made for the entries, in the same order, are added back with
+ * {@link #addSignatures(PublicKey, List)}. Only the signed entries of each transaction are built again, when the
+ * transaction is next serialized or executed.
+ *
+ * <pre>{@code
+ * var batch = new TransactionSigningBatch(transactions);
+ * var signatures = coldSigner.sign(batch.toBytes());
+ *
+ * batch.addSignatures(coldSignerPublicKey, signatures);
+ * }</pre>
+ */
+public final class TransactionSigningBatch {
+    private final List<Transaction<?>> transactions;
+
+    // The transaction and the index within that transaction of each entry
+    private final int[] transactionIndexes;
+    private final int[] entryIndexes;
+
+    /**
+     * @param transactions the transactions to sign, which must all be frozen
+     */
+    public TransactionSigningBatch(List<? extends Transaction<?>> transactions) {
+        this.transactions = Collections.unmodifiableList(new ArrayList<>(transactions));
+
+        @Var var size = 0;
+
+        for (var transaction : this.transactions) {
+            if (!transaction.isFrozen()) {
+                throw new IllegalStateException("transactions must be frozen before they can be signed, try calling `freeze`");
+            }
+
+            size += transaction.innerSignedTransactions.size();
+        }
+
+        transactionIndexes = new int[size];
+        entryIndexes = new int[size];
+
+        @Var var index = 0;
+
+        for (var i = 0; i < this.transactions.size(); i++) {
+            var entryCount = this.transactions.get(i).innerSignedTransactions.size();
+
+            for (var entry = 0; entry < entryCount; entry++, index++) {
+                transactionIndexes[index] = i;
+                entryIndexes[index] = entry;
+            }
+        }
+    }
+
+    /**
+     * @return the transactions of this batch
+     */
+    public List<Transaction<?>> getTransactions() {
+        return transactions;
+    }
+
+    /**
+     * @return the number of bodies to sign
+     */
+    public int size() {
+        return entryIndexes.length;
+    }
+
+    /**
+     * @param index the index of an entry
+     * @return the index in {@link #getTransactions()} of the transaction the entry belongs to
+     */
+    public int getTransactionIndex(int index) {
+        return transactionIndexes[index];
+    }
+
+    /**
+     * @param index the index of an entry
+     * @return the chunk of its transaction the entry is for; always {@code 0} for transactions which are not chunked
+     */
+    public int getChunkIndex(int index) {
+        return entryIndexes[index] / nodeCount(transactions.get(transactionIndexes[index]));
+    }
+
+    /**
+     * @param index the index of an entry
+     * @return the node the entry is for
+     */
+    public AccountId getNodeAccountId(int index) {
+        var transaction = transactions.get(transactionIndexes[index]);
+
+        // a transaction parsed from bytes without a node account ID has no node account IDs
+        return transaction.nodeAccountIds.isEmpty()
+            ? new AccountId(0)
+            : transaction.nodeAccountIds.get(entryIndexes[index] % nodeCount(transaction));
+    }
+
+    /**
+     * @param index the index of an entry
+     * @return the body bytes to sign for the entry
+     */
+    public byte[] getBodyBytes(int index) {
+        return transactions.get(transactionIndexes[index])
+            .innerSignedTransactions.get(entryIndexes[index])
+            .getBodyBytes()
+            .toByteArray();
+    }
+
+    /**
+     * Serialize the bodies of every entry, in order, as a {@link TransactionList} with only the body bytes of
+     * each transaction set. The transaction and node an entry is for are part of its body.
+     *
+     * @return the serialized bodies
+     */
+    public byte[] toBytes() {
+        var list = TransactionList.newBuilder();
+
+        for (var i = 0; i < entryIndexes.length; i++) {
+            var bodyBytes = transactions.get(transactionIndexes[i])
+                .innerSignedTransactions.get(entryIndexes[i])
+                .getBodyBytes();
+
+            list.addTransactionList(com.hedera.hashgraph.sdk.proto.Transaction.newBuilder().setBodyBytes(bodyBytes));
+        }
+
+        return list.build().toByteArray();
+    }
+
+    /**
+     * Add the signatures of one key for every entry of this batch.
+     * <p>
+     * Transactions which this key has already signed are left as they are.
+     *
+     * @param publicKey the key which made the signatures
+     * @param signatures a signature of the body bytes of each entry, in order
+     * @return {@code this}
+     */
+    public TransactionSigningBatch addSignatures(PublicKey publicKey, List<byte[]> signatures) {
+        Objects.requireNonNull(publicKey);
+
+        if (signatures.size() != entryIndexes.length) {
+            throw new IllegalArgumentException(
+                "expected " + entryIndexes.length + " signatures but got " + signatures.size());
+        }
+
+        for (var i = 0; i < signatures.size(); i++) {
+            if (signatures.get(i).length != Ed25519.SIGNATURE_SIZE) {
+                throw new IllegalArgumentException("signature " + i + " is not " + Ed25519.SIGNATURE_SIZE + " bytes");
+            }
+        }
+
+        @Var var index = 0;
+
+        for (var transaction : transactions) {
+            var entryCount = transaction.innerSignedTransactions.size();
+
+            if (transaction.addExternalSigner(publicKey)) {
+                for (var entry = 0; entry < entryCount; entry++) {
+                    transaction.addSignatureAt(entry, publicKey, signatures.get(index + entry));
+                }
+            }
+
+            index += entryCount;
+        }
+
+        return this;
+    }
+
+    private static int nodeCount(Transaction<?> transaction) {
+        return transaction.nodeAccountIds.isEmpty() ? 1 : transaction.nodeAccountIds.size();
+    }
+}
@@ -0,0 +1,219 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.UnsafeByteOperations;
+import com.google.protobuf.WireFormat;
+import com.hedera.hashgraph.sdk.proto.AccountAmount;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Creates many frozen transfers which only differ in their transaction ID, memo and hbar amounts.
+ * <p>
+ * Everything else is taken from a prototype {@link TransferTransaction} and serialized once when the template is
+ * created: the nodes, the maximum transaction fee, the valid duration, the accounts of the hbar transfers and any
+ * token and NFT transfers. Each call to {@link #newTransfer(TransactionId, String, long...)} writes the varying fields
+ * around these pre-serialized bytes into a single buffer sized up front, so creating a transfer does not go through
+ * the builders, {@link Transaction#freeze()} or node selection. The returned transfer is frozen and ready to be signed
+ * and executed.
+ *
+ * <pre>{@code
+ * var template = new TransactionTemplate(new TransferTransaction()
+ *     .setNodeAccountIds(nodeAccountIds)
+ *     .setMaxTransactionFee(new Hbar(1))
+ *     .addHbarTransfer(payer, Hbar.ZERO)
+ *     .addHbarTransfer(payee, Hbar.ZERO));
+ *
+ * // the amounts are in the order of template.getHbarAccountIds()
+ * template.newTransfer(TransactionId.generate(payer), "invoice 1234", -100, 100)
+ *     .sign(payerKey)
+ *     .executeAsync(client);
+ * }</pre>
+ */
+public final class TransactionTemplate {
+    private final List<AccountId> nodeAccountIds;
+    private final List<ByteString> nodeFields;
+    private final List<AccountId> hbarAccountIds;
+
+    // The account ID field of the AccountAmount for each hbar transfer
+    private final byte[][] hbarAccountFields;
+
+    // The fields of the body between the node account ID and the memo
+    private final byte[] headerFields;
+
+    // The token and NFT transfers, which follow the hbar transfers in the crypto transfer body
+    private final byte[] tokenTransferFields;
+
+    // The body without its transaction ID, memo and hbar transfers
+    private final TransactionBody sourceBody;
+
+    /**
+     * Create a template from a prototype transfer.
+     * <p>
+     * The prototype must have its node account IDs set. The accounts of its hbar transfers become the accounts of
+     * every transfer created from the template; the amounts of the prototype are ignored. Without a maximum
+     * transaction fee set on the prototype, the default fee of a {@link TransferTransaction} is used. The prototype
+     * is not modified.
+     *
+     * @param prototype the transfer to take the fields which do not vary from
+     */
+    public TransactionTemplate(TransferTransaction prototype) {
+        Objects.requireNonNull(prototype);
+
+        if (prototype.nodeAccountIds.isEmpty()) {
+            throw new IllegalArgumentException("prototype must have node account IDs set");
+        }
+
+        nodeAccountIds = Collections.unmodifiableList(new ArrayList<>(prototype.nodeAccountIds));
+        nodeFields = new ArrayList<>(nodeAccountIds.size());
+
+        for (var nodeId : nodeAccountIds) {
+            nodeFields.add(SharedTransactionBody.nodeField(nodeId));
+        }
+
+        var accountIds = new ArrayList<>(prototype.getHbarTransfers().keySet());
+
+        Collections.sort(accountIds, (a, b) -> {
+            if (a.shard != b.shard) {
+                return Long.compare(a.shard, b.shard);
+            }
+
+            return a.realm != b.realm ? Long.compare(a.realm, b.realm) : Long.compare(a.num, b.num);
+        });
+
+        hbarAccountIds = Collections.unmodifiableList(accountIds);
+        hbarAccountFields = new byte[accountIds.size()][];
+
+        for (var i = 0; i < accountIds.size(); i++) {
+            hbarAccountFields[i] = AccountAmount.newBuilder()
+                .setAccountID(accountIds.get(i).toProtobuf())
+                .build()
+                .toByteArray();
+        }
+
+        var cryptoTransfer = prototype.build().clearTransfers();
+        var header = prototype.spawnBodyBuilder(null).clearMemo();
+
+        headerFields = header.build().toByteArray();
+        tokenTransferFields = cryptoTransfer.build().toByteArray();
+        sourceBody = header.setCryptoTransfer(cryptoTransfer).build();
+    }
+
+    /**
+     * @return the nodes every transfer is created for
+     */
+    public List<AccountId> getNodeAccountIds() {
+        return nodeAccountIds;
+    }
+
+    /**
+     * @return the accounts of the hbar transfers, in the order their amounts are passed to
+     * {@link #newTransfer(TransactionId, String, long...)}
+     */
+    public List<AccountId> getHbarAccountIds() {
+        return hbarAccountIds;
+    }
+
+    /**
+     * Create a frozen transfer from this template.
+     *
+     * @param transactionId the ID of the transfer
+     * @param memo the memo of the transfer
+     * @param tinybars the amount for each account of {@link #getHbarAccountIds()}, in that order
+     * @return the frozen transfer, which still needs to be signed
+     */
+    public TransferTransaction newTransfer(TransactionId transactionId, String memo, long... tinybars) {
+        Objects.requireNonNull(transactionId);
+        Objects.requireNonNull(memo);
+
+        if (tinybars.length != hbarAccountIds.size()) {
+            throw new IllegalArgumentException(
+                "expected " + hbarAccountIds.size() + " amounts but got " + tinybars.length);
+        }
+
+        var transactionIdProto = transactionId.toProtobuf();
+        var accountAmountSizes = new int[tinybars.length];
+        @Var var transferListSize = 0;
+
+        for (var i = 0; i < tinybars.length; i++) {
+            // zero amounts are left out, as they are when serializing the message
+            accountAmountSizes[i] = hbarAccountFields[i].length
+                + (tinybars[i] != 0 ? CodedOutputStream.computeSInt64Size(2, tinybars[i]) : 0);
+            transferListSize += CodedOutputStream.computeTagSize(1)
+                + CodedOutputStream.computeUInt32SizeNoTag(accountAmountSizes[i])
+                + accountAmountSizes[i];
+        }
+
+        var cryptoTransferSize = CodedOutputStream.computeTagSize(1)
+            + CodedOutputStream.computeUInt32SizeNoTag(transferListSize)
+            + transferListSize
+            + tokenTransferFields.length;
+
+        var beforeNodeSize = CodedOutputStream.computeMessageSize(TransactionBody.TRANSACTIONID_FIELD_NUMBER, transactionIdProto);
+        var size = beforeNodeSize
+            + headerFields.length
+            + (memo.isEmpty() ? 0 : CodedOutputStream.computeStringSize(TransactionBody.MEMO_FIELD_NUMBER, memo))
+            + CodedOutputStream.computeTagSize(TransactionBody.CRYPTOTRANSFER_FIELD_NUMBER)
+            + CodedOutputStream.computeUInt32SizeNoTag(cryptoTransferSize)
+            + cryptoTransferSize;
+
+        var buffer = new byte[size];
+        var output = CodedOutputStream.newInstance(buffer);
+
+        // Fields are written in field number order, the same as serializing the body would
+        try {
+            output.writeMessage(TransactionBody.TRANSACTIONID_FIELD_NUMBER, transactionIdProto);
+            output.writeRawBytes(headerFields);
+
+            if (!memo.isEmpty()) {
+                output.writeString(TransactionBody.MEMO_FIELD_NUMBER, memo);
+            }
+
+            output.writeTag(TransactionBody.CRYPTOTRANSFER_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            output.writeUInt32NoTag(cryptoTransferSize);
+            output.writeTag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            output.writeUInt32NoTag(transferListSize);
+
+            for (var i = 0; i < tinybars.length; i++) {
+                output.writeTag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                output.writeUInt32NoTag(accountAmountSizes[i]);
+                output.writeRawBytes(hbarAccountFields[i]);
+
+                if (tinybars[i] != 0) {
+                    output.writeSInt64(2, tinybars[i]);
+                }
+            }
+
+            output.writeRawBytes(tokenTransferFields);
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            // the buffer is sized for exactly these fields
+            throw new IllegalStateException(e);
+        }
+
+        var bytes = UnsafeByteOperations.unsafeWrap(buffer);
+        var body = new SharedTransactionBody(bytes.substring(0, beforeNodeSize), bytes.substring(beforeNodeSize));
+        var nodeBodies = new ArrayList<ByteString>(nodeFields.size());
+
+        for (var nodeField : nodeFields) {
+            nodeBodies.add(body.forNode(nodeField));
+        }
+
+        return new TransferTransaction(
+            sourceBody,
+            transactionId,
+            memo,
+            nodeAccountIds,
+            nodeBodies,
+            hbarAccountIds,
+            tinybars
+        );
+    }
+}
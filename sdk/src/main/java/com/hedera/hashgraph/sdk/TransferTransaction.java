@@ -1,5 +1,6 @@
 package com.hedera.hashgraph.sdk;
 
+import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.hashgraph.sdk.proto.AccountAmount;
 import com.hedera.hashgraph.sdk.proto.CryptoServiceGrpc;
@@ -13,7 +14,6 @@ import io.grpc.MethodDescriptor;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -27,7 +27,7 @@ public class TransferTransaction extends Transaction<TransferTransaction> {
         defaultMaxTransactionFee = new Hbar(1);
     }
 
-    TransferTransaction(LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>> txs) throws InvalidProtocolBufferException {
+    TransferTransaction(TransactionListDecoder.Decoded txs) throws InvalidProtocolBufferException {
         super(txs);
         initFromTransactionBody();
     }
@@ -37,6 +37,24 @@ public class TransferTransaction extends Transaction<TransferTransaction> {
         initFromTransactionBody();
     }
 
+    // This constructor is used by TransactionTemplate
+    TransferTransaction(
+        TransactionBody sourceTransactionBody,
+        TransactionId transactionId,
+        String memo,
+        List<AccountId> nodeAccountIds,
+        List<ByteString> nodeBodies,
+        List<AccountId> hbarAccountIds,
+        long[] hbarAmounts
+    ) {
+        super(sourceTransactionBody, transactionId, memo, nodeAccountIds, nodeBodies);
+        initFromTransactionBody();
+
+        for (var i = 0; i < hbarAccountIds.size(); i++) {
+            doAddHbarTransfer(hbarAccountIds.get(i), hbarAmounts[i]);
+        }
+    }
+
     private static void doAddTokenTransfer(Map<AccountId, Long> tokenTransferMap, AccountId accountId, long amount) {
         Objects.requireNonNull(tokenTransferMap);
         Objects.requireNonNull(accountId);
@@ -0,0 +1,180 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AbiDecoderTest {
+    private static final String ADDRESS = "11223344556677889900aabbccddeeff00112233";
+
+    private static ByteString word(long value) {
+        return new ContractFunctionParameters().addUint64(value).toBytes(null);
+    }
+
+    // (string,uint8), a dynamic tuple
+    private static ByteString entry(String name, int value) {
+        return new ContractFunctionParameters().addString(name).addUint8((byte) value).toBytes(null);
+    }
+
+    private static ContractFunctionResult result(ByteString callResult) {
+        return new ContractFunctionResult(
+            com.hedera.hashgraph.sdk.proto.ContractFunctionResult.newBuilder().setContractCallResult(callResult));
+    }
+
+    @Test
+    void decodesElementaryAndDynamicValues() {
+        var bytes32 = new byte[32];
+        bytes32[0] = 1;
+        bytes32[31] = 2;
+
+        var data = new ContractFunctionParameters()
+            .addUint256(BigInteger.ONE.shiftLeft(255))
+            .addAddressArray(new String[]{ADDRESS, "00000000000000000000000000000000000003e9"})
+            .addBytes(new byte[]{1, 2, 3})
+            .addString("Hello, world!")
+            .addBool(true)
+            .addInt64(-5)
+            .addBytes32(bytes32)
+            .addUint32(-1)
+            .toBytes(null);
+
+        var decoder = AbiDecoder.forSignature("(uint, address[], bytes, string, bool, int64, bytes32, uint32)");
+
+        assertThat(decoder.getSignature()).isEqualTo("(uint256,address[],bytes,string,bool,int64,bytes32,uint32)");
+
+        var values = decoder.decode(result(data));
+
+        assertThat(values.size()).isEqualTo(8);
+        assertThat(values.getBigInteger(0)).isEqualTo(BigInteger.ONE.shiftLeft(255));
+
+        var addresses = values.getArray(1);
+
+        assertThat(addresses.size()).isEqualTo(2);
+        assertThat(addresses.getType(1)).isEqualTo("address");
+        assertThat(addresses.getAddress(0)).isEqualTo(ADDRESS);
+        assertThat(addresses.getAddress(1)).isEqualTo("00000000000000000000000000000000000003e9");
+
+        assertThat(values.getBytes(2).toByteArray()).isEqualTo(new byte[]{1, 2, 3});
+        assertThat(values.getString(3)).isEqualTo("Hello, world!");
+        assertThat(values.getBool(4)).isTrue();
+        assertThat(values.getInt64(5)).isEqualTo(-5);
+        assertThat(values.getBigInteger(5)).isEqualTo(BigInteger.valueOf(-5));
+        assertThat(values.getBytes(6).toByteArray()).isEqualTo(bytes32);
+        assertThat(values.getInt32(7)).isEqualTo(-1);
+        assertThat(values.getInt64(7)).isEqualTo(0xffffffffL);
+        assertThat(values.getBigInteger(7)).isEqualTo(BigInteger.valueOf(0xffffffffL));
+    }
+
+    @Test
+    void decodesNestedTuplesAndArrays() {
+        var entries = word(2)
+            .concat(word(64))
+            .concat(word(64 + entry("first", 1).size()))
+            .concat(entry("first", 1))
+            .concat(entry("second", 2));
+
+        // the encoding of `string[]`, without the offset in front of it
+        var strings = new ContractFunctionParameters()
+            .addStringArray(new String[]{"x", "yz"})
+            .toBytes(null)
+            .substring(32);
+
+        var data = word(42)
+            .concat(word(5 * 32))
+            .concat(word(7))
+            .concat(word(8))
+            .concat(word(5 * 32 + entries.size()))
+            .concat(entries)
+            .concat(strings);
+
+        var values = AbiDecoder.forSignature("(uint64,(string,uint8)[],uint256[2],string[])").decode(data.toByteArray());
+
+        assertThat(values.getInt64(0)).isEqualTo(42);
+        assertThat(values.getType(1)).isEqualTo("(string,uint8)[]");
+
+        var tuples = values.getArray(1);
+
+        assertThat(tuples.size()).isEqualTo(2);
+        assertThat(tuples.getTuple(0).getString(0)).isEqualTo("first");
+        assertThat(tuples.getTuple(0).getInt32(1)).isEqualTo(1);
+        assertThat(tuples.getTuple(1).getString(0)).isEqualTo("second");
+        assertThat(tuples.getTuple(1).getInt32(1)).isEqualTo(2);
+
+        var fixed = values.getArray(2);
+
+        assertThat(fixed.size()).isEqualTo(2);
+        assertThat(fixed.getInt64(0)).isEqualTo(7);
+        assertThat(fixed.getInt64(1)).isEqualTo(8);
+
+        var stringArray = values.getArray(3);
+
+        assertThat(stringArray.size()).isEqualTo(2);
+        assertThat(stringArray.getString(0)).isEqualTo("x");
+        assertThat(stringArray.getString(1)).isEqualTo("yz");
+    }
+
+    @Test
+    void bytesShareTheResult() {
+        var data = new ContractFunctionParameters().addBytes(new byte[100]).toBytes(null);
+        var bytes = AbiDecoder.forSignature("(bytes)").decode(data).getBytes(0);
+
+        assertThat(bytes.size()).isEqualTo(100);
+        assertThat(bytes).isEqualTo(data.substring(64, 164));
+    }
+
+    @Test
+    void rejectsInvalidData() {
+        var decoder = AbiDecoder.forSignature("(string)");
+
+        // shorter than the heads
+        assertThatIllegalArgumentException().isThrownBy(() -> decoder.decode(new byte[31]));
+
+        // offset past the end
+        assertThatIllegalArgumentException().isThrownBy(() -> decoder.decode(word(64)).getString(0));
+
+        // offset wider than an int
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> decoder.decode(word(1L << 40)).getString(0));
+
+        // length past the end
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> decoder.decode(word(32).concat(word(33)).concat(word(0))).getString(0));
+
+        // array length past the end
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> AbiDecoder.forSignature("(uint256[])").decode(word(32).concat(word(2))).getArray(0));
+
+        var values = AbiDecoder.forSignature("(uint256,string)")
+            .decode(new ContractFunctionParameters().addUint64(1).addString("a").toBytes(null));
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> values.getInt64(0))
+            .withMessage("value 0 is uint256 and can not be read as an integer of at most 64 bits");
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> values.getBool(1))
+            .withMessage("value 1 is string and can not be read as bool");
+        assertThatThrownBy(() -> values.getString(2)).isInstanceOf(IndexOutOfBoundsException.class);
+
+        assertThat(values.getString(1)).isEqualTo("a");
+    }
+
+    @Test
+    void rejectsInvalidSignatures() {
+        for (var signature : new String[]{
+            "uint256", "(uint7)", "(uint264)", "(bytes0)", "(bytes33)", "(int08)", "(foo)", "(uint256",
+            "(uint256,)", "(uint256[)", "(uint256)x", "(uint256[99999999999])", "(uint256[100000000])",
+        }) {
+            assertThatIllegalArgumentException()
+                .as(signature)
+                .isThrownBy(() -> AbiDecoder.forSignature(signature));
+        }
+
+        assertThat(AbiDecoder.forSignature("()").decode(new byte[0]).size()).isEqualTo(0);
+        assertThat(AbiDecoder.forSignature("(function,int)").getSignature()).isEqualTo("(bytes24,int256)");
+    }
+}
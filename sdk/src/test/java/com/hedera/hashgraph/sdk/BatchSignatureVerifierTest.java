@@ -0,0 +1,109 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
+import com.hedera.hashgraph.sdk.proto.TransactionList;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Instant;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class BatchSignatureVerifierTest {
+    private static final List<AccountId> NODES = Arrays.asList(new AccountId(3), new AccountId(4));
+    private static final List<PrivateKey> KEYS = Arrays.asList(PrivateKey.generate(), PrivateKey.generate());
+
+    private static FileAppendTransaction fileAppend() {
+        var transaction = new FileAppendTransaction()
+            .setNodeAccountIds(NODES)
+            .setTransactionId(TransactionId.withValidStart(new AccountId(2), Instant.ofEpochSecond(1554158542)))
+            .setFileId(new FileId(1000))
+            .setContents(new byte[1024 * 2 + 1])
+            .freeze();
+
+        for (var key : KEYS) {
+            transaction.sign(key);
+        }
+
+        return transaction;
+    }
+
+    private static TransferTransaction transfer() {
+        return new TransferTransaction()
+            .setNodeAccountIds(NODES)
+            .setTransactionId(TransactionId.withValidStart(new AccountId(2), Instant.ofEpochSecond(1554158600)))
+            .addHbarTransfer(new AccountId(2), Hbar.fromTinybars(-100))
+            .addHbarTransfer(new AccountId(1001), Hbar.fromTinybars(100))
+            .freeze()
+            .sign(KEYS.get(0));
+    }
+
+    // Corrupts the last signature of one entry of a serialized transaction list
+    private static Transaction<?> withBadSignature(byte[] bytes, int index) throws Exception {
+        var list = TransactionList.parseFrom(bytes).toBuilder();
+        var entry = list.getTransactionList(index);
+        var signed = SignedTransaction.parseFrom(entry.getSignedTransactionBytes()).toBuilder();
+        var sigMap = signed.getSigMap().toBuilder();
+        var last = sigMap.getSigPairCount() - 1;
+        var signature = sigMap.getSigPair(last).getEd25519().toByteArray();
+
+        signature[0] ^= 1;
+        sigMap.setSigPair(last, sigMap.getSigPair(last).toBuilder().setEd25519(ByteString.copyFrom(signature)));
+
+        list.setTransactionList(index, entry.toBuilder()
+            .setSignedTransactionBytes(signed.setSigMap(sigMap).build().toByteString()));
+
+        return Transaction.fromBytes(list.build().toByteArray());
+    }
+
+    @Test
+    void verifiesEverySignature() throws Exception {
+        var transactions = Arrays.asList(fileAppend(), Transaction.fromBytes(transfer().toBytes()));
+
+        for (var verifier : Arrays.asList(
+            new BatchSignatureVerifier(),
+            new BatchSignatureVerifier().setPool(null),
+            new BatchSignatureVerifier().setParallelThreshold(1).setPool(new ForkJoinPool(4))
+        )) {
+            var result = verifier.verify(transactions);
+
+            // three chunks for two nodes with two keys, then one transfer for two nodes with one key
+            assertThat(result.signatureCount).isEqualTo(3 * 2 * 2 + 2);
+            assertThat(result.isValid()).isTrue();
+        }
+    }
+
+    @Test
+    void locatesFailedSignatures() throws Exception {
+        // the second chunk for the second node
+        var transaction = withBadSignature(fileAppend().toBytes(), 3);
+
+        for (var verifier : Arrays.asList(
+            new BatchSignatureVerifier().setPool(null),
+            new BatchSignatureVerifier().setParallelThreshold(1)
+        )) {
+            var result = verifier.verify(Arrays.asList(transfer(), transaction));
+
+            assertThat(result.isValid()).isFalse();
+            assertThat(result.failures).hasSize(1);
+
+            var failure = result.failures.get(0);
+
+            assertThat(failure.transactionIndex).isEqualTo(1);
+            assertThat(failure.chunkIndex).isEqualTo(1);
+            assertThat(failure.nodeAccountId).isEqualTo(new AccountId(4));
+            assertThat(failure.publicKeyPrefix).isEqualTo(KEYS.get(1).getPublicKey().toBytes());
+        }
+    }
+
+    @Test
+    void rejectsInvalidUse() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BatchSignatureVerifier().setParallelThreshold(0));
+        assertThatIllegalStateException().isThrownBy(() -> new BatchSignatureVerifier().verify(new TransferTransaction()));
+    }
+}
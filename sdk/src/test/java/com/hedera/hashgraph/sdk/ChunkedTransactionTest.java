@@ -0,0 +1,235 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.hashgraph.sdk.proto.ConsensusServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.FileServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.Query;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionGetReceiptResponse;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class ChunkedTransactionTest {
+    private static final byte[] DATA = new byte[1024 * 5 + 100];
+
+    static {
+        // the first byte of each chunk is its index
+        for (var i = 0; i < 6; i++) {
+            DATA[i * 1024] = (byte) i;
+        }
+    }
+
+    private final ScheduledExecutorService responder = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+    private final List<Integer> received = new CopyOnWriteArrayList<>();
+    private final List<Integer> receiptsAtSubmit = new CopyOnWriteArrayList<>();
+    private final AtomicInteger receipts = new AtomicInteger();
+    private volatile int failChunk = -1;
+    private Client client;
+    private Server server;
+
+    @BeforeEach
+    void setup() throws Exception {
+        server = InProcessServerBuilder.forName("chunked-test")
+            .addService(new ConsensusServiceStub())
+            .addService(new FileServiceStub())
+            .addService(new CryptoServiceStub())
+            .directExecutor()
+            .build()
+            .start();
+
+        client = Client.forNetwork(Map.of("in-process:chunked-test", new AccountId(3)))
+            .setOperator(new AccountId(2), PrivateKey.generate());
+
+        // the stub has every receipt ready at once, so do not wait on a real network's consensus latency
+        client.receiptPoller.setConsensusLatency(20);
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        client.close();
+        server.shutdown();
+        server.awaitTermination();
+        responder.shutdownNow();
+    }
+
+    @Test
+    void rejectsInvalidWindow() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new TopicMessageSubmitTransaction().setMaxChunksInFlight(0));
+    }
+
+    @Test
+    @Timeout(10)
+    void submitsTopicMessageChunksConcurrently() throws Exception {
+        var responses = new TopicMessageSubmitTransaction()
+            .setTopicId(new TopicId(1000))
+            .setMessage(DATA)
+            .setMaxChunksInFlight(3)
+            .executeAllAsync(client)
+            .get();
+
+        assertThat(responses).hasSize(6);
+        assertThat(received).hasSize(6).containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5);
+        assertThat(maxConcurrent.get()).isBetween(2, 3);
+
+        // the responses are in chunk order with cascading transaction IDs
+        for (var i = 1; i < responses.size(); i++) {
+            assertThat(responses.get(i).transactionId.validStart)
+                .isEqualTo(Objects.requireNonNull(responses.get(i - 1).transactionId.validStart).plusNanos(1));
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void submitsFileAppendChunksInOrder() throws Exception {
+        var responses = new FileAppendTransaction()
+            .setFileId(new FileId(1000))
+            .setContents(DATA)
+            .setMaxChunksInFlight(3)
+            .executeAllAsync(client)
+            .get();
+
+        assertThat(responses).hasSize(6);
+        assertThat(received).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(maxConcurrent.get()).isEqualTo(1);
+
+        // each chunk is only sent once the receipt of the one before it is in
+        assertThat(receiptsAtSubmit).containsExactly(0, 1, 2, 3, 4, 5);
+    }
+
+    @Test
+    @Timeout(10)
+    void reportsFailedChunk() {
+        failChunk = 2;
+
+        assertThatExceptionOfType(ExecutionException.class)
+            .isThrownBy(() -> new FileAppendTransaction()
+                .setFileId(new FileId(1000))
+                .setContents(DATA)
+                .setMaxChunksInFlight(3)
+                .executeAllAsync(client)
+                .get())
+            .havingCause()
+            .isInstanceOfSatisfying(ChunkFailedException.class, e -> {
+                assertThat(e.chunk).isEqualTo(2);
+                assertThat(e.total).isEqualTo(6);
+                assertThat(e.responses).hasSize(6);
+                assertThat(e.responses.subList(0, 2)).doesNotContainNull();
+                assertThat(e.getResponse(2)).isNull();
+                assertThat(e.errors.get(2)).isInstanceOf(PrecheckStatusException.class);
+                assertThat(e.getCause()).isInstanceOf(PrecheckStatusException.class);
+                assertThat(e.wasSubmitted(3)).isFalse();
+            });
+
+        // nothing is submitted after the failed chunk
+        assertThat(received).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    @Timeout(10)
+    void reportsChunksSubmittedAfterFailedChunk() {
+        failChunk = 1;
+
+        assertThatExceptionOfType(ExecutionException.class)
+            .isThrownBy(() -> new TopicMessageSubmitTransaction()
+                .setTopicId(new TopicId(1000))
+                .setMessage(DATA)
+                .setMaxChunksInFlight(3)
+                .executeAllAsync(client)
+                .get())
+            .havingCause()
+            .isInstanceOfSatisfying(ChunkFailedException.class, e -> {
+                assertThat(e.chunk).isEqualTo(1);
+                assertThat(e.getResponse(0)).isNotNull();
+                assertThat(e.getResponse(1)).isNull();
+                assertThat(e.errors.get(1)).isInstanceOf(PrecheckStatusException.class);
+
+                // the chunk in flight alongside the failed one is reported rather than dropped
+                assertThat(e.getResponse(2)).isNotNull();
+                assertThat(e.errors.get(2)).isNull();
+                assertThat(e.wasSubmitted(3)).isFalse();
+            });
+
+        assertThat(received).containsExactlyInAnyOrder(0, 1, 2);
+    }
+
+    private void respond(Transaction request, StreamObserver<com.hedera.hashgraph.sdk.proto.TransactionResponse> responseObserver, int chunk) {
+        received.add(chunk);
+        receiptsAtSubmit.add(receipts.get());
+
+        var current = concurrent.incrementAndGet();
+        maxConcurrent.accumulateAndGet(current, Math::max);
+
+        responder.schedule(() -> {
+            concurrent.decrementAndGet();
+
+            responseObserver.onNext(com.hedera.hashgraph.sdk.proto.TransactionResponse.newBuilder()
+                .setNodeTransactionPrecheckCode(chunk == failChunk ? ResponseCodeEnum.INVALID_SIGNATURE : ResponseCodeEnum.OK)
+                .build());
+            responseObserver.onCompleted();
+        }, 10, TimeUnit.MILLISECONDS);
+    }
+
+    private static TransactionBody body(Transaction request) {
+        try {
+            return TransactionBody.parseFrom(SignedTransaction.parseFrom(request.getSignedTransactionBytes()).getBodyBytes());
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final class ConsensusServiceStub extends ConsensusServiceGrpc.ConsensusServiceImplBase {
+        @Override
+        public void submitMessage(Transaction request, StreamObserver<com.hedera.hashgraph.sdk.proto.TransactionResponse> responseObserver) {
+            respond(request, responseObserver, body(request).getConsensusSubmitMessage().getMessage().byteAt(0));
+        }
+    }
+
+    private final class FileServiceStub extends FileServiceGrpc.FileServiceImplBase {
+        @Override
+        public void appendContent(Transaction request, StreamObserver<com.hedera.hashgraph.sdk.proto.TransactionResponse> responseObserver) {
+            respond(request, responseObserver, body(request).getFileAppend().getContents().byteAt(0));
+        }
+    }
+
+    private final class CryptoServiceStub extends CryptoServiceGrpc.CryptoServiceImplBase {
+        @Override
+        public void getTransactionReceipts(Query request, StreamObserver<Response> responseObserver) {
+            receipts.incrementAndGet();
+
+            responseObserver.onNext(Response.newBuilder()
+                .setTransactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                    .setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                    .setReceipt(com.hedera.hashgraph.sdk.proto.TransactionReceipt.newBuilder()
+                        .setStatus(ResponseCodeEnum.SUCCESS)))
+                .build());
+            responseObserver.onCompleted();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.hedera.hashgraph.sdk;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.threeten.bp.Instant;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class FileSubscriptionCheckpointStoreTest {
+    private static final TopicId TOPIC_ID = new TopicId(1000);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void loadsNothingBeforeTheFirstSave() throws Exception {
+        assertThat(SubscriptionCheckpointStore.inDirectory(directory.resolve("missing").toFile()).load(TOPIC_ID)).isNull();
+    }
+
+    @Test
+    void loadsTheLastSavedCheckpoint() throws Exception {
+        var store = SubscriptionCheckpointStore.inDirectory(directory.resolve("checkpoints").toFile());
+        var first = new SubscriptionCheckpoint(Instant.ofEpochSecond(1554158542, 123456789), 41, Instant.ofEpochSecond(1554158542, 123456790));
+        var second = new SubscriptionCheckpoint(Instant.ofEpochSecond(1554158543, 1), 42, Instant.ofEpochSecond(1554158542, 5));
+
+        store.save(TOPIC_ID, first);
+        store.save(TOPIC_ID, second);
+
+        assertThat(store.load(TOPIC_ID)).isEqualTo(second);
+        assertThat(store.load(new TopicId(1001))).isNull();
+
+        // a new store over the same directory sees it, and no temporary files are left behind
+        assertThat(SubscriptionCheckpointStore.inDirectory(directory.resolve("checkpoints").toFile()).load(TOPIC_ID)).isEqualTo(second);
+        assertThat(directory.resolve("checkpoints").toFile().list()).containsExactly("0.0.1000.checkpoint");
+    }
+
+    @Test
+    void loadsCheckpointMovedAsideByInterruptedSave() throws Exception {
+        Files.write(directory.resolve("0.0.1000.checkpoint.previous"),
+            "2019-04-01T22:42:22Z 41 2019-04-01T22:42:21Z\n".getBytes(StandardCharsets.UTF_8));
+
+        var store = SubscriptionCheckpointStore.inDirectory(directory.toFile());
+
+        assertThat(store.load(TOPIC_ID))
+            .isEqualTo(new SubscriptionCheckpoint(Instant.ofEpochSecond(1554158542), 41, Instant.ofEpochSecond(1554158541)));
+
+        // once a checkpoint is saved again it takes precedence
+        var next = new SubscriptionCheckpoint(Instant.ofEpochSecond(1554158543), 42, Instant.ofEpochSecond(1554158543, 1));
+        store.save(TOPIC_ID, next);
+
+        assertThat(store.load(TOPIC_ID)).isEqualTo(next);
+    }
+
+    @Test
+    void rejectsMalformedCheckpoint() throws Exception {
+        Files.write(directory.resolve("0.0.1000.checkpoint"), "garbage".getBytes(StandardCharsets.UTF_8));
+
+        assertThatExceptionOfType(IOException.class)
+            .isThrownBy(() -> SubscriptionCheckpointStore.inDirectory(directory.toFile()).load(TOPIC_ID));
+
+        // without the resume timestamp
+        Files.write(directory.resolve("0.0.1000.checkpoint"), "2019-04-01T22:42:22Z 41\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThatExceptionOfType(IOException.class)
+            .isThrownBy(() -> SubscriptionCheckpointStore.inDirectory(directory.toFile()).load(TOPIC_ID));
+    }
+}
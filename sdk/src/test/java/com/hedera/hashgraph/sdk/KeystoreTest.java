@@ -1,5 +1,8 @@
 package com.hedera.hashgraph.sdk;
 
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.generators.PKCS5S2ParametersGenerator;
+import org.bouncycastle.crypto.params.KeyParameter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,6 +11,9 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
 
 class KeystoreTest {
     private static final String TEST_KEY_STR = "302e020100300506032b657004220420db484b828e64b2d8f12ce3c0a0e93a0b8cce7af1bb8f39c97732394482538e10";
@@ -51,4 +57,125 @@ class KeystoreTest {
 
         Assertions.assertEquals(privateKey2.toString(), TEST_KEY_STR);
     }
+
+    @Test
+    @DisplayName("Keystore with scrypt produces decodable value")
+    void keystoreScryptToStream() throws IOException {
+        Keystore keystore = new Keystore(PrivateKey.fromString(TEST_KEY_STR));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        keystore.export(outputStream, PASSPHRASE, new ScryptParameters(1 << 10, 8, 1));
+
+        Assertions.assertTrue(outputStream.toString("UTF-8").contains("\"scrypt\""));
+        Assertions.assertTrue(outputStream.toString("UTF-8").contains("\"version\":2"));
+
+        Keystore keystore2 = Keystore.fromStream(new ByteArrayInputStream(outputStream.toByteArray()), PASSPHRASE);
+        Assertions.assertEquals(keystore2.getEd25519().toString(), TEST_KEY_STR);
+
+        Assertions.assertThrows(BadKeyException.class,
+            () -> Keystore.fromStream(new ByteArrayInputStream(outputStream.toByteArray()), "wrong"));
+    }
+
+    @Test
+    @DisplayName("ScryptParameters rejects invalid costs")
+    void scryptParametersAreValidated() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ScryptParameters(1 << 20, 8, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ScryptParameters(1 << 16, 8, 32));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ScryptParameters(1000, 8, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ScryptParameters(1 << 16, 1, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ScryptParameters(1 << 10, 0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ScryptParameters(1 << 10, 8, 0));
+    }
+
+    @Test
+    @DisplayName("Keystore.fromStreams decrypts every keystore in order")
+    void keystoreFromStreams() throws IOException {
+        ByteArrayOutputStream v3 = new ByteArrayOutputStream();
+        new Keystore(PrivateKey.fromString(TEST_KEY_STR))
+            .export(v3, PASSPHRASE, new ScryptParameters(1 << 10, 8, 1));
+
+        List<Keystore> keystores = Keystore.fromStreams(Arrays.asList(
+            KeystoreTest.class.getResourceAsStream("/test-keystore.bin"),
+            new ByteArrayInputStream(v3.toByteArray()),
+            KeystoreTest.class.getResourceAsStream("/test-keystore2.bin")
+        ), PASSPHRASE, 2);
+
+        Assertions.assertEquals(3, keystores.size());
+
+        for (Keystore keystore : keystores) {
+            Assertions.assertEquals(keystore.getEd25519().toString(), TEST_KEY_STR);
+        }
+
+        Assertions.assertThrows(BadKeyException.class, () -> Keystore.fromStreams(Arrays.asList(
+            KeystoreTest.class.getResourceAsStream("/test-keystore2.bin"),
+            new ByteArrayInputStream(v3.toByteArray())
+        ), Arrays.asList(PASSPHRASE, "wrong"), 2));
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> Keystore.fromStreams(Arrays.asList(new ByteArrayInputStream(v3.toByteArray())), PASSPHRASE, 0));
+    }
+
+    @Test
+    @DisplayName("Keystore with scrypt costs over the cap is rejected before deriving")
+    void keystoreScryptCostIsCapped() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new Keystore(PrivateKey.fromString(TEST_KEY_STR))
+            .export(outputStream, PASSPHRASE, new ScryptParameters(1 << 10, 8, 1));
+
+        // a file asking for 8 GiB per guess
+        String json = outputStream.toString("UTF-8").replace("\"n\":1024", "\"n\":8388608");
+
+        Assertions.assertThrows(BadKeyException.class,
+            () -> Keystore.fromStream(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), PASSPHRASE));
+    }
+
+    @Test
+    @DisplayName("Keystore with a field of the wrong type is a bad key")
+    void keystoreWithWrongTypedField() {
+        byte[] json = "{\"version\":2,\"crypto\":\"x\"}".getBytes(StandardCharsets.UTF_8);
+
+        Assertions.assertThrows(BadKeyException.class,
+            () -> Keystore.fromStream(new ByteArrayInputStream(json), PASSPHRASE));
+        Assertions.assertThrows(BadKeyException.class,
+            () -> Keystore.fromStreams(Arrays.asList(new ByteArrayInputStream(json)), PASSPHRASE, 1));
+    }
+
+    @Test
+    @DisplayName("PrivateKey reads and writes keystores")
+    void privateKeyKeystores() throws IOException {
+        PrivateKey privateKey = PrivateKey.fromString(TEST_KEY_STR);
+
+        ByteArrayOutputStream pbkdf2 = new ByteArrayOutputStream();
+        privateKey.writeKeystore(pbkdf2, PASSPHRASE);
+
+        ByteArrayOutputStream scrypt = new ByteArrayOutputStream();
+        privateKey.writeKeystore(scrypt, PASSPHRASE, new ScryptParameters(1 << 10, 8, 1));
+
+        Assertions.assertEquals(TEST_KEY_STR,
+            PrivateKey.readKeystore(new ByteArrayInputStream(pbkdf2.toByteArray()), PASSPHRASE).toString());
+
+        List<PrivateKey> keys = PrivateKey.readKeystores(Arrays.asList(
+            new ByteArrayInputStream(pbkdf2.toByteArray()),
+            new ByteArrayInputStream(scrypt.toByteArray())
+        ), PASSPHRASE, 2);
+
+        Assertions.assertEquals(2, keys.size());
+        Assertions.assertEquals(TEST_KEY_STR, keys.get(0).toString());
+        Assertions.assertEquals(TEST_KEY_STR, keys.get(1).toString());
+    }
+
+    @Test
+    @DisplayName("PBKDF2 of the platform derives the same keys as BouncyCastle")
+    void platformPbkdf2MatchesBouncyCastle() {
+        byte[] salt = Crypto.randomBytes(Crypto.SALT_LEN);
+
+        for (String passphrase : Arrays.asList(PASSPHRASE, "", "p\u00e4ssphr\u00e4se")) {
+            PKCS5S2ParametersGenerator gen = new PKCS5S2ParametersGenerator(new SHA256Digest());
+            gen.init(passphrase.getBytes(StandardCharsets.UTF_8), salt, 1000);
+
+            KeyParameter expected = (KeyParameter) gen.generateDerivedParameters(Crypto.DK_LEN * 8);
+
+            Assertions.assertArrayEquals(expected.getKey(), Crypto.deriveKeySha256(passphrase, salt, 1000, Crypto.DK_LEN).getKey());
+        }
+    }
 }
@@ -10,7 +10,9 @@ import java.util.Arrays;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class MnemonicTest {
@@ -236,4 +238,53 @@ public class MnemonicTest {
             assertEquals(key.toString(), MNEMONIC_PRIVATE_KEY);
         });
     }
+
+    @Test
+    @DisplayName("Mnemonic keeps recovered keys only when its key cache is enabled")
+    void keyCache() throws Exception {
+        Mnemonic mnemonic = Mnemonic.fromString(MNEMONIC_STRING);
+
+        assertEquals(0, mnemonic.getKeyCacheSize());
+        assertNotSame(mnemonic.toPrivateKey(), mnemonic.toPrivateKey());
+
+        mnemonic.setKeyCacheSize(1);
+
+        PrivateKey key = mnemonic.toPrivateKey();
+
+        assertEquals(MNEMONIC_PRIVATE_KEY, key.toString());
+        assertEquals(MNEMONIC_PRIVATE_KEY, mnemonic.toPrivateKey().toString());
+        assertEquals(MNEMONIC_PRIVATE_KEY, PrivateKey.fromMnemonic(mnemonic).toString());
+
+        // a second passphrase evicts the first
+        PrivateKey otherKey = mnemonic.toPrivateKey("passphrase");
+
+        assertEquals(otherKey.toString(), mnemonic.toPrivateKey("passphrase").toString());
+        assertEquals(MNEMONIC_PRIVATE_KEY, mnemonic.toPrivateKey().toString());
+
+        mnemonic.clearKeyCache();
+        assertEquals(otherKey.toString(), mnemonic.toPrivateKey("passphrase").toString());
+
+        assertThrows(IllegalArgumentException.class, () -> mnemonic.setKeyCacheSize(-1));
+    }
+
+    @Test
+    @DisplayName("Mnemonic key cache hands every caller its own key")
+    void keyCacheReturnsCopies() throws Exception {
+        Mnemonic mnemonic = Mnemonic.fromString(MNEMONIC_STRING).setKeyCacheSize(1);
+
+        PrivateKey first = mnemonic.toPrivateKey();
+        PublicKey publicKey = first.getPublicKey();
+        PrivateKey second = mnemonic.toPrivateKey();
+
+        assertNotSame(first, second);
+
+        // a caller zeroing its key bytes once done with the key must not affect the kept key
+        Arrays.fill(first.toBytes(), (byte) 0);
+        Arrays.fill(second.toBytes(), (byte) 0);
+
+        PrivateKey third = mnemonic.toPrivateKey();
+
+        assertEquals(MNEMONIC_PRIVATE_KEY, third.toString());
+        assertEquals(publicKey.toString(), third.getPublicKey().toString());
+    }
 }
@@ -0,0 +1,285 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import com.hedera.hashgraph.sdk.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.Query;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import com.hedera.hashgraph.sdk.proto.TransactionGetReceiptResponse;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NodeSelectorTest {
+    static Stream<NodeSelector> selectors() {
+        return Stream.of(
+            NodeSelector.leastUsed(),
+            NodeSelector.roundRobin(),
+            NodeSelector.powerOfTwoChoices(),
+            NodeSelector.latencyWeighted()
+        );
+    }
+
+    private static List<TestCandidate> candidates(int count) {
+        var candidates = new ArrayList<TestCandidate>(count);
+
+        for (var i = 0; i < count; i++) {
+            candidates.add(new TestCandidate(new AccountId(3 + i)));
+        }
+
+        return candidates;
+    }
+
+    @ParameterizedTest
+    @MethodSource("selectors")
+    void selectsDistinctNodes(NodeSelector selector) {
+        var candidates = candidates(10);
+
+        for (var count = 0; count <= candidates.size(); count++) {
+            var selected = selector.select(candidates, count);
+
+            assertThat(selected).hasSize(count);
+            assertThat(new HashSet<>(selected)).hasSize(count);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("selectors")
+    void selectsFromEmptyNetwork(NodeSelector selector) {
+        assertThat(selector.select(new ArrayList<TestCandidate>(), 0)).isEmpty();
+    }
+
+    @ParameterizedTest
+    @MethodSource("selectors")
+    void prefersHealthyNodes(NodeSelector selector) {
+        var candidates = candidates(6);
+        var unhealthyUntil = System.currentTimeMillis() + 60_000;
+
+        for (var i = 0; i < 3; i++) {
+            candidates.get(i).unhealthyUntil = unhealthyUntil;
+        }
+
+        for (var attempt = 0; attempt < 20; attempt++) {
+            var selected = selector.select(candidates, 3);
+
+            assertThat(selected).containsExactlyInAnyOrder(new AccountId(6), new AccountId(7), new AccountId(8));
+        }
+
+        // unhealthy nodes still fill the remaining slots
+        assertThat(selector.select(candidates, 6)).hasSize(6);
+    }
+
+    @Test
+    void leastUsedPrefersLeastUsedNodes() {
+        var candidates = candidates(4);
+        candidates.get(0).useCount = 5;
+        candidates.get(1).useCount = 1;
+        candidates.get(2).useCount = 0;
+        candidates.get(3).useCount = 1;
+        candidates.get(3).lastUsed = 10;
+
+        assertThat(NodeSelector.leastUsed().select(candidates, 3))
+            .containsExactly(new AccountId(5), new AccountId(4), new AccountId(6));
+    }
+
+    @Test
+    void roundRobinCyclesThroughNodes() {
+        var candidates = candidates(5);
+        var selector = NodeSelector.roundRobin();
+        var counts = new HashSet<AccountId>();
+
+        for (var i = 0; i < 5; i++) {
+            counts.addAll(selector.select(candidates, 1));
+        }
+
+        assertThat(counts).hasSize(5);
+    }
+
+    @Test
+    void latencyWeightedFavorsFastNodes() {
+        var candidates = candidates(2);
+        candidates.get(0).averageLatency = 1000.0;
+        candidates.get(1).averageLatency = 10.0;
+
+        var selector = NodeSelector.latencyWeighted();
+        var fast = new AccountId(4);
+        @Var var fastCount = 0;
+
+        for (var i = 0; i < 1000; i++) {
+            if (selector.select(candidates, 1).get(0).equals(fast)) {
+                fastCount++;
+            }
+        }
+
+        assertThat(fastCount).isGreaterThan(900);
+    }
+
+    @Test
+    void powerOfTwoChoicesPrefersIdleNodes() {
+        var candidates = candidates(2);
+        candidates.get(0).inFlight = 10;
+
+        var selector = NodeSelector.powerOfTwoChoices();
+
+        for (var i = 0; i < 20; i++) {
+            assertThat(selector.select(candidates, 2)).containsExactly(new AccountId(4), new AccountId(3));
+        }
+    }
+
+    @Test
+    void latencyWeightedAvoidsFailingNodes() {
+        var candidates = candidates(2);
+        candidates.get(0).averageLatency = 10.0;
+        candidates.get(0).errorRate = 1.0;
+        candidates.get(1).averageLatency = 10.0;
+
+        var selector = NodeSelector.latencyWeighted();
+        var working = new AccountId(4);
+        @Var var workingCount = 0;
+
+        for (var i = 0; i < 1000; i++) {
+            if (selector.select(candidates, 1).get(0).equals(working)) {
+                workingCount++;
+            }
+        }
+
+        assertThat(workingCount).isGreaterThan(900);
+    }
+
+    @Test
+    void clientReportsNodeStats() throws Exception {
+        var client = Client.forNetwork(Map.of(
+            "0.testnet.hedera.com:50211", new AccountId(3),
+            "1.testnet.hedera.com:50211", new AccountId(4)
+        ));
+
+        var node = client.network.networkNodes.get(new AccountId(3));
+        node.onRequestStarted();
+        node.onRequestStarted();
+        node.onRequestFinished(true);
+        node.recordLatency(40.0);
+
+        var stats = client.getNodeStats();
+
+        assertThat(stats).containsOnlyKeys(new AccountId(3), new AccountId(4));
+        assertThat(stats.get(new AccountId(3)).inFlight).isEqualTo(1);
+        assertThat(stats.get(new AccountId(3)).errorRate).isEqualTo(1.0);
+        assertThat(stats.get(new AccountId(3)).averageLatency).isEqualTo(40.0);
+        assertThat(stats.get(new AccountId(4)).recentRequests).isEqualTo(0);
+        assertThat(stats.get(new AccountId(4)).healthy).isTrue();
+
+        client.close();
+    }
+
+    @Test
+    void requestFinishesWhenResponseCanNotBeMapped() throws Exception {
+        var server = InProcessServerBuilder.forName("node-selector-test")
+            .addService(new CryptoServiceGrpc.CryptoServiceImplBase() {
+                @Override
+                public void getTransactionReceipts(Query request, StreamObserver<Response> responseObserver) {
+                    // a precheck code this version does not know
+                    responseObserver.onNext(Response.newBuilder()
+                        .setTransactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                            .setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCodeValue(999999)))
+                        .build());
+                    responseObserver.onCompleted();
+                }
+            })
+            .directExecutor()
+            .build()
+            .start();
+
+        var client = Client.forNetwork(Map.of("in-process:node-selector-test", new AccountId(3)));
+
+        assertThatThrownBy(() -> new TransactionReceiptQuery()
+            .setTransactionId(TransactionId.generate(new AccountId(2)))
+            .setNodeAccountIds(List.of(new AccountId(3)))
+            .execute(client));
+
+        var stats = client.getNodeStats().get(new AccountId(3));
+
+        assertThat(stats.inFlight).isEqualTo(0);
+        assertThat(stats.errorRate).isEqualTo(1.0);
+
+        client.close();
+        server.shutdown();
+        server.awaitTermination();
+    }
+
+    @Test
+    void clientUsesNodeSelector() throws Exception {
+        var client = Client.forNetwork(Map.of(
+            "0.testnet.hedera.com:50211", new AccountId(3),
+            "1.testnet.hedera.com:50211", new AccountId(4),
+            "2.testnet.hedera.com:50211", new AccountId(5)
+        ));
+
+        assertThat(client.getNodeSelector()).isInstanceOf(LeastUsedNodeSelector.class);
+
+        client.setNodeSelector((candidates, count) -> List.of(new AccountId(5)));
+
+        assertThat(client.network.getNodeAccountIdsForExecute()).containsExactly(new AccountId(5));
+
+        client.close();
+    }
+
+    private static final class TestCandidate implements NodeSelector.Candidate {
+        final AccountId accountId;
+        long unhealthyUntil = 0;
+        long useCount = 0;
+        long lastUsed = 0;
+        double averageLatency = 0;
+        int inFlight = 0;
+        double errorRate = 0;
+
+        TestCandidate(AccountId accountId) {
+            this.accountId = accountId;
+        }
+
+        @Override
+        public AccountId getAccountId() {
+            return accountId;
+        }
+
+        @Override
+        public long getUnhealthyUntil() {
+            return unhealthyUntil;
+        }
+
+        @Override
+        public long getUseCount() {
+            return useCount;
+        }
+
+        @Override
+        public long getLastUsed() {
+            return lastUsed;
+        }
+
+        @Override
+        public double getAverageLatency() {
+            return averageLatency;
+        }
+
+        @Override
+        public int getInFlight() {
+            return inFlight;
+        }
+
+        @Override
+        public double getErrorRate() {
+            return errorRate;
+        }
+    }
+}
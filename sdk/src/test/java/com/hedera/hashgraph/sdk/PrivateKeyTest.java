@@ -1,10 +1,17 @@
 package com.hedera.hashgraph.sdk;
 
 import com.google.protobuf.InvalidProtocolBufferException;
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
 import org.junit.jupiter.api.Test;
 import org.threeten.bp.Instant;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 public class PrivateKeyTest {
     private static final PrivateKey unusedPrivateKey = PrivateKey.fromString(
@@ -28,4 +35,66 @@ public class PrivateKeyTest {
         AccountCreateTransaction transaction = (AccountCreateTransaction) Transaction.fromBytes(bytes);
         unusedPrivateKey.signTransaction(transaction);
     }
+
+    @Test
+    void signingContextMatchesSigningFromSeed() {
+        var message = "hello, world".getBytes(StandardCharsets.UTF_8);
+        var expected = new byte[Ed25519.SIGNATURE_SIZE];
+
+        Ed25519.sign(unusedPrivateKey.toBytes(), 0, message, 0, message.length, expected, 0);
+
+        var signingContext = unusedPrivateKey.getSigningContext();
+
+        assertThat(signingContext.sign(message)).isEqualTo(expected);
+        assertThat(unusedPrivateKey.sign(message)).isEqualTo(expected);
+        assertThat(signingContext.publicKey).isEqualTo(unusedPrivateKey.getPublicKey());
+        assertThat(unusedPrivateKey.getSigningContext()).isSameAs(signingContext);
+        assertThat(unusedPrivateKey.getPublicKey().verify(message, expected)).isTrue();
+    }
+
+    @Test
+    void signingContextIsNotChangedThroughPublicKeyBytes() {
+        var privateKey = PrivateKey.generate();
+        var message = new byte[]{1, 2, 3};
+        var expected = privateKey.sign(message);
+
+        privateKey.getPublicKey().toBytes()[0] ^= 1;
+
+        assertThat(privateKey.sign(message)).isEqualTo(expected);
+    }
+
+    @Test
+    void deriveRangeMatchesDerive() {
+        var parent = PrivateKey.generate();
+        var start = 1000;
+        var count = 600;
+
+        var keys = parent.deriveRange(start, count);
+        var parallelKeys = parent.deriveRange(start, count, new ForkJoinPool(4));
+
+        assertThat(keys).hasSize(count);
+
+        for (var i = 0; i < count; i++) {
+            var expected = parent.derive(start + i);
+
+            assertThat(keys.get(i).toBytes()).isEqualTo(expected.toBytes());
+            assertThat(parallelKeys.get(i).toBytes()).isEqualTo(expected.toBytes());
+        }
+
+        // the derived keys are derivable themselves
+        assertThat(keys.get(0).deriveRange(0, 1).get(0).toBytes()).isEqualTo(parent.derive(start).derive(0).toBytes());
+    }
+
+    @Test
+    void deriveRangeRejectsInvalidUse() {
+        var parent = PrivateKey.generate();
+
+        assertThat(parent.deriveRange(5, 0)).isEmpty();
+        assertThat(parent.deriveRange(Integer.MAX_VALUE, 1)).hasSize(1);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> parent.deriveRange(-1, 1));
+        assertThatIllegalArgumentException().isThrownBy(() -> parent.deriveRange(0, -1));
+        assertThatIllegalArgumentException().isThrownBy(() -> parent.deriveRange(Integer.MAX_VALUE, 2));
+        assertThatIllegalStateException().isThrownBy(() -> unusedPrivateKey.deriveRange(0, 1));
+    }
 }
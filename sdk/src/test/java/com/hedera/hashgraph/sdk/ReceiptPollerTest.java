@@ -0,0 +1,136 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.Query;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import com.hedera.hashgraph.sdk.proto.TransactionGetReceiptResponse;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ReceiptPollerTest {
+    private final CryptoServiceStub cryptoService = new CryptoServiceStub();
+    private Client client;
+    private Server server;
+
+    @BeforeEach
+    void setup() throws Exception {
+        server = InProcessServerBuilder.forName("receipt-test")
+            .addService(cryptoService)
+            .directExecutor()
+            .build()
+            .start();
+
+        client = Client.forNetwork(Map.of("in-process:receipt-test", new AccountId(3)));
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        client.close();
+        server.shutdown();
+        server.awaitTermination();
+    }
+
+    private static TransactionResponse response() {
+        return new TransactionResponse(new AccountId(3), TransactionId.generate(new AccountId(2)), new byte[0], null);
+    }
+
+    @Test
+    @Timeout(10)
+    void pollsUntilConsensus() throws Exception {
+        var poller = new ReceiptPoller(client, 100);
+        cryptoService.unknownResponses.set(2);
+
+        var receipt = poller.getReceipt(response()).get();
+
+        assertThat(receipt.status).isEqualTo(Status.SUCCESS);
+        assertThat(cryptoService.polls.get()).isEqualTo(3);
+        assertThat(poller.getPendingCount()).isEqualTo(0);
+
+        // found later than estimated, so the estimate grows
+        assertThat(poller.getConsensusLatency()).isGreaterThan(100);
+    }
+
+    @Test
+    @Timeout(10)
+    void coalescesRequestsForTheSameTransaction() throws Exception {
+        var poller = new ReceiptPoller(client, 100);
+        var response = response();
+
+        var first = poller.getReceipt(response);
+        var second = poller.getReceipt(response);
+
+        assertThat(poller.getPendingCount()).isEqualTo(1);
+        assertThat(first.get().status).isEqualTo(Status.SUCCESS);
+        assertThat(second.get().status).isEqualTo(Status.SUCCESS);
+        assertThat(cryptoService.polls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @Timeout(10)
+    void pollsImmediatelyWhenConsensusIsOverdue() throws Exception {
+        var poller = new ReceiptPoller(client, 0);
+
+        assertThat(poller.getReceipt(response()).get().status).isEqualTo(Status.SUCCESS);
+        assertThat(cryptoService.polls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @Timeout(10)
+    void lateRequestsDoNotSampleLatency() throws Exception {
+        var poller = new ReceiptPoller(client, 100);
+        var response = response();
+
+        // asked for well after the estimated time to consensus
+        Thread.sleep(300);
+
+        assertThat(poller.getReceipt(response).get().status).isEqualTo(Status.SUCCESS);
+        assertThat(poller.getConsensusLatency()).isEqualTo(100);
+    }
+
+    @Test
+    @Timeout(10)
+    void failsOnUnsuccessfulReceipt() {
+        var poller = new ReceiptPoller(client, 100);
+        cryptoService.finalStatus = ResponseCodeEnum.INVALID_SIGNATURE;
+
+        assertThatExceptionOfType(ExecutionException.class)
+            .isThrownBy(() -> poller.getReceipt(response()).get())
+            .withCauseInstanceOf(ReceiptStatusException.class);
+
+        assertThat(poller.getPendingCount()).isEqualTo(0);
+    }
+
+    private static final class CryptoServiceStub extends CryptoServiceGrpc.CryptoServiceImplBase {
+        final AtomicInteger polls = new AtomicInteger();
+        final AtomicInteger unknownResponses = new AtomicInteger();
+        volatile ResponseCodeEnum finalStatus = ResponseCodeEnum.SUCCESS;
+
+        @Override
+        public void getTransactionReceipts(Query request, StreamObserver<Response> responseObserver) {
+            polls.incrementAndGet();
+
+            var status = unknownResponses.getAndDecrement() > 0 ? ResponseCodeEnum.UNKNOWN : finalStatus;
+
+            responseObserver.onNext(Response.newBuilder()
+                .setTransactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                    .setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                    .setReceipt(com.hedera.hashgraph.sdk.proto.TransactionReceipt.newBuilder().setStatus(status)))
+                .build());
+            responseObserver.onCompleted();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetrySchedulerTest {
+    private static RetryScheduler newScheduler() {
+        return new RetryScheduler(MoreExecutors.directExecutor(), new ThreadFactoryBuilder()
+            .setNameFormat("retry-scheduler-test-%d")
+            .setDaemon(true)
+            .build());
+    }
+
+    @Test
+    void rejectsInvalidWheel() {
+        var threadFactory = new ThreadFactoryBuilder().build();
+
+        assertThatThrownBy(() -> new RetryScheduler(MoreExecutors.directExecutor(), threadFactory, 0, 512))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RetryScheduler(MoreExecutors.directExecutor(), threadFactory, 10, 100))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @Timeout(5)
+    void runsScheduledTasksAfterDelay() throws InterruptedException {
+        var scheduler = newScheduler();
+        var latch = new CountDownLatch(3);
+        var startAt = System.nanoTime();
+
+        scheduler.schedule(0, latch::countDown);
+        scheduler.schedule(50, latch::countDown);
+        scheduler.schedule(100, latch::countDown);
+
+        latch.await();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startAt)).isGreaterThanOrEqualTo(100);
+        assertThat(scheduler.getPendingCount()).isZero();
+    }
+
+    @Test
+    @Timeout(5)
+    void runsTasksBeyondOneRotation() throws InterruptedException {
+        // a 4 tick wheel of 5 ms rotates every 20 ms
+        var scheduler = new RetryScheduler(MoreExecutors.directExecutor(), new ThreadFactoryBuilder().setDaemon(true).build(), 5, 4);
+        var latch = new CountDownLatch(1);
+        var startAt = System.nanoTime();
+
+        scheduler.schedule(75, latch::countDown);
+
+        latch.await();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startAt)).isGreaterThanOrEqualTo(75);
+    }
+
+    @Test
+    @Timeout(5)
+    void cancelledTasksDoNotRun() throws InterruptedException {
+        var scheduler = newScheduler();
+        var ran = new AtomicInteger();
+        var latch = new CountDownLatch(1);
+
+        var timeout = scheduler.schedule(50, ran::incrementAndGet);
+        scheduler.schedule(100, latch::countDown);
+
+        assertThat(timeout.cancel()).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+
+        latch.await();
+
+        assertThat(ran.get()).isZero();
+        assertThat(scheduler.getPendingCount()).isZero();
+    }
+
+    @Test
+    @Timeout(10)
+    void handlesManyConcurrentTasks() throws InterruptedException {
+        var scheduler = newScheduler();
+        var count = 50_000;
+        var latch = new CountDownLatch(count);
+
+        for (var i = 0; i < count; i++) {
+            scheduler.schedule(i % 100, latch::countDown);
+        }
+
+        latch.await();
+
+        assertThat(scheduler.getPendingCount()).isZero();
+    }
+
+    @Test
+    @Timeout(5)
+    void reportsRejectedTasks() throws InterruptedException {
+        var scheduler = new RetryScheduler(task -> {
+            throw new RejectedExecutionException("closed");
+        }, new ThreadFactoryBuilder().setDaemon(true).build());
+        var ran = new AtomicInteger();
+        var rejection = new AtomicReference<Throwable>();
+        var latch = new CountDownLatch(1);
+
+        scheduler.schedule(10, ran::incrementAndGet, error -> {
+            rejection.set(error);
+            latch.countDown();
+        });
+
+        latch.await();
+
+        assertThat(ran.get()).isZero();
+        assertThat(rejection.get()).isInstanceOf(RejectedExecutionException.class);
+    }
+}
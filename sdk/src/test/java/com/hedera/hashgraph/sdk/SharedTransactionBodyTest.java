@@ -0,0 +1,67 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.FileAppendTransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SharedTransactionBodyTest {
+    private static TransactionBody.Builder body() {
+        return TransactionBody.newBuilder()
+            .setTransactionFee(new Hbar(2).toTinybars())
+            .setTransactionValidDuration(DurationConverter.toProtobuf(Duration.ofSeconds(120)))
+            .setMemo("shared")
+            .setFileAppend(FileAppendTransactionBody.newBuilder()
+                .setFileID(new FileId(1000).toProtobuf())
+                .setContents(ByteString.copyFrom(new byte[512])));
+    }
+
+    @Test
+    void splicedBodyMatchesBodyBuiltForNode() {
+        var body = body()
+            .setTransactionID(TransactionId.withValidStart(new AccountId(2), Instant.ofEpochSecond(1554158542)).toProtobuf());
+        var shared = new SharedTransactionBody(body.build());
+
+        for (var nodeId : Arrays.asList(new AccountId(3), new AccountId(0), new AccountId(1, 2, 300000))) {
+            var expected = body.setNodeAccountID(nodeId.toProtobuf()).build().toByteString();
+
+            assertThat(shared.forNode(nodeId)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void splicedBodyMatchesBodyWithoutTransactionId() {
+        var body = body();
+        var shared = new SharedTransactionBody(body.build());
+
+        var expected = body.setNodeAccountID(new AccountId(3).toProtobuf()).build().toByteString();
+
+        assertThat(shared.forNode(new AccountId(3))).isEqualTo(expected);
+    }
+
+    @Test
+    void frozenTransactionsShareTheirBody() throws Exception {
+        var transaction = new FileAppendTransaction()
+            .setNodeAccountIds(Arrays.asList(new AccountId(3), new AccountId(4), new AccountId(5)))
+            .setTransactionId(TransactionId.withValidStart(new AccountId(2), Instant.ofEpochSecond(1554158542)))
+            .setFileId(new FileId(1000))
+            .setContents(new byte[1024 * 3])
+            .freeze();
+
+        assertThat(transaction.innerSignedTransactions).hasSize(9);
+
+        for (var i = 0; i < transaction.innerSignedTransactions.size(); i++) {
+            var body = TransactionBody.parseFrom(transaction.innerSignedTransactions.get(i).getBodyBytes());
+
+            assertThat(AccountId.fromProtobuf(body.getNodeAccountID())).isEqualTo(new AccountId(3 + i % 3));
+            assertThat(TransactionId.fromProtobuf(body.getTransactionID())).isEqualTo(transaction.transactionIds.get(i / 3));
+            assertThat(body.getFileAppend().getContents().size()).isEqualTo(1024);
+        }
+    }
+}
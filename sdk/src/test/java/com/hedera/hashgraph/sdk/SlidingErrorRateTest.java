@@ -0,0 +1,45 @@
+package com.hedera.hashgraph.sdk;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingErrorRateTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void reportsZeroWithoutRequests() {
+        assertThat(new SlidingErrorRate().getErrorRate()).isEqualTo(0.0);
+    }
+
+    @Test
+    void countsErrorsWithinWindow() {
+        var rate = new SlidingErrorRate(4, 1000);
+
+        rate.record(0, true);
+        rate.record(SECOND, false);
+        rate.record(2 * SECOND, false);
+        rate.record(3 * SECOND, true);
+
+        assertThat(rate.getErrorRate(3 * SECOND)).isEqualTo(0.5);
+    }
+
+    @Test
+    void forgetsExpiredBuckets() {
+        var rate = new SlidingErrorRate(4, 1000);
+
+        rate.record(0, true);
+        rate.record(0, true);
+        rate.record(4 * SECOND, false);
+
+        // the failures at t=0 fell out of the window and their bucket was reused
+        assertThat(rate.getErrorRate(4 * SECOND)).isEqualTo(0.0);
+
+        // a bucket is not counted once it is older than the window even if it was never reused
+        rate.record(5 * SECOND, true);
+        assertThat(rate.getErrorRate(8 * SECOND)).isEqualTo(1.0);
+        assertThat(rate.getErrorRate(9 * SECOND)).isEqualTo(0.0);
+    }
+}
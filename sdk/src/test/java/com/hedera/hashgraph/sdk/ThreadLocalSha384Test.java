@@ -0,0 +1,63 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import org.bouncycastle.crypto.digests.SHA384Digest;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThreadLocalSha384Test {
+    private static final byte[] BYTES = new byte[1000];
+
+    static {
+        for (var i = 0; i < BYTES.length; i++) {
+            BYTES[i] = (byte) (i * 31);
+        }
+    }
+
+    private static byte[] expected(byte[] bytes) {
+        var digest = new SHA384Digest();
+        var hash = new byte[digest.getDigestSize()];
+
+        digest.update(bytes, 0, bytes.length);
+        digest.doFinal(hash, 0);
+
+        return hash;
+    }
+
+    @Test
+    void hashesLiteralByteString() {
+        assertThat(ThreadLocalSha384.digest(ByteString.copyFrom(BYTES))).isEqualTo(expected(BYTES));
+    }
+
+    @Test
+    void hashesSubstringAndRope() {
+        var whole = ByteString.copyFrom(BYTES);
+        var rope = whole.substring(0, 300).concat(whole.substring(300, 700)).concat(whole.substring(700));
+
+        assertThat(ThreadLocalSha384.digest(whole.substring(100, 600)))
+            .isEqualTo(expected(Arrays.copyOfRange(BYTES, 100, 600)));
+        assertThat(ThreadLocalSha384.digest(rope)).isEqualTo(expected(BYTES));
+    }
+
+    @Test
+    void hashesDirectBuffer() {
+        var buffer = ByteBuffer.allocateDirect(BYTES.length);
+        buffer.put(BYTES).flip();
+
+        assertThat(ThreadLocalSha384.digest(UnsafeByteOperations.unsafeWrap(buffer))).isEqualTo(expected(BYTES));
+    }
+
+    @Test
+    void reusesDigestBetweenCalls() {
+        var first = ThreadLocalSha384.digest(ByteString.copyFrom(BYTES));
+        var empty = ThreadLocalSha384.digest(ByteString.EMPTY);
+
+        assertThat(ThreadLocalSha384.digest(ByteString.copyFrom(BYTES))).isEqualTo(first);
+        assertThat(empty).isEqualTo(expected(new byte[0]));
+    }
+}
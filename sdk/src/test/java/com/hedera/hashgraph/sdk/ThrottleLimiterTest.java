@@ -0,0 +1,105 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.HederaFunctionality;
+import com.hedera.hashgraph.sdk.proto.ThrottleBucket;
+import com.hedera.hashgraph.sdk.proto.ThrottleDefinitions;
+import com.hedera.hashgraph.sdk.proto.ThrottleGroup;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ThrottleLimiterTest {
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    // 10 transfers per second with a one second burst, sharing the bucket with 5 token mints per second
+    private static final ThrottleDefinitions DEFINITIONS = ThrottleDefinitions.newBuilder()
+        .addThrottleBuckets(ThrottleBucket.newBuilder()
+            .setName("ThroughputLimits")
+            .setBurstPeriodMs(1000)
+            .addThrottleGroups(ThrottleGroup.newBuilder()
+                .addOperations(HederaFunctionality.CryptoTransfer)
+                .setMilliOpsPerSec(10_000))
+            .addThrottleGroups(ThrottleGroup.newBuilder()
+                .addOperations(HederaFunctionality.TokenMint)
+                .setMilliOpsPerSec(5_000)))
+        .addThrottleBuckets(ThrottleBucket.newBuilder()
+            .setName("QueryLimits")
+            .setBurstPeriodMs(2000)
+            .addThrottleGroups(ThrottleGroup.newBuilder()
+                .addOperations(HederaFunctionality.CryptoGetAccountBalance)
+                .setMilliOpsPerSec(1_000)))
+        .build();
+
+    @Test
+    void allowsBurstThenPacesAtRate() {
+        var limiter = new ThrottleLimiter(DEFINITIONS);
+
+        for (var i = 0; i < 10; i++) {
+            assertThat(limiter.reserve(RequestType.CRYPTO_TRANSFER, 0)).isEqualTo(0);
+        }
+
+        // the bucket is full; each further transfer must wait one more interval of 100ms
+        assertThat(limiter.reserve(RequestType.CRYPTO_TRANSFER, 0)).isEqualTo(100 * MILLI);
+        assertThat(limiter.reserve(RequestType.CRYPTO_TRANSFER, 0)).isEqualTo(200 * MILLI);
+
+        // once the reservations have drained there is room again
+        assertThat(limiter.reserve(RequestType.CRYPTO_TRANSFER, 2 * SECOND)).isEqualTo(0);
+    }
+
+    @Test
+    void groupsInABucketShareCapacity() {
+        var limiter = new ThrottleLimiter(DEFINITIONS);
+
+        // five mints fill the bucket as much as ten transfers would
+        for (var i = 0; i < 5; i++) {
+            assertThat(limiter.reserve(RequestType.TOKEN_MINT, 0)).isEqualTo(0);
+        }
+
+        assertThat(limiter.reserve(RequestType.CRYPTO_TRANSFER, 0)).isEqualTo(100 * MILLI);
+
+        // other buckets are unaffected
+        assertThat(limiter.reserve(RequestType.CRYPTO_GET_ACCOUNT_BALANCE, 0)).isEqualTo(0);
+    }
+
+    @Test
+    void doesNotLimitUnknownRequestTypes() {
+        var limiter = new ThrottleLimiter(DEFINITIONS);
+
+        for (var i = 0; i < 100; i++) {
+            assertThat(limiter.reserve(RequestType.FILE_CREATE, 0)).isEqualTo(0);
+        }
+    }
+
+    @Test
+    void reservesByMethod() {
+        var limiter = new ThrottleLimiter(DEFINITIONS);
+
+        assertThat(limiter.reserve(CryptoServiceGrpc.getCryptoGetBalanceMethod())).isEqualTo(0);
+        assertThat(limiter.reserve(CryptoServiceGrpc.getCryptoGetBalanceMethod())).isEqualTo(0);
+        assertThat(limiter.reserve(CryptoServiceGrpc.getCryptoGetBalanceMethod())).isBetween(900L, 1000L);
+    }
+
+    @Test
+    void clientAcceptsThrottleDefinitions() throws Exception {
+        var client = Client.forNetwork(Map.of("0.testnet.hedera.com:50211", new AccountId(3)));
+
+        assertThat(client.throttle).isNull();
+
+        client.setThrottleDefinitions(DEFINITIONS.toByteArray());
+        assertThat(client.throttle).isNotNull();
+
+        client.clearThrottleDefinitions();
+        assertThat(client.throttle).isNull();
+
+        assertThatExceptionOfType(com.google.protobuf.InvalidProtocolBufferException.class)
+            .isThrownBy(() -> client.setThrottleDefinitions(new byte[]{1, 2, 3}));
+
+        client.close();
+    }
+}
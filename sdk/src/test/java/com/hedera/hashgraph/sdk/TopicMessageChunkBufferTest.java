@@ -0,0 +1,128 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.ConsensusMessageChunkInfo;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopicMessageChunkBufferTest {
+    private static final Instant START_TIME = Instant.ofEpochSecond(1554158542);
+
+    private final List<TopicMessageEvictedException> evicted = new ArrayList<>();
+
+    private TopicMessageChunkBuffer buffer(int maxMessages, long maxBytes) {
+        return new TopicMessageChunkBuffer(maxMessages, maxBytes, Duration.ofSeconds(60), evicted::add);
+    }
+
+    private static ConsensusTopicResponse chunk(int message, int number, int total, long secondsAfterStart) {
+        return ConsensusTopicResponse.newBuilder()
+            .setConsensusTimestamp(InstantConverter.toProtobuf(START_TIME.plusSeconds(secondsAfterStart)))
+            .setMessage(ByteString.copyFrom(new byte[10]))
+            .setChunkInfo(ConsensusMessageChunkInfo.newBuilder()
+                .setInitialTransactionID(TransactionID.newBuilder()
+                    .setAccountID(AccountID.newBuilder().setAccountNum(message))
+                    .setTransactionValidStart(InstantConverter.toProtobuf(START_TIME)))
+                .setNumber(number)
+                .setTotal(total))
+            .build();
+    }
+
+    @Test
+    void releasesCompleteMessages() {
+        var buffer = buffer(10, 1000);
+
+        assertThat(buffer.add(chunk(1, 2, 3, 0))).isNull();
+        assertThat(buffer.add(chunk(1, 1, 3, 1))).isNull();
+        assertThat(buffer.getPendingBytes()).isEqualTo(20);
+
+        var chunks = buffer.add(chunk(1, 3, 3, 2));
+
+        assertThat(chunks).extracting(c -> c.getChunkInfo().getNumber()).containsExactly(2, 1, 3);
+        assertThat(buffer.getPendingMessages()).isEqualTo(0);
+        assertThat(buffer.getPendingBytes()).isEqualTo(0);
+        assertThat(evicted).isEmpty();
+    }
+
+    @Test
+    void ignoresDuplicateChunks() {
+        var buffer = buffer(10, 1000);
+
+        assertThat(buffer.add(chunk(1, 1, 2, 0))).isNull();
+        assertThat(buffer.add(chunk(1, 1, 2, 1))).isNull();
+        assertThat(buffer.getPendingBytes()).isEqualTo(10);
+        assertThat(buffer.add(chunk(1, 2, 2, 2))).hasSize(2);
+    }
+
+    @Test
+    void ignoresMalformedChunks() {
+        var buffer = buffer(1, 1000);
+
+        assertThat(buffer.add(chunk(1, 1, 0, 0))).isNull();
+        assertThat(buffer.add(chunk(2, 0, 2, 1))).isNull();
+        assertThat(buffer.add(chunk(3, 3, 2, 2))).isNull();
+        assertThat(buffer.getPendingMessages()).isEqualTo(0);
+        assertThat(buffer.getPendingBytes()).isEqualTo(0);
+
+        // none of them takes the place of a real partial message
+        assertThat(buffer.add(chunk(4, 1, 2, 3))).isNull();
+        assertThat(buffer.add(chunk(5, 0, 2, 4))).isNull();
+        assertThat(buffer.add(chunk(4, 2, 2, 5))).hasSize(2);
+        assertThat(evicted).isEmpty();
+    }
+
+    @Test
+    void evictsOldestWhenTooManyMessages() {
+        var buffer = buffer(2, 1000);
+
+        buffer.add(chunk(1, 1, 2, 0));
+        buffer.add(chunk(2, 1, 2, 1));
+        buffer.add(chunk(3, 1, 2, 2));
+
+        assertThat(buffer.getPendingMessages()).isEqualTo(2);
+        assertThat(evicted).singleElement().satisfies(e -> {
+            assertThat(e.transactionId).isNotNull();
+            assertThat(e.transactionId.accountId).isEqualTo(new AccountId(1));
+            assertThat(e.receivedChunks).isEqualTo(1);
+            assertThat(e.totalChunks).isEqualTo(2);
+            assertThat(e.expired).isFalse();
+        });
+
+        // the evicted message's remaining chunk starts a new partial message
+        assertThat(buffer.add(chunk(2, 2, 2, 3))).hasSize(2);
+    }
+
+    @Test
+    void evictsOldestWhenTooManyBytes() {
+        var buffer = buffer(10, 25);
+
+        buffer.add(chunk(1, 1, 3, 0));
+        buffer.add(chunk(1, 2, 3, 1));
+        buffer.add(chunk(2, 1, 3, 2));
+
+        assertThat(evicted).singleElement().satisfies(e -> assertThat(e.receivedChunks).isEqualTo(2));
+        assertThat(buffer.getPendingBytes()).isEqualTo(10);
+    }
+
+    @Test
+    void expiresMessagesByConsensusTime() {
+        var buffer = buffer(10, 1000);
+
+        buffer.add(chunk(1, 1, 2, 0));
+        buffer.add(chunk(2, 1, 2, 30));
+        assertThat(evicted).isEmpty();
+
+        buffer.add(chunk(3, 1, 2, 61));
+
+        assertThat(evicted).singleElement().satisfies(e -> assertThat(e.expired).isTrue());
+        assertThat(buffer.getPendingMessages()).isEqualTo(2);
+    }
+}
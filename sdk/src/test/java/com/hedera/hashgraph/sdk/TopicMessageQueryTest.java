@@ -18,6 +18,7 @@ import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.inprocess.InProcessServerBuilder;
 import io.grpc.stub.StreamObserver;
+import java8.util.concurrent.Flow;
 import java8.util.function.Consumer;
 import org.apache.commons.lang3.ArrayUtils;
 import org.assertj.core.api.InstanceOfAssertFactories;
@@ -34,11 +35,16 @@ import org.threeten.bp.Instant;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -137,6 +143,26 @@ class TopicMessageQueryTest {
             .hasMessage("maxBackoff must be at least 500 ms");
     }
 
+    @Test
+    void setMaxPendingLimitsInvalid() {
+        assertThatThrownBy(() -> topicMessageQuery.setMaxPendingMessages(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("maxPendingMessages must be at least 1");
+        assertThatThrownBy(() -> topicMessageQuery.setMaxPendingBytes(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("maxPendingBytes must be at least 1");
+        assertThatThrownBy(() -> topicMessageQuery.setMaxPendingAge(Duration.ZERO))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("maxPendingAge must be positive");
+    }
+
+    @Test
+    void setCheckpointIntervalNegative() {
+        assertThatThrownBy(() -> topicMessageQuery.setCheckpointInterval(Duration.ofMillis(-1L)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("checkpointInterval must not be negative");
+    }
+
     @Test
     void setRetryHandlerNull() {
         assertThatThrownBy(() -> topicMessageQuery.setRetryHandler(null))
@@ -189,7 +215,7 @@ class TopicMessageQueryTest {
             .first()
             .returns(toInstant(response2.getConsensusTimestamp()), t -> t.consensusTimestamp)
             .returns(response2.getChunkInfo().getInitialTransactionID(), t -> t.transactionId.toProtobuf())
-            .returns(message, t -> t.contents)
+            .returns(message, TopicMessage::getContents)
             .returns(response2.getRunningHash().toByteArray(), t -> t.runningHash)
             .returns(response2.getSequenceNumber(), t -> t.sequenceNumber)
             .extracting(t -> t.chunks)
@@ -199,6 +225,32 @@ class TopicMessageQueryTest {
             .contains(1L, 2L);
     }
 
+    @Test
+    @Timeout(3)
+    void subscribeChunkedEvictsPartialMessages() {
+        topicMessageQuery.setMaxPendingMessages(1);
+        // the first chunk of a different message
+        var response = response(2L, 2);
+        var chunkInfo = response.getChunkInfo();
+        var other = response.toBuilder().setChunkInfo(chunkInfo.toBuilder()
+            .setInitialTransactionID(chunkInfo.getInitialTransactionID().toBuilder()
+                .setAccountID(AccountID.newBuilder().setAccountNum(4)))
+            .setNumber(1));
+
+        consensusServiceStub.requests.add(request().build());
+        consensusServiceStub.responses.add(response(1L, 3));
+        consensusServiceStub.responses.add(other.build());
+
+        subscribeToMirror(received::add);
+
+        assertThat(received).isEmpty();
+        assertThat(errors).singleElement()
+            .isInstanceOfSatisfying(TopicMessageEvictedException.class, e -> {
+                assertThat(e.receivedChunks).isEqualTo(1);
+                assertThat(e.totalChunks).isEqualTo(3);
+            });
+    }
+
     @Test
     @Timeout(3)
     void subscribeNoResponse() {
@@ -224,6 +276,88 @@ class TopicMessageQueryTest {
         assertThat(received).isEmpty();
     }
 
+    @Test
+    @Timeout(3)
+    void publisherDeliversOnDemand() throws Exception {
+        consensusServiceStub.requests.add(request().build());
+        consensusServiceStub.responses.add(response(1L));
+        consensusServiceStub.responses.add(response(2L));
+        consensusServiceStub.responses.add(response(3L));
+
+        BlockingQueue<TopicMessage> messages = new LinkedBlockingQueue<>();
+        AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+
+        topicMessageQuery.asPublisher(client).subscribe(new Flow.Subscriber<TopicMessage>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscription.set(s);
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(TopicMessage item) {
+                messages.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                errors.add(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                complete.set(true);
+            }
+        });
+
+        assertThat(messages.poll(1, TimeUnit.SECONDS)).extracting(t -> t.sequenceNumber).isEqualTo(1L);
+
+        // nothing more is delivered until requested
+        Uninterruptibles.sleepUninterruptibly(200, TimeUnit.MILLISECONDS);
+        assertThat(messages).isEmpty();
+        assertThat(complete.get()).isFalse();
+
+        subscription.get().request(2);
+
+        assertThat(messages.poll(1, TimeUnit.SECONDS)).extracting(t -> t.sequenceNumber).isEqualTo(2L);
+        assertThat(messages.poll(1, TimeUnit.SECONDS)).extracting(t -> t.sequenceNumber).isEqualTo(3L);
+
+        while (!complete.get()) {
+            Uninterruptibles.sleepUninterruptibly(10, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(errors).isEmpty();
+    }
+
+    @Test
+    @Timeout(3)
+    void publisherRejectsNonPositiveDemand() {
+        topicMessageQuery.asPublisher(client).subscribe(new Flow.Subscriber<TopicMessage>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                s.request(0);
+            }
+
+            @Override
+            public void onNext(TopicMessage item) {
+                received.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                errors.add(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                complete.set(true);
+            }
+        });
+
+        assertThat(errors).singleElement().isInstanceOf(IllegalArgumentException.class);
+        assertThat(received).isEmpty();
+    }
+
     @ParameterizedTest(name = "Retry recovers w/ status {0} and description {1}")
     @CsvSource({
         "INTERNAL, internal RST_STREAM error",
@@ -307,6 +441,28 @@ class TopicMessageQueryTest {
         assertThat(errors).isEmpty();
     }
 
+    @Test
+    @Timeout(3)
+    void unsubscribeCancelsPendingRetry() {
+        topicMessageQuery.setMaxBackoff(Duration.ofSeconds(1L));
+        consensusServiceStub.requests.add(request().build());
+        consensusServiceStub.responses.add(Status.UNAVAILABLE.asRuntimeException());
+
+        var subscriptionHandle = topicMessageQuery.subscribe(client, received::add);
+
+        while (consensusServiceStub.calls.get() == 0) {
+            Uninterruptibles.sleepUninterruptibly(10, TimeUnit.MILLISECONDS);
+        }
+
+        // the retry is waiting on the client's timer, at most 500 ms for the first attempt
+        subscriptionHandle.unsubscribe();
+        Uninterruptibles.sleepUninterruptibly(700, TimeUnit.MILLISECONDS);
+
+        assertThat(consensusServiceStub.calls.get()).isEqualTo(1);
+        assertThat(received).isEmpty();
+        assertThat(errors).isEmpty();
+    }
+
     @Test
     @Timeout(3)
     void retriesExhausted() {
@@ -326,6 +482,85 @@ class TopicMessageQueryTest {
             .isEqualTo(Status.RESOURCE_EXHAUSTED);
     }
 
+    @Test
+    @Timeout(3)
+    void resumesAfterCheckpoint() {
+        var checkpoints = new HashMap<TopicId, SubscriptionCheckpoint>();
+        var topicId = TopicId.fromString("0.0.1000");
+        checkpoints.put(topicId, new SubscriptionCheckpoint(START_TIME.plusSeconds(1L), 1L, START_TIME.plusSeconds(1L).plusNanos(1L)));
+
+        topicMessageQuery.setCheckpointStore(new SubscriptionCheckpointStore() {
+            @Override
+            public SubscriptionCheckpoint load(TopicId topicId) {
+                return checkpoints.get(topicId);
+            }
+
+            @Override
+            public void save(TopicId topicId, SubscriptionCheckpoint checkpoint) {
+                checkpoints.put(topicId, checkpoint);
+            }
+        });
+
+        consensusServiceStub.requests.add(request()
+            .setConsensusStartTime(toTimestamp(START_TIME.plusSeconds(1L).plusNanos(1L)))
+            .build());
+        // already delivered before the checkpoint, so skipped
+        consensusServiceStub.responses.add(response(1L));
+        consensusServiceStub.responses.add(response(2L));
+        consensusServiceStub.responses.add(response(3L));
+
+        subscribeToMirror(received::add);
+
+        assertThat(received).extracting(t -> t.sequenceNumber).containsExactly(2L, 3L);
+        assertThat(errors).isEmpty();
+
+        // saved when the subscription completed
+        assertThat(checkpoints.get(topicId)).isEqualTo(new SubscriptionCheckpoint(START_TIME.plusSeconds(3L), 3L, START_TIME.plusSeconds(3L).plusNanos(1L)));
+    }
+
+    @Test
+    @Timeout(3)
+    void checkpointResumesAtPartialMessage() {
+        var saved = new ArrayList<SubscriptionCheckpoint>();
+
+        topicMessageQuery.setCheckpointInterval(Duration.ZERO);
+        topicMessageQuery.setCheckpointStore(new SubscriptionCheckpointStore() {
+            @Override
+            public SubscriptionCheckpoint load(TopicId topicId) {
+                return null;
+            }
+
+            @Override
+            public void save(TopicId topicId, SubscriptionCheckpoint checkpoint) {
+                saved.add(checkpoint);
+            }
+        });
+
+        // the first chunk of a message, then a single chunk message, then the last chunk of the first
+        var firstChunk = response(1L, 2).toBuilder()
+            .setConsensusTimestamp(toTimestamp(START_TIME.plusSeconds(1L)))
+            .build();
+        var last = response(2L, 2).toBuilder()
+            .setConsensusTimestamp(toTimestamp(START_TIME.plusSeconds(3L)))
+            .setSequenceNumber(3L)
+            .build();
+
+        consensusServiceStub.requests.add(request().build());
+        consensusServiceStub.responses.add(firstChunk);
+        consensusServiceStub.responses.add(response(2L));
+        consensusServiceStub.responses.add(last);
+
+        subscribeToMirror(received::add);
+
+        assertThat(received).extracting(t -> t.sequenceNumber).containsExactly(2L, 3L);
+        assertThat(errors).isEmpty();
+
+        // resuming after the single chunk message must read the first chunk again
+        assertThat(saved).containsExactly(
+            new SubscriptionCheckpoint(START_TIME.plusSeconds(2L), 2L, START_TIME.plusSeconds(1L)),
+            new SubscriptionCheckpoint(START_TIME.plusSeconds(3L), 3L, START_TIME.plusSeconds(3L).plusNanos(1L)));
+    }
+
     private void subscribeToMirror(Consumer<TopicMessage> onNext) {
         SubscriptionHandle subscriptionHandle = topicMessageQuery.subscribe(client, onNext);
         Stopwatch stopwatch = Stopwatch.createStarted();
@@ -388,10 +623,13 @@ class TopicMessageQueryTest {
 
         private final Queue<ConsensusTopicQuery> requests = new LinkedList<>();
         private final Queue<Object> responses = new LinkedList<>();
+        private final AtomicInteger calls = new AtomicInteger();
 
         @Override
         public void subscribeTopic(ConsensusTopicQuery consensusTopicQuery,
                                    StreamObserver<ConsensusTopicResponse> streamObserver) {
+            calls.incrementAndGet();
+
             var request = requests.poll();
             assertThat(request).isNotNull();
             assertThat(consensusTopicQuery).isEqualTo(request);
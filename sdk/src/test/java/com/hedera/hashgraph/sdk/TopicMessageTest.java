@@ -0,0 +1,77 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.ConsensusMessageChunkInfo;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Instant;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopicMessageTest {
+    private static final TransactionId TRANSACTION_ID =
+        TransactionId.withValidStart(new AccountId(2), Instant.ofEpochSecond(1554158542));
+
+    private static ConsensusTopicResponse response(String contents, int number, int total) {
+        var builder = ConsensusTopicResponse.newBuilder()
+            .setConsensusTimestamp(Timestamp.newBuilder().setSeconds(1554158600).setNanos(number))
+            .setMessage(ByteString.copyFromUtf8(contents))
+            .setRunningHash(ByteString.copyFrom(new byte[48]))
+            .setSequenceNumber(100 + number);
+
+        if (total > 1) {
+            builder.setChunkInfo(ConsensusMessageChunkInfo.newBuilder()
+                .setInitialTransactionID(TRANSACTION_ID.toProtobuf())
+                .setNumber(number)
+                .setTotal(total));
+        }
+
+        return builder.build();
+    }
+
+    @Test
+    void singleChunkContents() {
+        var message = TopicMessage.ofSingle(response("hello", 1, 1));
+
+        assertThat(message.getContentsByteString().toStringUtf8()).isEqualTo("hello");
+        assertThat(message.getContentsBuffer().isReadOnly()).isTrue();
+        assertThat(StandardCharsets.UTF_8.decode(message.getContentsBuffer()).toString()).isEqualTo("hello");
+        assertThat(message.getContents()).isEqualTo("hello".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void chunkedContentsAreConcatenatedInChunkOrder() {
+        // received out of order
+        var message = TopicMessage.ofMany(List.of(
+            response("world", 3, 3),
+            response("hello ", 1, 3),
+            response("big ", 2, 3)
+        ));
+
+        assertThat(message.getContentsByteString().toStringUtf8()).isEqualTo("hello big world");
+        assertThat(message.getContentsBuffer().isReadOnly()).isTrue();
+        assertThat(message.getContentsBuffer().remaining()).isEqualTo(15);
+        assertThat(message.transactionId).isEqualTo(TRANSACTION_ID);
+        assertThat(message.sequenceNumber).isEqualTo(102);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void contentsArrayIsCreatedOnce() {
+        var message = TopicMessage.ofMany(List.of(response("a", 1, 2), response("b", 2, 2)));
+
+        assertThat(message.getContents()).isSameAs(message.getContents()).isEqualTo(new byte[]{'a', 'b'});
+
+        // the deprecated field is the same array, which also backs the byte string and the buffer
+        assertThat(message.contents).isSameAs(message.getContents());
+
+        message.getContents()[0] = 'c';
+
+        assertThat(message.getContentsByteString().toStringUtf8()).isEqualTo("cb");
+        assertThat(message.getContentsBuffer().get(0)).isEqualTo((byte) 'c');
+    }
+}
@@ -0,0 +1,258 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.primitives.Longs;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.ConsensusMessageChunkInfo;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicQuery;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.threeten.bp.Duration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class TopicSubscriptionManagerTest {
+    private static final int MESSAGES = 50;
+
+    private final MirrorStub mirrorA = new MirrorStub();
+    private final MirrorStub mirrorB = new MirrorStub();
+    private final List<Throwable> errors = new CopyOnWriteArrayList<>();
+    private Client client;
+    private Server serverA;
+    private Server serverB;
+
+    @BeforeEach
+    void setup() throws Exception {
+        serverA = InProcessServerBuilder.forName("manager-a").addService(mirrorA).directExecutor().build().start();
+        serverB = InProcessServerBuilder.forName("manager-b").addService(mirrorB).directExecutor().build().start();
+
+        client = Client.forNetwork(Collections.emptyMap());
+        client.setMirrorNetwork(List.of("in-process:manager-a", "in-process:manager-b"));
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        client.close();
+        serverA.shutdownNow();
+        serverB.shutdownNow();
+        serverA.awaitTermination();
+        serverB.awaitTermination();
+    }
+
+    private TopicMessageQuery query(long topicNum) {
+        return new TopicMessageQuery()
+            .setTopicId(new TopicId(topicNum))
+            .setMaxBackoff(Duration.ofMillis(500))
+            .setErrorHandler((error, message) -> errors.add(error));
+    }
+
+    private static void await(BooleanSupplier condition) {
+        while (!condition.getAsBoolean()) {
+            Uninterruptibles.sleepUninterruptibly(10, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        var manager = client.getTopicSubscriptionManager();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> manager.setDispatchParallelism(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> manager.setMaxRetriesPerSecond(0));
+
+        manager.subscribe(query(1000), message -> {
+        });
+
+        assertThatIllegalStateException().isThrownBy(() -> manager.setDispatchParallelism(2));
+    }
+
+    @Test
+    @Timeout(10)
+    void spreadsStreamsAcrossMirrorNodes() {
+        var manager = client.getTopicSubscriptionManager();
+        var handles = new ArrayList<SubscriptionHandle>();
+
+        for (var i = 0; i < 6; i++) {
+            handles.add(manager.subscribe(query(1000 + i), message -> {
+            }));
+        }
+
+        assertThat(manager.getSubscriptionCount()).isEqualTo(6);
+        assertThat(manager.getStreamCounts())
+            .containsEntry("in-process:manager-a", 3)
+            .containsEntry("in-process:manager-b", 3);
+
+        for (var handle : handles) {
+            handle.unsubscribe();
+        }
+
+        assertThat(manager.getSubscriptionCount()).isEqualTo(0);
+
+        // the cancelled calls are closed asynchronously
+        await(() -> manager.getStreamCounts().values().stream().allMatch(count -> count == 0));
+    }
+
+    @Test
+    @Timeout(10)
+    void deliversEachTopicInOrder() {
+        var manager = client.getTopicSubscriptionManager().setDispatchParallelism(2);
+        var received = new ConcurrentHashMap<Long, List<Long>>();
+
+        for (var i = 0; i < 4; i++) {
+            var topicNum = 1000L + i;
+            var sequenceNumbers = new CopyOnWriteArrayList<Long>();
+            received.put(topicNum, sequenceNumbers);
+
+            manager.subscribe(query(topicNum), message -> {
+                // give the dispatch threads a chance to interleave
+                Thread.yield();
+                sequenceNumbers.add(message.sequenceNumber);
+            });
+        }
+
+        await(() -> manager.getDeliveredMessageCount() == 4 * MESSAGES);
+
+        for (var sequenceNumbers : received.values()) {
+            assertThat(sequenceNumbers).hasSize(MESSAGES).isSorted();
+        }
+
+        assertThat(manager.getQueuedMessageCount()).isEqualTo(0);
+        assertThat(errors).isEmpty();
+    }
+
+    @Test
+    @Timeout(10)
+    void movesStreamsOffFailedMirrorNode() {
+        mirrorA.fail = true;
+
+        var manager = client.getTopicSubscriptionManager();
+
+        manager.subscribe(query(1000), message -> {
+        });
+        manager.subscribe(query(1001), message -> {
+        });
+
+        // one stream lands on each node, and the one on the failed node moves over
+        await(() -> mirrorB.open.size() == 2);
+
+        assertThat(mirrorA.calls.get()).isEqualTo(1);
+        assertThat(manager.getRetryCount()).isEqualTo(1);
+        assertThat(manager.getStreamCounts())
+            .containsEntry("in-process:manager-a", 0)
+            .containsEntry("in-process:manager-b", 2);
+        assertThat(errors).isEmpty();
+    }
+
+    @Test
+    @Timeout(10)
+    void reportsEvictionsOnDispatchThread() {
+        mirrorA.chunked = true;
+        mirrorB.chunked = true;
+
+        var manager = client.getTopicSubscriptionManager();
+        var threads = new CopyOnWriteArrayList<String>();
+
+        manager.subscribe(query(1000).setMaxPendingMessages(1).setErrorHandler((error, message) -> {
+            threads.add(Thread.currentThread().getName());
+            errors.add(error);
+        }), message -> {
+        });
+
+        await(() -> !errors.isEmpty());
+
+        assertThat(errors).singleElement().isInstanceOf(TopicMessageEvictedException.class);
+        assertThat(threads).hasSize(1);
+        assertThat(threads.get(0)).startsWith("hedera-sdk-topic-");
+    }
+
+    @Test
+    @Timeout(10)
+    void closingTheClientUnsubscribes() throws Exception {
+        var manager = client.getTopicSubscriptionManager();
+
+        manager.subscribe(query(1000), message -> {
+        });
+
+        client.close();
+
+        assertThat(manager.getSubscriptionCount()).isEqualTo(0);
+        assertThatIllegalStateException().isThrownBy(() -> manager.subscribe(query(1000), message -> {
+        }));
+
+        // the client creates a new manager once it is used again
+        assertThat(client.getTopicSubscriptionManager()).isNotSameAs(manager);
+    }
+
+    private static final class MirrorStub extends ConsensusServiceGrpc.ConsensusServiceImplBase {
+        final AtomicInteger calls = new AtomicInteger();
+        final List<StreamObserver<ConsensusTopicResponse>> open = new CopyOnWriteArrayList<>();
+        volatile boolean fail = false;
+        // send the first of two chunks of two messages, so the first is evicted with one pending message allowed
+        volatile boolean chunked = false;
+
+        @Override
+        public void subscribeTopic(ConsensusTopicQuery query, StreamObserver<ConsensusTopicResponse> responseObserver) {
+            calls.incrementAndGet();
+
+            if (fail) {
+                responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+                return;
+            }
+
+            if (chunked) {
+                for (var i = 1; i <= 2; i++) {
+                    responseObserver.onNext(ConsensusTopicResponse.newBuilder()
+                        .setConsensusTimestamp(Timestamp.newBuilder().setSeconds(i))
+                        .setSequenceNumber(i)
+                        .setMessage(ByteString.copyFrom(Longs.toByteArray(i)))
+                        .setRunningHash(ByteString.copyFrom(Longs.toByteArray(i)))
+                        .setChunkInfo(ConsensusMessageChunkInfo.newBuilder()
+                            .setInitialTransactionID(TransactionID.newBuilder()
+                                .setAccountID(AccountID.newBuilder().setAccountNum(i))
+                                .setTransactionValidStart(Timestamp.newBuilder().setSeconds(i)))
+                            .setNumber(1)
+                            .setTotal(2))
+                        .build());
+                }
+
+                open.add(responseObserver);
+                return;
+            }
+
+            for (var i = 1; i <= MESSAGES; i++) {
+                var message = ByteString.copyFrom(Longs.toByteArray(i));
+
+                responseObserver.onNext(ConsensusTopicResponse.newBuilder()
+                    .setConsensusTimestamp(Timestamp.newBuilder().setSeconds(i))
+                    .setSequenceNumber(i)
+                    .setMessage(message)
+                    .setRunningHash(message)
+                    .build());
+            }
+
+            // the stream stays open, as for a topic that has no more messages yet
+            open.add(responseObserver);
+        }
+    }
+}
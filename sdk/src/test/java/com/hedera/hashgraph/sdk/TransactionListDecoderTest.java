@@ -0,0 +1,134 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionList;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Instant;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class TransactionListDecoderTest {
+    private static final byte[] CONTENTS = new byte[1024 * 2 + 100];
+
+    static {
+        Arrays.fill(CONTENTS, 0, 1024, (byte) 1);
+        Arrays.fill(CONTENTS, 1024, 1024 * 2, (byte) 2);
+        Arrays.fill(CONTENTS, 1024 * 2, CONTENTS.length, (byte) 3);
+    }
+
+    private static byte[] signedFileAppend() {
+        return new FileAppendTransaction()
+            .setNodeAccountIds(Arrays.asList(new AccountId(3), new AccountId(4), new AccountId(5)))
+            .setTransactionId(TransactionId.withValidStart(new AccountId(2), Instant.ofEpochSecond(1554158542)))
+            .setFileId(new FileId(1000))
+            .setContents(CONTENTS)
+            .setTransactionMemo("bundle")
+            .freeze()
+            .sign(PrivateKey.generate())
+            .toBytes();
+    }
+
+    // Rewrites the body of one entry of a serialized transaction list
+    private static byte[] withBody(byte[] bytes, int index, UnaryOperator<TransactionBody> change) throws InvalidProtocolBufferException {
+        var list = TransactionList.parseFrom(bytes).toBuilder();
+        var entry = list.getTransactionList(index);
+        var signed = SignedTransaction.parseFrom(entry.getSignedTransactionBytes());
+        var body = change.apply(TransactionBody.parseFrom(signed.getBodyBytes()));
+
+        list.setTransactionList(index, entry.toBuilder()
+            .setSignedTransactionBytes(signed.toBuilder().setBodyBytes(body.toByteString()).build().toByteString()));
+
+        return list.build().toByteArray();
+    }
+
+    private static void assertDecoded(Transaction<?> transaction, byte[] bytes) {
+        assertThat(transaction).isInstanceOf(FileAppendTransaction.class);
+
+        var fileAppend = (FileAppendTransaction) transaction;
+
+        assertThat(fileAppend.getContents().toByteArray()).isEqualTo(CONTENTS);
+        assertThat(fileAppend.getFileId()).isEqualTo(new FileId(1000));
+        assertThat(fileAppend.getTransactionMemo()).isEqualTo("bundle");
+        assertThat(fileAppend.getNodeAccountIds())
+            .containsExactly(new AccountId(3), new AccountId(4), new AccountId(5));
+        assertThat(fileAppend.toBytes()).isEqualTo(bytes);
+    }
+
+    @Test
+    void decodesChunkedTransactionFromEachSource() throws Exception {
+        var bytes = signedFileAppend();
+
+        assertDecoded(Transaction.fromBytes(bytes), bytes);
+        assertDecoded(Transaction.fromBytes(ByteBuffer.wrap(bytes)), bytes);
+
+        var direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).rewind();
+
+        assertDecoded(Transaction.fromBytes(direct), bytes);
+        assertDecoded(Transaction.fromStream(new ByteArrayInputStream(bytes)), bytes);
+    }
+
+    @Test
+    void decodesSingleTransaction() throws Exception {
+        var bytes = signedFileAppend();
+        var single = TransactionList.parseFrom(bytes).getTransactionList(0).toByteArray();
+
+        var transaction = (FileAppendTransaction) Transaction.fromBytes(single);
+
+        assertThat(transaction.getNodeAccountIds()).containsExactly(new AccountId(3));
+        assertThat(transaction.getContents().toByteArray()).isEqualTo(Arrays.copyOf(CONTENTS, 1024));
+    }
+
+    @Test
+    void rejectsBodiesWhichDifferBeyondTheNode() throws Exception {
+        var bytes = withBody(signedFileAppend(), 1, body -> body.toBuilder().setMemo("changed").build());
+
+        assertThatExceptionOfType(InvalidProtocolBufferException.class)
+            .isThrownBy(() -> Transaction.fromBytes(bytes))
+            .withMessageContaining("differ in more than the node account ID");
+    }
+
+    @Test
+    void rejectsDuplicateNodes() throws Exception {
+        var bytes = withBody(signedFileAppend(), 1, body -> body.toBuilder()
+            .setNodeAccountID(new AccountId(3).toProtobuf())
+            .build());
+
+        assertThatExceptionOfType(InvalidProtocolBufferException.class)
+            .isThrownBy(() -> Transaction.fromBytes(bytes))
+            .withMessageContaining("listed twice for node 0.0.3");
+    }
+
+    @Test
+    void rejectsTransactionsForDifferentNodes() throws Exception {
+        var list = TransactionList.parseFrom(signedFileAppend()).toBuilder();
+
+        // the last chunk is missing its entry for node 0.0.5
+        list.removeTransactionList(list.getTransactionListCount() - 1);
+
+        var bytes = list.build().toByteArray();
+
+        assertThatExceptionOfType(InvalidProtocolBufferException.class)
+            .isThrownBy(() -> Transaction.fromBytes(bytes))
+            .withMessageContaining("is for nodes");
+    }
+
+    @Test
+    void rejectsMixedTransactionTypes() throws Exception {
+        var bytes = withBody(signedFileAppend(), 3, body -> body.toBuilder()
+            .setFileDelete(new FileDeleteTransaction().setFileId(new FileId(1000)).build())
+            .build());
+
+        assertThatExceptionOfType(InvalidProtocolBufferException.class)
+            .isThrownBy(() -> Transaction.fromBytes(bytes))
+            .withMessageContaining("mixes FILEAPPEND and FILEDELETE");
+    }
+}
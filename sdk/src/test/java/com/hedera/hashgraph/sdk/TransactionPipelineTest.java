@@ -0,0 +1,216 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.Query;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionGetReceiptResponse;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class TransactionPipelineTest {
+    private final ScheduledExecutorService responder = Executors.newSingleThreadScheduledExecutor();
+    private final CryptoServiceStub cryptoService = new CryptoServiceStub();
+    private Client client;
+    private Server server;
+
+    @BeforeEach
+    void setup() throws Exception {
+        server = InProcessServerBuilder.forName("pipeline-test")
+            .addService(cryptoService)
+            .directExecutor()
+            .build()
+            .start();
+
+        client = Client.forNetwork(Map.of("in-process:pipeline-test", new AccountId(3)))
+            .setOperator(new AccountId(2), PrivateKey.generate());
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        client.close();
+        server.shutdown();
+        server.awaitTermination();
+        responder.shutdownNow();
+    }
+
+    private static List<TransferTransaction> transfers(int count) {
+        var transactions = new ArrayList<TransferTransaction>(count);
+
+        for (var i = 0; i < count; i++) {
+            transactions.add(new TransferTransaction()
+                .addHbarTransfer(new AccountId(2), Hbar.fromTinybars(-1))
+                .addHbarTransfer(new AccountId(1000 + i), Hbar.fromTinybars(1)));
+        }
+
+        return transactions;
+    }
+
+    @Test
+    void rejectsInvalidLimits() {
+        var pipeline = new TransactionPipeline(client);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> pipeline.setMaxInFlight(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> pipeline.setMaxInFlightPerNode(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> pipeline.setMaxReceiptsInFlight(0));
+    }
+
+    @Test
+    @Timeout(10)
+    void submitsAllWithinGlobalLimit() {
+        var results = new ConcurrentLinkedQueue<TransactionPipeline.Result>();
+
+        new TransactionPipeline(client)
+            .setMaxInFlight(4)
+            .submitAllAsync(transfers(50), results::add)
+            .join();
+
+        assertThat(results).hasSize(50).allMatch(TransactionPipeline.Result::isSuccess);
+        assertThat(results).allMatch(result -> result.receipt == null);
+        assertThat(cryptoService.transfers.get()).isEqualTo(50);
+        assertThat(cryptoService.maxConcurrent.get()).isBetween(1, 4);
+    }
+
+    @Test
+    @Timeout(10)
+    void submitsWithinPerNodeLimit() {
+        var results = new ConcurrentLinkedQueue<TransactionPipeline.Result>();
+
+        new TransactionPipeline(client)
+            .setMaxInFlight(10)
+            .setMaxInFlightPerNode(2)
+            .submitAllAsync(transfers(20), results::add)
+            .join();
+
+        assertThat(results).hasSize(20).allMatch(TransactionPipeline.Result::isSuccess);
+        assertThat(cryptoService.maxConcurrent.get()).isBetween(1, 2);
+    }
+
+    @Test
+    @Timeout(10)
+    void fetchesReceipts() {
+        var results = new ConcurrentLinkedQueue<TransactionPipeline.Result>();
+
+        new TransactionPipeline(client)
+            .setFetchReceipts(true)
+            .setMaxReceiptsInFlight(3)
+            .submitAllAsync(transfers(20), results::add)
+            .join();
+
+        assertThat(results).hasSize(20).allMatch(TransactionPipeline.Result::isSuccess);
+        assertThat(results).allMatch(result -> result.receipt != null && result.receipt.status == Status.SUCCESS);
+        assertThat(cryptoService.receipts.get()).isEqualTo(20);
+    }
+
+    @Test
+    @Timeout(10)
+    void reportsFailuresWithoutStopping() {
+        var transactions = transfers(5);
+
+        // a node which is not part of the client's network
+        transactions.get(2).setNodeAccountIds(Collections.singletonList(new AccountId(99)));
+
+        var results = new ConcurrentLinkedQueue<TransactionPipeline.Result>();
+
+        new TransactionPipeline(client)
+            .submitAllAsync(transactions, results::add)
+            .join();
+
+        assertThat(results).hasSize(5);
+        assertThat(results).filteredOn(result -> !result.isSuccess())
+            .singleElement()
+            .satisfies(result -> {
+                assertThat(result.transaction).isSameAs(transactions.get(2));
+                assertThat(result.response).isNull();
+                assertThat(result.error).isInstanceOf(IllegalStateException.class);
+            });
+    }
+
+    @Test
+    @Timeout(10)
+    void reportsFrozenTransactionWithoutNodes() throws Exception {
+        // a transaction for node 0.0.0 comes back from bytes frozen and without node account IDs
+        var bytes = new TransferTransaction()
+            .addHbarTransfer(new AccountId(2), Hbar.fromTinybars(-1))
+            .addHbarTransfer(new AccountId(1000), Hbar.fromTinybars(1))
+            .setNodeAccountIds(Collections.singletonList(new AccountId(0)))
+            .setTransactionId(TransactionId.generate(new AccountId(2)))
+            .freeze()
+            .toBytes();
+
+        var restored = com.hedera.hashgraph.sdk.Transaction.fromBytes(bytes);
+        var transactions = new ArrayList<com.hedera.hashgraph.sdk.Transaction<?>>(transfers(3));
+        transactions.add(1, restored);
+
+        var results = new ConcurrentLinkedQueue<TransactionPipeline.Result>();
+
+        new TransactionPipeline(client)
+            .submitAllAsync(transactions, results::add)
+            .join();
+
+        assertThat(results).hasSize(4);
+        assertThat(results).filteredOn(result -> !result.isSuccess())
+            .singleElement()
+            .satisfies(result -> {
+                assertThat(result.transaction).isSameAs(restored);
+                assertThat(result.error).isInstanceOf(IllegalStateException.class);
+            });
+    }
+
+    private final class CryptoServiceStub extends CryptoServiceGrpc.CryptoServiceImplBase {
+        final AtomicInteger transfers = new AtomicInteger();
+        final AtomicInteger receipts = new AtomicInteger();
+        final AtomicInteger concurrent = new AtomicInteger();
+        final AtomicInteger maxConcurrent = new AtomicInteger();
+
+        @Override
+        public void cryptoTransfer(Transaction request, StreamObserver<com.hedera.hashgraph.sdk.proto.TransactionResponse> responseObserver) {
+            var current = concurrent.incrementAndGet();
+            maxConcurrent.accumulateAndGet(current, Math::max);
+
+            // answer later so that requests overlap
+            responder.schedule(() -> {
+                transfers.incrementAndGet();
+                concurrent.decrementAndGet();
+
+                responseObserver.onNext(com.hedera.hashgraph.sdk.proto.TransactionResponse.newBuilder()
+                    .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+                    .build());
+                responseObserver.onCompleted();
+            }, 5, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void getTransactionReceipts(Query request, StreamObserver<Response> responseObserver) {
+            receipts.incrementAndGet();
+
+            responseObserver.onNext(Response.newBuilder()
+                .setTransactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                    .setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                    .setReceipt(com.hedera.hashgraph.sdk.proto.TransactionReceipt.newBuilder()
+                        .setStatus(ResponseCodeEnum.SUCCESS)))
+                .build());
+            responseObserver.onCompleted();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionList;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Instant;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class TransactionSigningBatchTest {
+    private static final List<AccountId> NODES = Arrays.asList(new AccountId(3), new AccountId(4));
+    private static final PrivateKey KEY = PrivateKey.generate();
+
+    private static FileAppendTransaction fileAppend() {
+        return new FileAppendTransaction()
+            .setNodeAccountIds(NODES)
+            .setTransactionId(TransactionId.withValidStart(new AccountId(2), Instant.ofEpochSecond(1554158542)))
+            .setFileId(new FileId(1000))
+            .setContents(new byte[1024 * 2 + 1])
+            .freeze();
+    }
+
+    private static TransferTransaction transfer() {
+        return new TransferTransaction()
+            .setNodeAccountIds(NODES)
+            .setTransactionId(TransactionId.withValidStart(new AccountId(2), Instant.ofEpochSecond(1554158600)))
+            .addHbarTransfer(new AccountId(2), Hbar.fromTinybars(-100))
+            .addHbarTransfer(new AccountId(1001), Hbar.fromTinybars(100))
+            .freeze();
+    }
+
+    private static List<byte[]> sign(TransactionSigningBatch batch) {
+        var signatures = new ArrayList<byte[]>(batch.size());
+
+        for (var i = 0; i < batch.size(); i++) {
+            signatures.add(KEY.sign(batch.getBodyBytes(i)));
+        }
+
+        return signatures;
+    }
+
+    @Test
+    void listsEveryChunkAndNode() throws Exception {
+        var batch = new TransactionSigningBatch(Arrays.asList(fileAppend(), transfer()));
+
+        // three chunks for each of two nodes, then one transfer for each of two nodes
+        assertThat(batch.size()).isEqualTo(8);
+        assertThat(batch.getTransactionIndex(5)).isEqualTo(0);
+        assertThat(batch.getChunkIndex(5)).isEqualTo(2);
+        assertThat(batch.getNodeAccountId(5)).isEqualTo(new AccountId(4));
+        assertThat(batch.getTransactionIndex(6)).isEqualTo(1);
+        assertThat(batch.getChunkIndex(6)).isEqualTo(0);
+        assertThat(batch.getNodeAccountId(6)).isEqualTo(new AccountId(3));
+
+        var list = TransactionList.parseFrom(batch.toBytes());
+
+        assertThat(list.getTransactionListCount()).isEqualTo(8);
+
+        for (var i = 0; i < batch.size(); i++) {
+            var bodyBytes = list.getTransactionList(i).getBodyBytes();
+
+            assertThat(bodyBytes.toByteArray()).isEqualTo(batch.getBodyBytes(i));
+            assertThat(AccountId.fromProtobuf(TransactionBody.parseFrom(bodyBytes).getNodeAccountID()))
+                .isEqualTo(batch.getNodeAccountId(i));
+        }
+    }
+
+    @Test
+    void addedSignaturesMatchSigningDirectly() throws Exception {
+        var fileAppend = fileAppend();
+        var transfer = transfer();
+        var batch = new TransactionSigningBatch(Arrays.asList(fileAppend, transfer));
+
+        batch.addSignatures(KEY.getPublicKey(), sign(batch));
+
+        // Ed25519 signatures are deterministic
+        assertThat(fileAppend.toBytes()).isEqualTo(fileAppend().sign(KEY).toBytes());
+        assertThat(transfer.toBytes()).isEqualTo(transfer().sign(KEY).toBytes());
+        assertThat(KEY.getPublicKey().verifyTransaction(Transaction.fromBytes(fileAppend.toBytes()))).isTrue();
+    }
+
+    @Test
+    void keyWhichAlreadySignedIsSkipped() {
+        var transfer = transfer().sign(KEY);
+        var expected = transfer.toBytes();
+        var batch = new TransactionSigningBatch(Collections.singletonList(transfer));
+
+        batch.addSignatures(KEY.getPublicKey(), Collections.nCopies(batch.size(), new byte[64]));
+
+        assertThat(transfer.toBytes()).isEqualTo(expected);
+    }
+
+    @Test
+    void rejectsInvalidUse() {
+        assertThatIllegalStateException()
+            .isThrownBy(() -> new TransactionSigningBatch(Collections.singletonList(new TransferTransaction())));
+
+        var batch = new TransactionSigningBatch(Collections.singletonList(transfer()));
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> batch.addSignatures(KEY.getPublicKey(), Collections.singletonList(new byte[64])))
+            .withMessage("expected 2 signatures but got 1");
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> batch.addSignatures(KEY.getPublicKey(), Arrays.asList(new byte[64], new byte[63])))
+            .withMessage("signature 1 is not 64 bytes");
+    }
+}
@@ -0,0 +1,108 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.AccountAmount;
+import com.hedera.hashgraph.sdk.proto.CryptoTransferTransactionBody;
+import com.hedera.hashgraph.sdk.proto.TokenTransferList;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransferList;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class TransactionTemplateTest {
+    private static final TransactionId TRANSACTION_ID =
+        TransactionId.withValidStart(new AccountId(2), Instant.ofEpochSecond(1554158542));
+    private static final AccountId PAYER = new AccountId(2);
+    private static final AccountId PAYEE = new AccountId(1001);
+    private static final TokenId TOKEN = new TokenId(500);
+
+    private static TransactionTemplate template() {
+        return new TransactionTemplate(new TransferTransaction()
+            .setNodeAccountIds(Arrays.asList(new AccountId(3), new AccountId(4)))
+            .setMaxTransactionFee(new Hbar(2))
+            .setTransactionValidDuration(Duration.ofSeconds(60))
+            // added out of order, and with amounts which the template ignores
+            .addHbarTransfer(PAYEE, Hbar.fromTinybars(7))
+            .addHbarTransfer(PAYER, Hbar.fromTinybars(-7))
+            .addTokenTransfer(TOKEN, PAYER, -5));
+    }
+
+    private static AccountAmount accountAmount(AccountId accountId, long amount) {
+        return AccountAmount.newBuilder().setAccountID(accountId.toProtobuf()).setAmount(amount).build();
+    }
+
+    private static TransactionBody expectedBody(AccountId nodeId, String memo, long payerAmount, long payeeAmount) {
+        return TransactionBody.newBuilder()
+            .setTransactionID(TRANSACTION_ID.toProtobuf())
+            .setNodeAccountID(nodeId.toProtobuf())
+            .setTransactionFee(new Hbar(2).toTinybars())
+            .setTransactionValidDuration(DurationConverter.toProtobuf(Duration.ofSeconds(60)))
+            .setMemo(memo)
+            .setCryptoTransfer(CryptoTransferTransactionBody.newBuilder()
+                .setTransfers(TransferList.newBuilder()
+                    .addAccountAmounts(accountAmount(PAYER, payerAmount))
+                    .addAccountAmounts(accountAmount(PAYEE, payeeAmount)))
+                .addTokenTransfers(TokenTransferList.newBuilder()
+                    .setToken(TOKEN.toProtobuf())
+                    .addTransfers(accountAmount(PAYER, -5))))
+            .build();
+    }
+
+    @Test
+    void bodiesMatchSerializedBody() {
+        var template = template();
+
+        assertThat(template.getHbarAccountIds()).containsExactly(PAYER, PAYEE);
+
+        for (var amount : new long[]{1, 100, -1L << 40, Long.MAX_VALUE, 0}) {
+            for (var memo : Arrays.asList("", "invoice 1234")) {
+                var transfer = template.newTransfer(TRANSACTION_ID, memo, -amount, amount);
+
+                for (var i = 0; i < 2; i++) {
+                    var nodeId = template.getNodeAccountIds().get(i);
+
+                    assertThat(transfer.innerSignedTransactions.get(i).getBodyBytes())
+                        .isEqualTo(expectedBody(nodeId, memo, -amount, amount).toByteString());
+                }
+            }
+        }
+    }
+
+    @Test
+    void transferIsFrozenWithTemplateFields() throws Exception {
+        var key = PrivateKey.generate();
+        var transfer = template().newTransfer(TRANSACTION_ID, "memo", -100, 100).sign(key);
+
+        assertThat(transfer.getTransactionId()).isEqualTo(TRANSACTION_ID);
+        assertThat(transfer.getTransactionMemo()).isEqualTo("memo");
+        assertThat(transfer.getMaxTransactionFee()).isEqualTo(new Hbar(2));
+        assertThat(transfer.getTransactionValidDuration()).isEqualTo(Duration.ofSeconds(60));
+        assertThat(transfer.getNodeAccountIds()).containsExactly(new AccountId(3), new AccountId(4));
+        assertThat(transfer.getHbarTransfers())
+            .isEqualTo(Map.of(PAYER, Hbar.fromTinybars(-100), PAYEE, Hbar.fromTinybars(100)));
+        assertThat(transfer.getTokenTransfers()).isEqualTo(Map.of(TOKEN, Map.of(PAYER, -5L)));
+
+        var parsed = (TransferTransaction) Transaction.fromBytes(transfer.toBytes());
+
+        assertThat(parsed.getHbarTransfers()).isEqualTo(transfer.getHbarTransfers());
+        assertThat(parsed.getTransactionMemo()).isEqualTo("memo");
+        assertThat(key.getPublicKey().verifyTransaction(parsed)).isTrue();
+    }
+
+    @Test
+    void rejectsInvalidUse() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new TransactionTemplate(new TransferTransaction().addHbarTransfer(PAYER, Hbar.ZERO)))
+            .withMessage("prototype must have node account IDs set");
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> template().newTransfer(TRANSACTION_ID, "", 100))
+            .withMessage("expected 2 amounts but got 1");
+    }
+}
@@ -3,8 +3,15 @@ package com.hedera.hashgraph.sdk;
 import com.google.protobuf.InvalidProtocolBufferException;
 import org.bouncycastle.util.encoders.Hex;
 import org.junit.jupiter.api.Test;
+import org.threeten.bp.Instant;
 
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TransactionTest {
     @Test
@@ -16,4 +23,64 @@ public class TransactionTest {
         assertEquals(new Hbar(1).negated(), transaction.getHbarTransfers().get(new AccountId(476260)));
         assertEquals(new Hbar(1), transaction.getHbarTransfers().get(new AccountId(476267)));
     }
+
+    private static FileAppendTransaction signedFileAppend(boolean parallelBuild, List<PrivateKey> keys) {
+        var transaction = new FileAppendTransaction()
+            .setNodeAccountIds(Arrays.asList(new AccountId(3), new AccountId(4), new AccountId(5)))
+            .setTransactionId(TransactionId.withValidStart(new AccountId(2), Instant.ofEpochSecond(1554158542)))
+            .setFileId(new FileId(1000))
+            .setContents(new byte[4096 * 3])
+            .setParallelBuild(parallelBuild)
+            .freeze();
+
+        for (var key : keys) {
+            transaction.sign(key);
+        }
+
+        return transaction;
+    }
+
+    @Test
+    void parallelBuildMatchesSerialBuild() {
+        var keys = Arrays.asList(PrivateKey.generate(), PrivateKey.generate(), PrivateKey.generate());
+
+        var serial = signedFileAppend(false, keys);
+        var parallel = signedFileAppend(true, keys);
+
+        assertTrue(parallel.isParallelBuild());
+        assertArrayEquals(serial.toBytes(), parallel.toBytes());
+
+        // signing again after a build only adds the new signature
+        var extra = PrivateKey.generate();
+        serial.sign(extra);
+        parallel.sign(extra);
+
+        assertArrayEquals(serial.toBytes(), parallel.toBytes());
+
+        var signatures = parallel.getAllSignatures();
+        assertEquals(12, signatures.size());
+        assertEquals(4, signatures.get(11).get(new AccountId(5)).size());
+    }
+
+    @Test
+    void transactionHashIsCachedUntilSignedAgain() {
+        var transaction = new TransferTransaction()
+            .setNodeAccountIds(Arrays.asList(new AccountId(3), new AccountId(4)))
+            .setTransactionId(TransactionId.withValidStart(new AccountId(2), Instant.ofEpochSecond(1554158542)))
+            .addHbarTransfer(new AccountId(2), Hbar.fromTinybars(-1))
+            .addHbarTransfer(new AccountId(1000), Hbar.fromTinybars(1))
+            .freeze()
+            .sign(PrivateKey.generate());
+
+        var hash = transaction.getTransactionHash();
+        var hashes = transaction.getTransactionHashPerNode();
+
+        // callers receive copies of the cached hash
+        hash[0] ^= 1;
+        assertArrayEquals(hashes.get(new AccountId(3)), transaction.getTransactionHash());
+
+        transaction.sign(PrivateKey.generate());
+
+        assertFalse(Arrays.equals(hashes.get(new AccountId(4)), transaction.getTransactionHashPerNode().get(new AccountId(4))));
+    }
 }